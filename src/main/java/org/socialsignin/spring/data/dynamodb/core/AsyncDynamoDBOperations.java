@@ -0,0 +1,91 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import org.springframework.lang.Nullable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link DynamoDBOperations}. No thread is held
+ * while a request is in flight; the returned futures complete on the threads of
+ * the underlying asynchronous HTTP client.
+ */
+public interface AsyncDynamoDBOperations {
+
+	<T> CompletableFuture<Integer> count(Class<T> clazz, QueryRequest queryRequest);
+
+	<T, ID> CompletableFuture<Integer> count(Class<T> clazz, ScanRequest scanRequest, DynamoDBEntityInformation<T, ID> entityInformation);
+
+	<T, ID> PagePublisher<T> query(Class<T> clazz, QueryEnhancedRequest queryRequest, DynamoDBEntityInformation<T, ID> entityInformation);
+
+	/**
+	 * Queries a secondary index of the table, or the table itself if no index
+	 * name is given.
+	 */
+	<T, ID> PagePublisher<T> query(Class<T> clazz, @Nullable String indexName, QueryEnhancedRequest queryRequest, DynamoDBEntityInformation<T, ID> entityInformation);
+
+	<T, ID> PagePublisher<T> scan(Class<T> clazz, ScanEnhancedRequest scanRequest, DynamoDBEntityInformation<T, ID> entityInformation);
+
+	<T, ID> CompletableFuture<T> load(Class<T> domainClass, Object hashKey, Object rangeKey, DynamoDBEntityInformation<T, ID> entityInformation);
+	<T, ID> CompletableFuture<T> load(Class<T> domainClass, Object hashKey, DynamoDBEntityInformation<T, ID> entityInformation);
+	<T, ID> CompletableFuture<List<T>> batchLoad(Map<Class<?>, List<Key>> itemsToGet, DynamoDBEntityInformation<T, ID> entityInformation);
+
+	/**
+	 * Checks whether an item with the given primary key exists. Only the key
+	 * attributes of the item are read.
+	 *
+	 * @see DynamoDBOperations#exists(Key, DynamoDBEntityInformation)
+	 */
+	<T, ID> CompletableFuture<Boolean> exists(Key key, DynamoDBEntityInformation<T, ID> entityInformation);
+
+	/**
+	 * Checks whether the query matches at least one item. The query is sent with
+	 * {@link software.amazon.awssdk.services.dynamodb.model.Select#COUNT} and
+	 * further pages are only requested until the first match.
+	 */
+	<T> CompletableFuture<Boolean> exists(Class<T> clazz, QueryRequest queryRequest);
+
+	<T, ID> CompletableFuture<T> save(T entity, DynamoDBEntityInformation<T, ID> entityInformation);
+	<T, S, ID> CompletableFuture<BatchWriteResult> batchSave(Iterable<S> entities, DynamoDBEntityInformation<T, ID> entityInformation);
+
+	<T, ID> CompletableFuture<T> delete(T entity, DynamoDBEntityInformation<T, ID> entityInformation);
+	<T, ID> CompletableFuture<T> deleteByKey(Key key, boolean mustExist, DynamoDBEntityInformation<T, ID> entityInformation);
+	<T, S, ID> CompletableFuture<BatchWriteResult> batchDelete(Iterable<S> entities, DynamoDBEntityInformation<T, ID> entityInformation);
+	<T, ID> CompletableFuture<BatchWriteResult> batchDeleteByKeys(List<Key> keys, DynamoDBEntityInformation<T, ID> entityInformation);
+
+	/**
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param entityInformation
+	 *            the entity to resolve the table of
+	 * @return the asynchronous table handle of the entity, sharing the table name
+	 *         and schema of {@link DynamoDBEntityInformation#getTable()}
+	 */
+	<T, ID> DynamoDbAsyncTable<T> getDynamoDbAsyncTable(DynamoDBEntityInformation<T, ID> entityInformation);
+
+}
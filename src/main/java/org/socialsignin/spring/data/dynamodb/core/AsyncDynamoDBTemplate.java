@@ -0,0 +1,465 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.socialsignin.spring.data.dynamodb.exception.BatchLoadException;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterDeleteEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterLoadEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterSaveEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeDeleteEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.BeforeSaveEvent;
+import org.socialsignin.spring.data.dynamodb.mapping.event.DynamoDBMappingEvent;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import org.socialsignin.spring.data.dynamodb.utils.AttributeValueUtil;
+import org.springframework.beans.BeansException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * {@link AsyncDynamoDBOperations} backed by the {@link DynamoDbAsyncClient} and
+ * the {@link DynamoDbEnhancedAsyncClient}. The HTTP client, e.g. the Netty or
+ * the CRT based one, is chosen when building the {@link DynamoDbAsyncClient}.
+ *
+ * Batch operations are split and retried like in {@link DynamoDBTemplate}, with
+ * the backoff between retries scheduled instead of slept.
+ */
+public class AsyncDynamoDBTemplate implements AsyncDynamoDBOperations, ApplicationContextAware {
+
+	private final DynamoDbAsyncClient amazonDynamoDB;
+	private final DynamoDbEnhancedAsyncClient dynamoDBMapper;
+	private ApplicationEventPublisher eventPublisher;
+
+	private final Map<DynamoDbTable<?>, DynamoDbAsyncTable<?>> tables = new ConcurrentHashMap<>();
+
+	private int maxConcurrentBatches = DynamoDBTemplate.DEFAULT_MAX_CONCURRENT_BATCHES;
+	private BatchRetryPolicy batchRetryPolicy = BatchRetryPolicy.DEFAULT;
+	private final BatchRetryMetrics batchRetryMetrics = new BatchRetryMetrics();
+	@Nullable
+	private volatile DynamoDBTemplate cachingTemplate;
+
+	public AsyncDynamoDBTemplate(DynamoDbAsyncClient amazonDynamoDB, DynamoDbEnhancedAsyncClient dynamoDBMapper) {
+		Assert.notNull(amazonDynamoDB, "amazonDynamoDB must not be null!");
+		Assert.notNull(dynamoDBMapper, "dynamoDBMapper must not be null!");
+		this.amazonDynamoDB = amazonDynamoDB;
+		this.dynamoDBMapper = dynamoDBMapper;
+	}
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+		this.eventPublisher = applicationContext;
+	}
+
+	private Key getKey(Object hashKey, Object rangeKey) {
+		return Key.builder().partitionValue(AttributeValueUtil.toAttributeValue(hashKey))
+				.sortValue(AttributeValueUtil.toAttributeValue(rangeKey)).build();
+	}
+
+	private Key getKey(Object hashKey) {
+		return Key.builder().partitionValue(AttributeValueUtil.toAttributeValue(hashKey)).build();
+	}
+
+	@Override
+	public <T, ID> CompletableFuture<T> load(Class<T> domainClass, Object hashKey, Object rangeKey, DynamoDBEntityInformation<T, ID> entityInformation) {
+		return getDynamoDbAsyncTable(entityInformation).getItem(getKey(hashKey, rangeKey)).thenApply(item -> {
+			maybeEmitEvent(item, AfterLoadEvent::new);
+			return item;
+		});
+	}
+
+	@Override
+	public <T, ID> CompletableFuture<T> load(Class<T> domainClass, Object hashKey, DynamoDBEntityInformation<T, ID> entityInformation) {
+		return getDynamoDbAsyncTable(entityInformation).getItem(getKey(hashKey)).thenApply(item -> {
+			maybeEmitEvent(item, AfterLoadEvent::new);
+			return item;
+		});
+	}
+
+	@Override
+	public <T, ID> CompletableFuture<Boolean> exists(Key key, DynamoDBEntityInformation<T, ID> entityInformation) {
+		DynamoDbAsyncTable<T> table = getDynamoDbAsyncTable(entityInformation);
+
+		// Project the key attributes only, the item itself is never needed
+		Map<String, AttributeValue> keyMap = key.primaryKeyMap(table.tableSchema());
+		Map<String, String> names = new HashMap<>();
+		keyMap.keySet().forEach(attributeName -> names.put("#p" + names.size(), attributeName));
+
+		return amazonDynamoDB.getItem(GetItemRequest.builder().tableName(table.tableName()).key(keyMap)
+				.projectionExpression(String.join(", ", names.keySet())).expressionAttributeNames(names).build())
+				.thenApply(response -> response.hasItem() && !response.item().isEmpty());
+	}
+
+	@Override
+	public <T> CompletableFuture<Boolean> exists(Class<T> clazz, QueryRequest queryRequest) {
+		return existsQuery(queryRequest.toBuilder().select(Select.COUNT).build());
+	}
+
+	private CompletableFuture<Boolean> existsQuery(QueryRequest queryRequest) {
+		// A filter expression can leave pages empty although more items match
+		return amazonDynamoDB.query(queryRequest).thenCompose(response -> {
+			if (response.count() > 0) {
+				return CompletableFuture.completedFuture(true);
+			}
+			if (response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()) {
+				return existsQuery(queryRequest.toBuilder().exclusiveStartKey(response.lastEvaluatedKey()).build());
+			}
+			return CompletableFuture.completedFuture(false);
+		});
+	}
+
+	@Override
+	public <T, ID> CompletableFuture<List<T>> batchLoad(Map<Class<?>, List<Key>> itemsToGet, DynamoDBEntityInformation<T, ID> entityInformation) {
+		DynamoDbAsyncTable<T> table = getDynamoDbAsyncTable(entityInformation);
+		Class<T> type = entityInformation.getJavaType();
+
+		// BatchGetItem rejects requests that contain the same key twice
+		Set<Key> distinctKeys = new LinkedHashSet<>();
+		itemsToGet.values().forEach(distinctKeys::addAll);
+		List<Key> keys = new ArrayList<>(distinctKeys);
+
+		List<T> results = Collections.synchronizedList(new ArrayList<>(keys.size()));
+		long startNanos = System.nanoTime();
+		return BatchSupport.dispatchInChunksAsync(keys, DynamoDBTemplate.MAX_BATCH_GET_SIZE,
+				maxConcurrentBatches,
+				chunk -> BatchSupport.withRetriesAsync(batchRetryPolicy, batchRetryMetrics, chunk, startNanos, pendingKeys -> {
+					ReadBatch.Builder<T> builder = ReadBatch.builder(type).mappedTableResource(table);
+					pendingKeys.forEach(builder::addGetItem);
+					// Only the first page is used, see DynamoDBTemplate#batchLoad
+					AtomicReference<BatchGetResultPage> resultPage = new AtomicReference<>();
+					return dynamoDBMapper
+							.batchGetItem(BatchGetItemEnhancedRequest.builder().readBatches(builder.build()).build())
+							.limit(1).subscribe(resultPage::set).thenApply(done -> {
+								BatchGetResultPage page = resultPage.get();
+								if (page == null) {
+									throw new BatchLoadException("No result page for " + pendingKeys.size()
+											+ " items of " + type, null);
+								}
+								results.addAll(page.resultsForTable(table));
+								return page.unprocessedKeysForTable(table);
+							});
+				})).thenApply(unprocessedKeys -> {
+					if (!unprocessedKeys.isEmpty()) {
+						throw new BatchLoadException("Could not load " + unprocessedKeys.size() + " of "
+								+ keys.size() + " items of " + type, null);
+					}
+					return new ArrayList<>(results);
+				});
+	}
+
+	@Override
+	public <T, ID> CompletableFuture<T> save(T entity, DynamoDBEntityInformation<T, ID> entityInformation) {
+		maybeEmitEvent(entity, BeforeSaveEvent::new);
+		DynamoDbAsyncTable<T> table = getDynamoDbAsyncTable(entityInformation);
+		return table.putItem(entity)
+				.whenComplete((done, throwable) -> invalidateSaved(table, Collections.singletonList(entity)))
+				.thenApply(done -> {
+					maybeEmitEvent(entity, AfterSaveEvent::new);
+					return entity;
+				});
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T, S, ID> CompletableFuture<BatchWriteResult> batchSave(Iterable<S> entities, DynamoDBEntityInformation<T, ID> entityInformation) {
+		entities.forEach(it -> maybeEmitEvent(it, BeforeSaveEvent::new));
+
+		DynamoDbAsyncTable<T> table = getDynamoDbAsyncTable(entityInformation);
+		List<T> items = new ArrayList<>();
+		entities.forEach(it -> items.add((T) it));
+		return batchWrite(table, items, WriteBatch.Builder::addPutItem,
+				batchResult -> batchResult.unprocessedPutItemsForTable(table),
+				item -> WriteRequest.builder()
+						.putRequest(PutRequest.builder().item(table.tableSchema().itemToMap(item, true)).build())
+						.build())
+				.whenComplete((result, throwable) -> invalidateSaved(table, items))
+				.thenApply(result -> {
+					entities.forEach(it -> maybeEmitEvent(it, AfterSaveEvent::new));
+					return result;
+				});
+	}
+
+	@Override
+	public <T, ID> CompletableFuture<T> delete(T entity, DynamoDBEntityInformation<T, ID> entityInformation) {
+		maybeEmitEvent(entity, BeforeDeleteEvent::new);
+		DynamoDbAsyncTable<T> table = getDynamoDbAsyncTable(entityInformation);
+		return table.deleteItem(entity)
+				.whenComplete((deleted, throwable) -> invalidateDeleted(table,
+						() -> Collections.singletonList(table.keyFrom(entity))))
+				.thenApply(deleted -> {
+					maybeEmitEvent(entity, AfterDeleteEvent::new);
+					return entity;
+				});
+	}
+
+	@Override
+	public <T, ID> CompletableFuture<T> deleteByKey(Key key, boolean mustExist, DynamoDBEntityInformation<T, ID> entityInformation) {
+		DynamoDbAsyncTable<T> table = getDynamoDbAsyncTable(entityInformation);
+		DeleteItemEnhancedRequest.Builder request = DeleteItemEnhancedRequest.builder().key(key);
+		if (mustExist) {
+			request.conditionExpression(Expression.builder().expression("attribute_exists(#hashKey)")
+					.putExpressionName("#hashKey", table.tableSchema().tableMetadata().primaryPartitionKey())
+					.build());
+		}
+
+		return table.deleteItem(request.build()).handle((deleted, throwable) -> {
+			invalidateDeleted(table, () -> Collections.singletonList(key));
+			if (throwable != null) {
+				if (unwrap(throwable) instanceof ConditionalCheckFailedException) {
+					throw new EmptyResultDataAccessException(String.format("No %s entity with key %s exists!",
+							entityInformation.getJavaType(), key), 1, unwrap(throwable));
+				}
+				throw throwable instanceof CompletionException
+						? (CompletionException) throwable
+						: new CompletionException(throwable);
+			}
+			maybeEmitEvent(deleted, AfterDeleteEvent::new);
+			return deleted;
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T, S, ID> CompletableFuture<BatchWriteResult> batchDelete(Iterable<S> entities, DynamoDBEntityInformation<T, ID> entityInformation) {
+		entities.forEach(it -> maybeEmitEvent(it, BeforeDeleteEvent::new));
+
+		DynamoDbAsyncTable<T> table = getDynamoDbAsyncTable(entityInformation);
+		List<Key> keys = new ArrayList<>();
+		entities.forEach(it -> keys.add(table.keyFrom((T) it)));
+		return batchDeleteKeys(table, keys).thenApply(result -> {
+			entities.forEach(it -> maybeEmitEvent(it, AfterDeleteEvent::new));
+			return result;
+		});
+	}
+
+	@Override
+	public <T, ID> CompletableFuture<BatchWriteResult> batchDeleteByKeys(List<Key> keys, DynamoDBEntityInformation<T, ID> entityInformation) {
+		// BatchWriteItem rejects requests that contain the same key twice
+		return batchDeleteKeys(getDynamoDbAsyncTable(entityInformation), new ArrayList<>(new LinkedHashSet<>(keys)));
+	}
+
+	private <T> CompletableFuture<BatchWriteResult> batchDeleteKeys(DynamoDbAsyncTable<T> table, List<Key> keys) {
+		return batchWrite(table, keys, WriteBatch.Builder::addDeleteItem,
+				batchResult -> batchResult.unprocessedDeleteItemsForTable(table),
+				key -> WriteRequest.builder()
+						.deleteRequest(DeleteRequest.builder()
+								.key(key.keyMap(table.tableSchema(), TableMetadata.primaryIndexName())).build())
+						.build())
+				.whenComplete((result, throwable) -> invalidateDeleted(table, () -> keys));
+	}
+
+	/**
+	 * Invalidates the caches of the {@link #setCachingTemplate(DynamoDBTemplate)
+	 * caching template} once a write is done, whether it succeeded or not, as a
+	 * failed request may still have been applied.
+	 */
+	private <T> void invalidateSaved(DynamoDbAsyncTable<T> table, List<T> items) {
+		DynamoDBTemplate template = cachingTemplate;
+		if (template != null) {
+			template.invalidateSaved(table.tableName(),
+					items.stream().map(table::keyFrom).collect(Collectors.toList()));
+		}
+	}
+
+	private void invalidateDeleted(DynamoDbAsyncTable<?> table, Supplier<List<Key>> keys) {
+		DynamoDBTemplate template = cachingTemplate;
+		if (template != null) {
+			template.invalidateDeleted(table.tableName(), keys.get());
+		}
+	}
+
+	private <T, E> CompletableFuture<BatchWriteResult> batchWrite(DynamoDbAsyncTable<T> table, List<E> elements,
+			BiConsumer<WriteBatch.Builder<T>, E> addToBatch, Function<BatchWriteResult, List<E>> unprocessed,
+			Function<E, WriteRequest> toWriteRequest) {
+		Class<T> itemClass = table.tableSchema().itemType().rawClass();
+		long startNanos = System.nanoTime();
+
+		return BatchSupport.dispatchInChunksAsync(elements, DynamoDBTemplate.MAX_BATCH_WRITE_SIZE,
+				maxConcurrentBatches,
+				chunk -> BatchSupport.withRetriesAsync(batchRetryPolicy, batchRetryMetrics, chunk, startNanos, pending -> {
+					WriteBatch.Builder<T> builder = WriteBatch.builder(itemClass).mappedTableResource(table);
+					pending.forEach(element -> addToBatch.accept(builder, element));
+					return dynamoDBMapper
+							.batchWriteItem(BatchWriteItemEnhancedRequest.builder().writeBatches(builder.build()).build())
+							.thenApply(unprocessed);
+				})).thenApply(unprocessedElements -> {
+					Map<String, List<WriteRequest>> unprocessedRequests = unprocessedElements.isEmpty()
+							? Collections.emptyMap()
+							: Collections.singletonMap(table.tableName(),
+									unprocessedElements.stream().map(toWriteRequest).collect(Collectors.toList()));
+					return BatchWriteResult.builder().unprocessedRequests(unprocessedRequests).build();
+				});
+	}
+
+	@Override
+	public <T, ID> PagePublisher<T> query(Class<T> clazz, QueryEnhancedRequest queryRequest, DynamoDBEntityInformation<T, ID> entityInformation) {
+		return getDynamoDbAsyncTable(entityInformation).query(queryRequest);
+	}
+
+	@Override
+	public <T, ID> PagePublisher<T> query(Class<T> clazz, @Nullable String indexName, QueryEnhancedRequest queryRequest, DynamoDBEntityInformation<T, ID> entityInformation) {
+		if (indexName == null) {
+			return query(clazz, queryRequest, entityInformation);
+		}
+		return PagePublisher.create(getDynamoDbAsyncTable(entityInformation).index(indexName).query(queryRequest));
+	}
+
+	@Override
+	public <T, ID> PagePublisher<T> scan(Class<T> clazz, ScanEnhancedRequest scanRequest, DynamoDBEntityInformation<T, ID> entityInformation) {
+		return getDynamoDbAsyncTable(entityInformation).scan(scanRequest);
+	}
+
+	@Override
+	public <T> CompletableFuture<Integer> count(Class<T> clazz, QueryRequest queryRequest) {
+		return countQuery(queryRequest.toBuilder().select(Select.COUNT).build(), 0);
+	}
+
+	private CompletableFuture<Integer> countQuery(QueryRequest queryRequest, int countSoFar) {
+		return amazonDynamoDB.query(queryRequest).thenCompose(response -> {
+			int count = countSoFar + response.count();
+			if (response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()) {
+				return countQuery(queryRequest.toBuilder().exclusiveStartKey(response.lastEvaluatedKey()).build(),
+						count);
+			}
+			return CompletableFuture.completedFuture(count);
+		});
+	}
+
+	@Override
+	public <T, ID> CompletableFuture<Integer> count(Class<T> clazz, ScanRequest scanRequest, DynamoDBEntityInformation<T, ID> entityInformation) {
+		return countScan(scanRequest.toBuilder().select(Select.COUNT).build(), 0);
+	}
+
+	private CompletableFuture<Integer> countScan(ScanRequest scanRequest, int countSoFar) {
+		return amazonDynamoDB.scan(scanRequest).thenCompose(response -> {
+			int count = countSoFar + response.count();
+			if (response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()) {
+				return countScan(scanRequest.toBuilder().exclusiveStartKey(response.lastEvaluatedKey()).build(),
+						count);
+			}
+			return CompletableFuture.completedFuture(count);
+		});
+	}
+
+	/**
+	 * Makes writes through this template invalidate the entity, query result and
+	 * missing key caches of the given template, so that its cached reads see
+	 * them. Without a caching template these caches only learn about writes
+	 * through this template once their entries expired.
+	 *
+	 * @param cachingTemplate
+	 *            the template whose caches are invalidated, may be
+	 *            {@literal null}
+	 */
+	public void setCachingTemplate(@Nullable DynamoDBTemplate cachingTemplate) {
+		this.cachingTemplate = cachingTemplate;
+	}
+
+	@Nullable
+	public DynamoDBTemplate getCachingTemplate() {
+		return cachingTemplate;
+	}
+
+	/**
+	 * @param maxConcurrentBatches
+	 *            maximum number of chunks of a single batch operation that are in
+	 *            flight at the same time
+	 */
+	public void setMaxConcurrentBatches(int maxConcurrentBatches) {
+		Assert.isTrue(maxConcurrentBatches > 0, "maxConcurrentBatches must be positive!");
+		this.maxConcurrentBatches = maxConcurrentBatches;
+	}
+
+	/**
+	 * Sets how unprocessed items of batch reads and writes are resubmitted.
+	 * Defaults to {@link BatchRetryPolicy#DEFAULT}.
+	 *
+	 * @param batchRetryPolicy
+	 *            must not be {@literal null}
+	 */
+	public void setBatchRetryPolicy(BatchRetryPolicy batchRetryPolicy) {
+		Assert.notNull(batchRetryPolicy, "batchRetryPolicy must not be null!");
+		this.batchRetryPolicy = batchRetryPolicy;
+	}
+
+	public BatchRetryMetrics getBatchRetryMetrics() {
+		return batchRetryMetrics;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T, ID> DynamoDbAsyncTable<T> getDynamoDbAsyncTable(DynamoDBEntityInformation<T, ID> entityInformation) {
+		DynamoDbTable<T> table = entityInformation.getTable();
+		Assert.notNull(table, "No table resolved for " + entityInformation.getJavaType());
+
+		return (DynamoDbAsyncTable<T>) tables.computeIfAbsent(table,
+				key -> dynamoDBMapper.table(table.tableName(), table.tableSchema()));
+	}
+
+	protected <T> void maybeEmitEvent(@Nullable T source, Function<T, DynamoDBMappingEvent<T>> factory) {
+		MappingEventSupport.maybeEmitEvent(eventPublisher, source, factory);
+	}
+
+	private static Throwable unwrap(Throwable throwable) {
+		return throwable instanceof CompletionException && throwable.getCause() != null
+				? throwable.getCause()
+				: throwable;
+	}
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters about the retries of unprocessed batch items of a
+ * {@link DynamoDBTemplate}.
+ */
+public class BatchRetryMetrics {
+
+	private final AtomicLong retries = new AtomicLong();
+	private final AtomicLong retriedItems = new AtomicLong();
+	private final AtomicLong exhausted = new AtomicLong();
+
+	void recordRetry(int itemCount) {
+		retries.incrementAndGet();
+		retriedItems.addAndGet(itemCount);
+	}
+
+	void recordExhausted() {
+		exhausted.incrementAndGet();
+	}
+
+	/**
+	 * @return the number of batch requests that were sent again for unprocessed
+	 *         items
+	 */
+	public long getRetries() {
+		return retries.get();
+	}
+
+	/**
+	 * @return the number of unprocessed items that were sent again
+	 */
+	public long getRetriedItems() {
+		return retriedItems.get();
+	}
+
+	/**
+	 * @return the number of batch requests that still had unprocessed items
+	 *         when the retry policy gave up
+	 */
+	public long getExhausted() {
+		return exhausted.get();
+	}
+
+}
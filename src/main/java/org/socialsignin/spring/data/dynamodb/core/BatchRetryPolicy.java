@@ -0,0 +1,113 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Describes how often and how long the unprocessed items of a batch request
+ * are resubmitted. The delay before a retry grows exponentially from the
+ * initial backoff up to the maximum backoff, and a random delay between zero
+ * and that value is used ("full jitter"), so that concurrent batches do not
+ * retry in lockstep.
+ */
+public class BatchRetryPolicy {
+
+	/**
+	 * Resubmits unprocessed items up to 4 times within 10 seconds, waiting at
+	 * most 50ms, 100ms, 200ms and 400ms
+	 */
+	public static final BatchRetryPolicy DEFAULT = new BatchRetryPolicy(5, Duration.ofMillis(50),
+			Duration.ofSeconds(1), Duration.ofSeconds(10));
+
+	/**
+	 * Never resubmits unprocessed items
+	 */
+	public static final BatchRetryPolicy NONE = new BatchRetryPolicy(1, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+
+	private final int maxAttempts;
+	private final Duration initialBackoff;
+	private final Duration maxBackoff;
+	private final Duration deadline;
+
+	/**
+	 * @param maxAttempts
+	 *            maximum number of requests sent for an item, including the
+	 *            first one
+	 * @param initialBackoff
+	 *            upper bound of the delay before the first retry
+	 * @param maxBackoff
+	 *            upper bound of the delay before any retry
+	 * @param deadline
+	 *            no retry is started once this much time has passed since the
+	 *            batch operation started
+	 */
+	public BatchRetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff, Duration deadline) {
+		Assert.isTrue(maxAttempts > 0, "maxAttempts must be positive!");
+		Assert.notNull(initialBackoff, "initialBackoff must not be null!");
+		Assert.notNull(maxBackoff, "maxBackoff must not be null!");
+		Assert.notNull(deadline, "deadline must not be null!");
+
+		this.maxAttempts = maxAttempts;
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+		this.deadline = deadline;
+	}
+
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	public Duration getInitialBackoff() {
+		return initialBackoff;
+	}
+
+	public Duration getMaxBackoff() {
+		return maxBackoff;
+	}
+
+	public Duration getDeadline() {
+		return deadline;
+	}
+
+	/**
+	 * @param attempt
+	 *            the number of requests already sent, starting at 1
+	 * @param startNanos
+	 *            {@link System#nanoTime()} when the batch operation started
+	 * @return whether another request should be sent
+	 */
+	boolean shouldRetry(int attempt, long startNanos) {
+		return attempt < maxAttempts && System.nanoTime() - startNanos < deadline.toNanos();
+	}
+
+	/**
+	 * @param attempt
+	 *            the number of requests already sent, starting at 1
+	 * @return the delay in milliseconds before the next request
+	 */
+	long backoffMillis(int attempt) {
+		long cap = initialBackoff.toMillis() << Math.min(attempt - 1, 30);
+		if (cap <= 0 || cap > maxBackoff.toMillis()) {
+			cap = maxBackoff.toMillis();
+		}
+		return cap > 0 ? ThreadLocalRandom.current().nextLong(cap + 1) : 0;
+	}
+
+}
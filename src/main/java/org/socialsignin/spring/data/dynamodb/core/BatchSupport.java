@@ -0,0 +1,221 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Splits batch operations of the blocking and the asynchronous template into
+ * chunks and resubmits their unprocessed items the same way.
+ */
+final class BatchSupport {
+
+	private BatchSupport() {
+	}
+
+	/**
+	 * Sends the given elements and resubmits the unprocessed ones according to the
+	 * retry policy.
+	 *
+	 * @param request
+	 *            sends a batch request for the given elements and returns the
+	 *            unprocessed ones
+	 * @return the elements that were still unprocessed when the retry policy gave
+	 *         up
+	 */
+	static <E> List<E> withRetries(BatchRetryPolicy retryPolicy, BatchRetryMetrics retryMetrics, List<E> elements,
+			long startNanos, Function<List<E>, List<E>> request) {
+		List<E> pending = request.apply(elements);
+		int attempt = 1;
+		while (!pending.isEmpty() && retryPolicy.shouldRetry(attempt, startNanos)) {
+			try {
+				Thread.sleep(retryPolicy.backoffMillis(attempt));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			retryMetrics.recordRetry(pending.size());
+			pending = request.apply(pending);
+			attempt++;
+		}
+		if (!pending.isEmpty()) {
+			retryMetrics.recordExhausted();
+		}
+		return pending;
+	}
+
+	/**
+	 * Like {@link #withRetries(BatchRetryPolicy, BatchRetryMetrics, List, long, Function)},
+	 * but scheduling the backoff instead of blocking a thread.
+	 */
+	static <E> CompletableFuture<List<E>> withRetriesAsync(BatchRetryPolicy retryPolicy,
+			BatchRetryMetrics retryMetrics, List<E> elements, long startNanos,
+			Function<List<E>, CompletableFuture<List<E>>> request) {
+		return withRetriesAsync(retryPolicy, retryMetrics, elements, startNanos, 1, request);
+	}
+
+	private static <E> CompletableFuture<List<E>> withRetriesAsync(BatchRetryPolicy retryPolicy,
+			BatchRetryMetrics retryMetrics, List<E> elements, long startNanos, int attempt,
+			Function<List<E>, CompletableFuture<List<E>>> request) {
+		return request.apply(elements).thenCompose(pending -> {
+			if (pending.isEmpty()) {
+				return CompletableFuture.completedFuture(pending);
+			}
+			if (!retryPolicy.shouldRetry(attempt, startNanos)) {
+				retryMetrics.recordExhausted();
+				return CompletableFuture.completedFuture(pending);
+			}
+			Executor backoff = CompletableFuture.delayedExecutor(retryPolicy.backoffMillis(attempt),
+					TimeUnit.MILLISECONDS);
+			return CompletableFuture.supplyAsync(() -> {
+				retryMetrics.recordRetry(pending.size());
+				return pending;
+			}, backoff).thenCompose(retry -> withRetriesAsync(retryPolicy, retryMetrics, retry, startNanos,
+					attempt + 1, request));
+		});
+	}
+
+	/**
+	 * Splits the elements into chunks and runs the given operation for each chunk
+	 * on the given executor, with at most {@code maxConcurrentBatches} chunks in
+	 * flight.
+	 *
+	 * @return the concatenated results of all chunks, in chunk order
+	 */
+	static <E, R> List<R> dispatchInChunks(List<E> elements, int chunkSize, int maxConcurrentBatches,
+			Executor executor, Function<List<E>, List<R>> operation) {
+		if (elements.isEmpty()) {
+			return Collections.emptyList();
+		}
+		if (elements.size() <= chunkSize) {
+			return operation.apply(elements);
+		}
+
+		Semaphore inFlight = new Semaphore(maxConcurrentBatches);
+		List<CompletableFuture<List<R>>> futures = new ArrayList<>();
+		try {
+			for (List<E> chunk : chunks(elements, chunkSize)) {
+				inFlight.acquire();
+				try {
+					futures.add(CompletableFuture.supplyAsync(() -> operation.apply(chunk), executor)
+							.whenComplete((result, throwable) -> inFlight.release()));
+				} catch (RuntimeException e) {
+					inFlight.release();
+					throw e;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while dispatching batch requests", e);
+		}
+
+		List<R> results = new ArrayList<>();
+		for (CompletableFuture<List<R>> future : futures) {
+			try {
+				results.addAll(future.join());
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw e;
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Splits the elements into chunks and runs the given operation for each chunk,
+	 * starting the next chunk whenever one of the at most
+	 * {@code maxConcurrentBatches} chunks in flight completes.
+	 *
+	 * @return the concatenated results of all chunks, in chunk order
+	 */
+	static <E, R> CompletableFuture<List<R>> dispatchInChunksAsync(List<E> elements, int chunkSize,
+			int maxConcurrentBatches, Function<List<E>, CompletableFuture<List<R>>> operation) {
+		List<List<E>> chunks = chunks(elements, chunkSize);
+		List<CompletableFuture<List<R>>> results = new ArrayList<>(chunks.size());
+		chunks.forEach(chunk -> results.add(new CompletableFuture<>()));
+
+		AtomicInteger next = new AtomicInteger();
+		Runnable startNext = new Runnable() {
+			@Override
+			public void run() {
+				// Chunks that complete right away are followed by the next chunk in this
+				// loop, so that the stack does not grow with the number of chunks. Only a
+				// chunk still in flight starts the next one from its callback.
+				int index;
+				while ((index = next.getAndIncrement()) < chunks.size()) {
+					CompletableFuture<List<R>> result;
+					try {
+						result = operation.apply(chunks.get(index));
+					} catch (RuntimeException e) {
+						result = CompletableFuture.failedFuture(e);
+					}
+					CompletableFuture<List<R>> chunkResult = results.get(index);
+					if (result.isDone()) {
+						result.whenComplete((value, throwable) -> complete(chunkResult, value, throwable));
+					} else {
+						result.whenComplete((value, throwable) -> {
+							complete(chunkResult, value, throwable);
+							run();
+						});
+						return;
+					}
+				}
+			}
+		};
+		for (int i = 0; i < Math.min(maxConcurrentBatches, chunks.size()); i++) {
+			startNext.run();
+		}
+
+		return CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).thenApply(done -> {
+			List<R> all = new ArrayList<>();
+			results.forEach(result -> all.addAll(result.join()));
+			return all;
+		});
+	}
+
+	private static <E> List<List<E>> chunks(List<E> elements, int chunkSize) {
+		List<List<E>> chunks = new ArrayList<>();
+		for (int from = 0; from < elements.size(); from += chunkSize) {
+			chunks.add(elements.subList(from, Math.min(from + chunkSize, elements.size())));
+		}
+		return chunks;
+	}
+
+	private static <R> void complete(CompletableFuture<List<R>> result, List<R> value, Throwable throwable) {
+		if (throwable != null) {
+			result.completeExceptionally(unwrap(throwable));
+		} else {
+			result.complete(value);
+		}
+	}
+
+	static Throwable unwrap(Throwable throwable) {
+		return throwable instanceof CompletionException && throwable.getCause() != null
+				? throwable.getCause()
+				: throwable;
+	}
+}
@@ -16,8 +16,10 @@
 package org.socialsignin.spring.data.dynamodb.core;
 
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import org.springframework.lang.Nullable;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.NestedAttributeName;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
@@ -40,12 +42,58 @@ public interface DynamoDBOperations {
 
 	<T, ID> PageIterable<T> query(Class<T> clazz, QueryEnhancedRequest queryRequest, DynamoDBEntityInformation<T, ID> entityInformation);
 
+	/**
+	 * Queries a secondary index of the table, or the table itself if no index
+	 * name is given.
+	 */
+	<T, ID> PageIterable<T> query(Class<T> clazz, @Nullable String indexName, QueryEnhancedRequest queryRequest, DynamoDBEntityInformation<T, ID> entityInformation);
+
 	<T, ID> PageIterable<T> scan(Class<T> clazz, ScanEnhancedRequest scanRequest, DynamoDBEntityInformation<T, ID> entityInformation);
 
+	/**
+	 * Scans the whole table, reading its segments concurrently if the
+	 * implementation is configured to do so. The pages of the segments are
+	 * returned in no particular order.
+	 */
+	<T, ID> PageIterable<T> parallelScan(Class<T> clazz, ScanEnhancedRequest scanRequest, DynamoDBEntityInformation<T, ID> entityInformation);
+
 	<T, ID> T load(Class<T> domainClass, Object hashKey, Object rangeKey, DynamoDBEntityInformation<T, ID> entityInformation);
 	<T, ID> T load(Class<T> domainClass, Object hashKey, DynamoDBEntityInformation<T, ID> entityInformation);
+
+	/**
+	 * Loads a single item by its primary key, reading the given attributes only.
+	 * The attributes that are not read are left unset on the returned entity.
+	 *
+	 * @param key
+	 *            the primary key of the item
+	 * @param attributesToProject
+	 *            the (nested) attributes to read, all attributes if empty
+	 * @param entityInformation
+	 *            the entity the key belongs to
+	 * @return the item or {@literal null} if there is none
+	 */
+	<T, ID> T load(Key key, List<NestedAttributeName> attributesToProject, DynamoDBEntityInformation<T, ID> entityInformation);
 	<T, ID> List<T> batchLoad(Map<Class<?>, List<Key>> itemsToGet, DynamoDBEntityInformation<T, ID> entityInformation);
 
+	/**
+	 * Checks whether an item with the given primary key exists. Only the key
+	 * attributes of the item are read.
+	 *
+	 * @param key
+	 *            the primary key of the item
+	 * @param entityInformation
+	 *            the entity the key belongs to
+	 * @return {@literal true} if the item exists
+	 */
+	<T, ID> boolean exists(Key key, DynamoDBEntityInformation<T, ID> entityInformation);
+
+	/**
+	 * Checks whether the query matches at least one item. The query is sent with
+	 * {@link software.amazon.awssdk.services.dynamodb.model.Select#COUNT} and
+	 * further pages are only requested until the first match.
+	 */
+	<T> boolean exists(Class<T> clazz, QueryRequest.Builder mutableQueryRequest);
+
 	<T, ID> T save(T entity, DynamoDBEntityInformation<T, ID> entityInformation);
 	<T, S, ID> BatchWriteResult batchSave(Iterable<S> entities, DynamoDBEntityInformation<T, ID> entityInformation);
 
@@ -53,6 +101,29 @@ public interface DynamoDBOperations {
 	<T, S, ID> BatchWriteResult batchDelete(Iterable<S> entities, DynamoDBEntityInformation<T, ID> entityInformation);
 	<T> BatchWriteResult batchDelete(List<T> entities, DynamoDbTable<T> dynamoDbTable);
 
+	/**
+	 * Deletes a single item by its primary key without reading it first.
+	 *
+	 * @param key
+	 *            the primary key of the item
+	 * @param mustExist
+	 *            if {@literal true}, the delete is conditional on the item being
+	 *            present and an
+	 *            {@link org.springframework.dao.EmptyResultDataAccessException}
+	 *            is thrown otherwise
+	 * @param entityInformation
+	 *            the entity the key belongs to
+	 * @return the deleted item or {@literal null} if there was none
+	 */
+	<T, ID> T deleteByKey(Key key, boolean mustExist, DynamoDBEntityInformation<T, ID> entityInformation);
+
+	/**
+	 * Deletes the items with the given primary keys without reading them first.
+	 * The keys are sent in chunks of at most 25 keys, like
+	 * {@link #batchDelete(List, DynamoDbTable)} does.
+	 */
+	<T, ID> BatchWriteResult batchDeleteByKeys(List<Key> keys, DynamoDBEntityInformation<T, ID> entityInformation);
+
 	<T> DynamoDbTable<T> getDynamoDbTable(Class<T> domainClass, String tableName);
 
 	/**
@@ -67,4 +138,15 @@ public interface DynamoDBOperations {
 	 */
 	<T> TableSchema<T> getTableModel(Class<T> domainClass);
 
+	/**
+	 * @return the cache of the results of
+	 *         {@link org.socialsignin.spring.data.dynamodb.repository.CachedQuery}
+	 *         methods, which is evicted on writes through these operations, or
+	 *         {@code null} if these operations do not cache query results
+	 */
+	@Nullable
+	default QueryResultCache getQueryResultCache() {
+		return null;
+	}
+
 }
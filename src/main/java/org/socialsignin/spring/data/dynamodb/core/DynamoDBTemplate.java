@@ -15,6 +15,7 @@
  */
 package org.socialsignin.spring.data.dynamodb.core;
 
+import org.socialsignin.spring.data.dynamodb.exception.BatchLoadException;
 import org.socialsignin.spring.data.dynamodb.mapping.event.AfterDeleteEvent;
 import org.socialsignin.spring.data.dynamodb.mapping.event.AfterLoadEvent;
 import org.socialsignin.spring.data.dynamodb.mapping.event.AfterSaveEvent;
@@ -28,25 +29,99 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.NestedAttributeName;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.*;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.*;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextAware {
+	/**
+	 * Default upper bound of table schemas and table handles kept by a template
+	 */
+	public static final int DEFAULT_MAX_CACHED_TABLES = 1024;
+
+	/**
+	 * Maximum number of items DynamoDB accepts in a single BatchWriteItem request
+	 */
+	public static final int MAX_BATCH_WRITE_SIZE = 25;
+
+	/**
+	 * Maximum number of keys DynamoDB accepts in a single BatchGetItem request
+	 */
+	public static final int MAX_BATCH_GET_SIZE = 100;
+
+	/**
+	 * Default number of batch requests a single operation dispatches concurrently
+	 */
+	public static final int DEFAULT_MAX_CONCURRENT_BATCHES = 8;
+
+	/**
+	 * Default upper bound of missing keys remembered by a template
+	 */
+	public static final int DEFAULT_MAX_MISSING_KEYS = 10000;
+
 	private final DynamoDbEnhancedClient dynamoDBMapper;
 	private final DynamoDbClient amazonDynamoDB;
 	private ApplicationEventPublisher eventPublisher;
 
+	private final Map<Class<?>, TableSchema<?>> registeredTableSchemas = new ConcurrentHashMap<>();
+	private final Map<Class<?>, TableSchema<?>> tableSchemas = new ConcurrentHashMap<>();
+	private final Map<TableKey, DynamoDbTable<?>> tables = new ConcurrentHashMap<>();
+	private int maxCachedTables = DEFAULT_MAX_CACHED_TABLES;
+
+	/**
+	 * Unpaginated scans are read sequentially unless configured otherwise.
+	 */
+	public static final int DEFAULT_SCAN_SEGMENTS = 1;
+	/**
+	 * The maximum number of segments of a parallel scan supported by DynamoDB.
+	 */
+	public static final int MAX_SCAN_SEGMENTS = 1000000;
+
+	private Executor batchExecutor = Runnable::run;
+	private int maxConcurrentBatches = DEFAULT_MAX_CONCURRENT_BATCHES;
+	private BatchRetryPolicy batchRetryPolicy = BatchRetryPolicy.DEFAULT;
+	private final BatchRetryMetrics batchRetryMetrics = new BatchRetryMetrics();
+	private final EntityCache entityCache = new EntityCache();
+	private final LoadBatcher loadBatcher = new LoadBatcher(this);
+	private final ReadCoalescer readCoalescer = new ReadCoalescer();
+	private final QueryResultCache queryResultCache = new QueryResultCache();
+	private final MissingKeyCache missingKeys = new MissingKeyCache();
+	private int scanSegments = DEFAULT_SCAN_SEGMENTS;
+	@Nullable
+	private Executor scanExecutor;
+
 	@Autowired
 	public DynamoDBTemplate(DynamoDbClient amazonDynamoDB, DynamoDbEnhancedClient dynamoDBMapper) {
 		Assert.notNull(amazonDynamoDB, "amazonDynamoDB must not be null!");
@@ -74,51 +149,231 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
 
 	@Override
 	public <T, ID> T load(Class<T> domainClass, Object hashKey, Object rangeKey, DynamoDBEntityInformation<T, ID> entityInformation) {
-		T item = entityInformation.getTable().getItem(getKey(hashKey, rangeKey));
-		maybeEmitEvent(item, AfterLoadEvent::new);
-
-		return item;
+		return load(entityInformation.getTable(), getKey(hashKey, rangeKey));
 	}
 
 	@Override
 	public <T, ID> T load(Class<T> domainClass, Object hashKey, DynamoDBEntityInformation<T, ID> entityInformation) {
-		T item = entityInformation.getTable().getItem(getKey(hashKey));
+		return load(entityInformation.getTable(), getKey(hashKey));
+	}
+
+	private <T> T load(DynamoDbTable<T> table, Key key) {
+		T item = entityCache.get(table, key);
+		if (item != null || missingKeys.isMissing(table, key)) {
+			return item;
+		}
+
+		long readStart = missingKeys.startRead();
+		long cacheReadStart = entityCache.startRead();
+		TableSchema<T> tableSchema = table.tableSchema();
+		item = readCoalescer.read(Arrays.asList(table.tableName(), tableSchema, key),
+				() -> loadBatcher.isEnabled() ? loadBatcher.load(table, key) : table.getItem(key),
+				it -> copyItem(tableSchema, it));
 		maybeEmitEvent(item, AfterLoadEvent::new);
+		if (item == null) {
+			missingKeys.recordMissing(table, key, readStart);
+		}
+		entityCache.put(table, item, cacheReadStart);
 
 		return item;
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public <T, ID> List<T> batchLoad(Map<Class<?>, List<Key>> itemsToGet, DynamoDBEntityInformation<T, ID> entityInformation) {
 
 		// TODO: only one class currently supported
 
 		DynamoDbTable<T> table = entityInformation.getTable();
-		Class<T> type = entityInformation.getJavaType();
 
-		ReadBatch.Builder builder = ReadBatch.builder(type);
-		itemsToGet.forEach((k, v) -> builder.addGetItem(v));
+		// BatchGetItem rejects requests that contain the same key twice
+		Set<Key> distinctKeys = new LinkedHashSet<>();
+		itemsToGet.values().forEach(distinctKeys::addAll);
+		if (distinctKeys.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<T> results = new ArrayList<>(distinctKeys.size());
+		boolean cacheable = entityCache.isCacheable(table);
+		if (cacheable) {
+			for (Iterator<Key> iterator = distinctKeys.iterator(); iterator.hasNext();) {
+				T cached = entityCache.get(table, iterator.next());
+				if (cached != null) {
+					results.add(cached);
+					iterator.remove();
+				}
+			}
+			if (distinctKeys.isEmpty()) {
+				return results;
+			}
+		}
+		if (missingKeys.isEnabled()) {
+			distinctKeys.removeIf(key -> missingKeys.isMissing(table, key));
+			if (distinctKeys.isEmpty()) {
+				return results;
+			}
+		}
+
+		long readStart = missingKeys.startRead();
+		long cacheReadStart = entityCache.startRead();
+		List<T> items = batchGetItems(table, new ArrayList<>(distinctKeys));
+		if (cacheable) {
+			items.forEach(item -> entityCache.put(table, item, cacheReadStart));
+		}
+		if (missingKeys.isEnabled()) {
+			Set<List<Object>> found = items.stream().map(item -> LoadBatcher.identityOf(table.keyFrom(item)))
+					.collect(Collectors.toSet());
+			distinctKeys.stream().filter(key -> !found.contains(LoadBatcher.identityOf(key)))
+					.forEach(key -> missingKeys.recordMissing(table, key, readStart));
+		}
+		results.addAll(items);
+
+		return results;
+	}
+
+	/**
+	 * Reads the given distinct keys in chunks of at most
+	 * {@value #MAX_BATCH_GET_SIZE} keys, resubmitting unprocessed keys according
+	 * to the {@link #setBatchRetryPolicy(BatchRetryPolicy) retry policy}.
+	 *
+	 * @return the items that exist, in no particular order
+	 */
+	<T> List<T> batchGetItems(DynamoDbTable<T> table, List<Key> keys) {
+		Class<T> type = table.tableSchema().itemType().rawClass();
+		List<T> results = Collections.synchronizedList(new ArrayList<>(keys.size()));
+		long startNanos = System.nanoTime();
+		List<Key> unprocessedKeys = BatchSupport.dispatchInChunks(keys, MAX_BATCH_GET_SIZE,
+				maxConcurrentBatches, batchExecutor,
+				chunk -> BatchSupport.withRetries(batchRetryPolicy, batchRetryMetrics, chunk, startNanos, pendingKeys -> {
+					ReadBatch.Builder<T> builder = ReadBatch.builder(type).mappedTableResource(table);
+					pendingKeys.forEach(builder::addGetItem);
+					// Only the first page is used, as the following pages would resubmit the
+					// unprocessed keys right away instead of backing off. Keys beyond the
+					// 16MB response limit are returned as unprocessed and retried as well.
+					BatchGetResultPage resultPage = dynamoDBMapper
+							.batchGetItem(BatchGetItemEnhancedRequest.builder().readBatches(builder.build()).build())
+							.iterator().next();
+					results.addAll(resultPage.resultsForTable(table));
+					return resultPage.unprocessedKeysForTable(table);
+				}));
+		if (!unprocessedKeys.isEmpty()) {
+			throw new BatchLoadException(
+					"Could not load " + unprocessedKeys.size() + " of " + keys.size() + " items of " + type, null);
+		}
+
+		return new ArrayList<>(results);
+	}
+
+	@Override
+	public <T, ID> T load(Key key, List<NestedAttributeName> attributesToProject, DynamoDBEntityInformation<T, ID> entityInformation) {
+		if (attributesToProject.isEmpty()) {
+			return load(entityInformation.getTable(), key);
+		}
+
+		DynamoDbTable<T> table = entityInformation.getTable();
+		if (missingKeys.isMissing(table, key)) {
+			return null;
+		}
+
+		long readStart = missingKeys.startRead();
+		Map<String, AttributeValue> attributes = getItem(table, key, attributesToProject);
+		if (attributes.isEmpty()) {
+			missingKeys.recordMissing(table, key, readStart);
+		}
+		T item = attributes.isEmpty() ? null : table.tableSchema().mapToItem(attributes);
+		maybeEmitEvent(item, AfterLoadEvent::new);
+
+		return item;
+	}
+
+	@Override
+	public <T, ID> boolean exists(Key key, DynamoDBEntityInformation<T, ID> entityInformation) {
+		DynamoDbTable<T> table = entityInformation.getTable();
+		if (missingKeys.isMissing(table, key)) {
+			return false;
+		}
+
+		// Project the key attributes only, the item itself is never needed
+		List<NestedAttributeName> keyAttributes = key.primaryKeyMap(table.tableSchema()).keySet().stream()
+				.map(NestedAttributeName::create).collect(Collectors.toList());
 
-		BatchGetResultPageIterable resultPages = dynamoDBMapper.batchGetItem(b -> b.readBatches(builder.build()));
-		return resultPages.resultsForTable(table).stream().toList();
+		long readStart = missingKeys.startRead();
+		boolean exists = !getItem(table, key, keyAttributes).isEmpty();
+		if (!exists) {
+			missingKeys.recordMissing(table, key, readStart);
+		}
+		return exists;
+	}
+
+	private Map<String, AttributeValue> getItem(DynamoDbTable<?> table, Key key,
+			List<NestedAttributeName> attributesToProject) {
+		Map<String, String> names = new HashMap<>();
+		List<String> paths = new ArrayList<>(attributesToProject.size());
+		for (NestedAttributeName attribute : attributesToProject) {
+			List<String> placeholders = new ArrayList<>();
+			for (String element : attribute.elements()) {
+				String placeholder = "#p" + names.size();
+				names.put(placeholder, element);
+				placeholders.add(placeholder);
+			}
+			paths.add(String.join(".", placeholders));
+		}
+
+		GetItemResponse response = amazonDynamoDB.getItem(GetItemRequest.builder().tableName(table.tableName())
+				.key(key.primaryKeyMap(table.tableSchema())).projectionExpression(String.join(", ", paths))
+				.expressionAttributeNames(names).build());
+		return response.hasItem() ? response.item() : Collections.emptyMap();
+	}
+
+	@Override
+	public <T> boolean exists(Class<T> clazz, QueryRequest.Builder mutableQueryRequest) {
+		mutableQueryRequest.select(Select.COUNT);
+
+		// A filter expression can leave pages empty although more items match
+		QueryResponse response;
+		do {
+			response = amazonDynamoDB.query(mutableQueryRequest.build());
+			if (response.count() > 0) {
+				return true;
+			}
+			mutableQueryRequest.exclusiveStartKey(response.lastEvaluatedKey());
+		} while (response.hasLastEvaluatedKey());
+
+		return false;
 	}
 
 	@Override
 	public <T, ID> T save(T entity, DynamoDBEntityInformation<T, ID> entityInformation) {
 		maybeEmitEvent(entity, BeforeSaveEvent::new);
-		entityInformation.getTable().putItem(entity);
+		DynamoDbTable<T> table = entityInformation.getTable();
+		table.putItem(entity);
+		// Extensions such as versioning change the stored item, so it is read again
+		entityCache.evictItem(table, entity);
+		queryResultCache.evict(table.tableName());
+		if (missingKeys.isEnabled()) {
+			missingKeys.recordWritten(table, table.keyFrom(entity));
+		}
 		maybeEmitEvent(entity, AfterSaveEvent::new);
 		return entity;
 	}
 
+	@SuppressWarnings("unchecked")
 	@Override
 	public <T, S, ID> BatchWriteResult batchSave(Iterable<S> entities, DynamoDBEntityInformation<T, ID> entityInformation) {
 		entities.forEach(it -> maybeEmitEvent(it, BeforeSaveEvent::new));
 
-		WriteBatch.Builder builder = WriteBatch.builder(entityInformation.getJavaType());
-		entities.forEach(builder::addPutItem);
-		BatchWriteResult result = dynamoDBMapper.batchWriteItem(b -> b.writeBatches(builder.build()));
+		DynamoDbTable<T> table = entityInformation.getTable();
+		List<T> items = new ArrayList<>();
+		entities.forEach(it -> items.add((T) it));
+		BatchWriteResult result = batchWrite(table, items, WriteBatch.Builder::addPutItem,
+				batchResult -> batchResult.unprocessedPutItemsForTable(table),
+				item -> WriteRequest.builder()
+						.putRequest(PutRequest.builder().item(table.tableSchema().itemToMap(item, true)).build())
+						.build());
+		items.forEach(item -> entityCache.evictItem(table, item));
+		if (missingKeys.isEnabled()) {
+			items.forEach(item -> missingKeys.recordWritten(table, table.keyFrom(item)));
+		}
+		queryResultCache.evict(table.tableName());
 
 		entities.forEach(it -> maybeEmitEvent(it, AfterSaveEvent::new));
 		return result;
@@ -127,43 +382,191 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
 	@Override
 	public <T, ID> T delete(T entity, DynamoDBEntityInformation<T, ID> entityInformation) {
 		maybeEmitEvent(entity, BeforeDeleteEvent::new);
-		entityInformation.getTable().deleteItem(entity);
+		DynamoDbTable<T> table = entityInformation.getTable();
+		table.deleteItem(entity);
+		entityCache.evictItem(table, entity);
+		queryResultCache.evict(table.tableName());
 		maybeEmitEvent(entity, AfterDeleteEvent::new);
 		return entity;
 	}
 
+	@SuppressWarnings("unchecked")
 	@Override
 	public <T, S, ID> BatchWriteResult batchDelete(Iterable<S> entities, DynamoDBEntityInformation<T, ID> entityInformation) {
-		entities.forEach(it -> maybeEmitEvent(it, BeforeDeleteEvent::new));
+		List<T> items = new ArrayList<>();
+		entities.forEach(it -> items.add((T) it));
+		return batchDelete(items, entityInformation.getTable());
+	}
 
-		WriteBatch.Builder builder = WriteBatch.builder(entityInformation.getJavaType());
-		entities.forEach(builder::addDeleteItem);
-		BatchWriteResult result = dynamoDBMapper.batchWriteItem(b -> b.writeBatches(builder.build()));
+	@Override
+	public <T, ID> T deleteByKey(Key key, boolean mustExist, DynamoDBEntityInformation<T, ID> entityInformation) {
+		DynamoDbTable<T> table = entityInformation.getTable();
+		DeleteItemEnhancedRequest.Builder request = DeleteItemEnhancedRequest.builder().key(key);
+		if (mustExist) {
+			request.conditionExpression(Expression.builder().expression("attribute_exists(#hashKey)")
+					.putExpressionName("#hashKey", table.tableSchema().tableMetadata().primaryPartitionKey())
+					.build());
+		}
 
-		entities.forEach(it -> maybeEmitEvent(it, AfterDeleteEvent::new));
-		return result;
+		T deleted;
+		try {
+			deleted = table.deleteItem(request.build());
+		} catch (ConditionalCheckFailedException e) {
+			throw new EmptyResultDataAccessException(
+					String.format("No %s entity with key %s exists!", entityInformation.getJavaType(), key), 1, e);
+		} finally {
+			entityCache.evict(table, key);
+			queryResultCache.evict(table.tableName());
+		}
+		maybeEmitEvent(deleted, AfterDeleteEvent::new);
+		return deleted;
 	}
 
 	@Override
 	public <T> BatchWriteResult batchDelete(List<T> entities, DynamoDbTable<T> table) {
-		Class<T> rawClass = table.tableSchema().itemType().rawClass();
-
 		entities.forEach(it -> maybeEmitEvent(it, BeforeDeleteEvent::new));
 
-		WriteBatch.Builder builder = WriteBatch.builder(rawClass);
-		entities.forEach(builder::addDeleteItem);
-		BatchWriteResult result = dynamoDBMapper.batchWriteItem(b -> b.writeBatches(builder.build()));
+		List<Key> keys = new ArrayList<>(entities.size());
+		entities.forEach(it -> keys.add(table.keyFrom(it)));
+		BatchWriteResult result = batchDeleteKeys(table, keys);
+		keys.forEach(key -> entityCache.evict(table, key));
+		queryResultCache.evict(table.tableName());
 
 		entities.forEach(it -> maybeEmitEvent(it, AfterDeleteEvent::new));
 		return result;
 	}
 
+	@Override
+	public <T, ID> BatchWriteResult batchDeleteByKeys(List<Key> keys, DynamoDBEntityInformation<T, ID> entityInformation) {
+		DynamoDbTable<T> table = entityInformation.getTable();
+		// BatchWriteItem rejects requests that contain the same key twice
+		BatchWriteResult result = batchDeleteKeys(table, new ArrayList<>(new LinkedHashSet<>(keys)));
+		keys.forEach(key -> entityCache.evict(table, key));
+		queryResultCache.evict(table.tableName());
+		return result;
+	}
+
+	/**
+	 * Invalidates the caches for items saved through an
+	 * {@link AsyncDynamoDBTemplate} sharing them.
+	 */
+	void invalidateSaved(String tableName, Collection<Key> keys) {
+		keys.forEach(key -> {
+			entityCache.evict(tableName, key);
+			missingKeys.recordWritten(tableName, key);
+		});
+		queryResultCache.evict(tableName);
+	}
+
+	/**
+	 * Invalidates the caches for items deleted through an
+	 * {@link AsyncDynamoDBTemplate} sharing them.
+	 */
+	void invalidateDeleted(String tableName, Collection<Key> keys) {
+		keys.forEach(key -> entityCache.evict(tableName, key));
+		queryResultCache.evict(tableName);
+	}
+
+	private <T> BatchWriteResult batchDeleteKeys(DynamoDbTable<T> table, List<Key> keys) {
+		return batchWrite(table, keys, WriteBatch.Builder::addDeleteItem,
+				batchResult -> batchResult.unprocessedDeleteItemsForTable(table),
+				key -> WriteRequest.builder()
+						.deleteRequest(DeleteRequest.builder()
+								.key(key.keyMap(table.tableSchema(), TableMetadata.primaryIndexName())).build())
+						.build());
+	}
+
+	/**
+	 * Writes the given elements in chunks of at most
+	 * {@value #MAX_BATCH_WRITE_SIZE} items, dispatching up to
+	 * {@link #setMaxConcurrentBatches(int)} chunks at once on the
+	 * {@link #setBatchExecutor(Executor) batch executor}. The unprocessed items of
+	 * all chunks are combined into a single {@link BatchWriteResult}.
+	 */
+	private <T, E> BatchWriteResult batchWrite(DynamoDbTable<T> table, List<E> elements,
+			BiConsumer<WriteBatch.Builder<T>, E> addToBatch, Function<BatchWriteResult, List<E>> unprocessed,
+			Function<E, WriteRequest> toWriteRequest) {
+		Class<T> itemClass = table.tableSchema().itemType().rawClass();
+		long startNanos = System.nanoTime();
+
+		List<E> unprocessedElements = BatchSupport.dispatchInChunks(elements, MAX_BATCH_WRITE_SIZE,
+				maxConcurrentBatches, batchExecutor,
+				chunk -> BatchSupport.withRetries(batchRetryPolicy, batchRetryMetrics, chunk, startNanos, pending -> {
+					WriteBatch.Builder<T> builder = WriteBatch.builder(itemClass).mappedTableResource(table);
+					pending.forEach(element -> addToBatch.accept(builder, element));
+					WriteBatch writeBatch = builder.build();
+					return unprocessed.apply(dynamoDBMapper
+							.batchWriteItem(BatchWriteItemEnhancedRequest.builder().writeBatches(writeBatch).build()));
+				}));
+
+		Map<String, List<WriteRequest>> unprocessedRequests = unprocessedElements.isEmpty()
+				? Collections.emptyMap()
+				: Collections.singletonMap(table.tableName(),
+						unprocessedElements.stream().map(toWriteRequest).collect(Collectors.toList()));
+		return BatchWriteResult.builder().unprocessedRequests(unprocessedRequests).build();
+	}
+
 	@Override
 	public <T, ID> PageIterable<T> query(Class<T> clazz, QueryEnhancedRequest queryRequest, DynamoDBEntityInformation<T, ID> entityInformation) {
 		DynamoDbTable<T> table = entityInformation.getTable();
+		if (readCoalescer.isEnabled()) {
+			return coalescedQuery(table, null, queryRequest);
+		}
 		return table.query(queryRequest);
 	}
 
+	@Override
+	public <T, ID> PageIterable<T> query(Class<T> clazz, @Nullable String indexName, QueryEnhancedRequest queryRequest, DynamoDBEntityInformation<T, ID> entityInformation) {
+		if (indexName == null) {
+			return query(clazz, queryRequest, entityInformation);
+		}
+		DynamoDbTable<T> table = entityInformation.getTable();
+		if (readCoalescer.isEnabled()) {
+			return coalescedQuery(table, indexName, queryRequest);
+		}
+		return PageIterable.create(table.index(indexName).query(queryRequest));
+	}
+
+	/**
+	 * Requests the pages of the query one at a time, so that identical page
+	 * requests of concurrent queries are coalesced while the pages are still read
+	 * lazily.
+	 */
+	private <T> PageIterable<T> coalescedQuery(DynamoDbTable<T> table, @Nullable String indexName,
+			QueryEnhancedRequest queryRequest) {
+		TableSchema<T> tableSchema = table.tableSchema();
+		return PageIterable.create(() -> new Iterator<Page<T>>() {
+			private Map<String, AttributeValue> exclusiveStartKey = queryRequest.exclusiveStartKey();
+			private boolean hasNext = true;
+
+			@Override
+			public boolean hasNext() {
+				return hasNext;
+			}
+
+			@Override
+			public Page<T> next() {
+				if (!hasNext) {
+					throw new NoSuchElementException();
+				}
+				QueryEnhancedRequest pageRequest = queryRequest.toBuilder().exclusiveStartKey(exclusiveStartKey)
+						.build();
+				Page<T> page = readCoalescer.read(Arrays.asList(table.tableName(), tableSchema, indexName, pageRequest),
+						() -> {
+							SdkIterable<Page<T>> pages = indexName == null
+									? table.query(pageRequest)
+									: table.index(indexName).query(pageRequest);
+							return pages.iterator().next();
+						}, it -> Page.create(
+								it.items().stream().map(item -> copyItem(tableSchema, item)).collect(Collectors.toList()),
+								it.lastEvaluatedKey()));
+				exclusiveStartKey = page.lastEvaluatedKey();
+				hasNext = exclusiveStartKey != null && !exclusiveStartKey.isEmpty();
+				return page;
+			}
+		});
+	}
+
 	@Override
 	public <T, ID> PageIterable<T> scan(Class<T> clazz, ScanEnhancedRequest scanRequest, DynamoDBEntityInformation<T, ID> entityInformation) {
 		DynamoDbTable<T> table = entityInformation.getTable();
@@ -186,42 +589,334 @@ public class DynamoDBTemplate implements DynamoDBOperations, ApplicationContextA
 		return count;
 	}
 
+	@Override
+	public <T, ID> PageIterable<T> parallelScan(Class<T> clazz, ScanEnhancedRequest scanRequest, DynamoDBEntityInformation<T, ID> entityInformation) {
+		if (scanSegments <= 1) {
+			return scan(clazz, scanRequest, entityInformation);
+		}
+
+		Executor executor = getScanExecutor();
+		DynamoDbTable<T> table = entityInformation.getTable();
+		List<SdkIterable<Page<T>>> segments = new ArrayList<>(scanSegments);
+		for (int segment = 0; segment < scanSegments; segment++) {
+			segments.add(table.scan(scanRequest.toBuilder().segment(segment).totalSegments(scanSegments).build()));
+		}
+		return PageIterable.create(new ParallelScanPageIterable<>(segments, executor));
+	}
+
 	@Override
 	public <T, ID> int count(Class<T> clazz, ScanRequest.Builder mutableScanRequest, DynamoDBEntityInformation<T, ID> entityInformation) {
-		mutableScanRequest.select(Select.COUNT);
+		ScanRequest scanRequest = mutableScanRequest.select(Select.COUNT).build();
+		if (scanSegments <= 1) {
+			return countSegment(scanRequest);
+		}
+
+		Executor executor = getScanExecutor();
+		List<CompletableFuture<Integer>> counts = new ArrayList<>(scanSegments);
+		for (int segment = 0; segment < scanSegments; segment++) {
+			ScanRequest segmentRequest = scanRequest.toBuilder().segment(segment).totalSegments(scanSegments).build();
+			counts.add(CompletableFuture.supplyAsync(() -> countSegment(segmentRequest), executor));
+		}
 
+		int count = 0;
+		for (CompletableFuture<Integer> segmentCount : counts) {
+			try {
+				count += segmentCount.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw e;
+			}
+		}
+		return count;
+	}
+
+	private Executor getScanExecutor() {
+		Assert.state(scanExecutor != null, "A scanExecutor must be set to scan in " + scanSegments + " segments!");
+		return scanExecutor;
+	}
+
+	private int countSegment(ScanRequest scanRequest) {
 		int count = 0;
 		ScanResponse response;
 		do {
-			response = amazonDynamoDB.scan(mutableScanRequest.build());
+			response = amazonDynamoDB.scan(scanRequest);
 			count += response.count();
-			mutableScanRequest.exclusiveStartKey(response.lastEvaluatedKey());
-		} while (response.lastEvaluatedKey() != null);
+			scanRequest = scanRequest.toBuilder().exclusiveStartKey(response.lastEvaluatedKey()).build();
+		} while (response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty());
 
 		return count;
 	}
 
+	/**
+	 * Registers a prebuilt schema, e.g. a
+	 * {@link software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema} or
+	 * an {@link software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchema},
+	 * to be used for its item type instead of introspecting the bean class.
+	 * Registered schemas are never evicted.
+	 *
+	 * @param <T>
+	 *            The type of the domain type itself
+	 * @param tableSchema
+	 *            must not be {@literal null}
+	 */
+	public <T> void registerTableSchema(TableSchema<T> tableSchema) {
+		Assert.notNull(tableSchema, "tableSchema must not be null!");
+		Class<T> domainClass = tableSchema.itemType().rawClass();
+
+		registeredTableSchemas.put(domainClass, tableSchema);
+		tableSchemas.remove(domainClass);
+		tables.keySet().removeIf(key -> key.domainClass.equals(domainClass));
+	}
+
+	/**
+	 * Sets the executor the chunks of a batch operation are dispatched on. By
+	 * default, chunks are sent one after another on the calling thread.
+	 *
+	 * @param batchExecutor
+	 *            must not be {@literal null}
+	 */
+	public void setBatchExecutor(Executor batchExecutor) {
+		Assert.notNull(batchExecutor, "batchExecutor must not be null!");
+		this.batchExecutor = batchExecutor;
+	}
+
+	/**
+	 * @param maxConcurrentBatches
+	 *            maximum number of chunks of a single batch operation that are in
+	 *            flight at the same time
+	 */
+	public void setMaxConcurrentBatches(int maxConcurrentBatches) {
+		Assert.isTrue(maxConcurrentBatches > 0, "maxConcurrentBatches must be positive!");
+		this.maxConcurrentBatches = maxConcurrentBatches;
+	}
+
+	/**
+	 * Sets how unprocessed items of batch reads and writes are resubmitted.
+	 * Defaults to {@link BatchRetryPolicy#DEFAULT}.
+	 *
+	 * @param batchRetryPolicy
+	 *            must not be {@literal null}
+	 */
+	public void setBatchRetryPolicy(BatchRetryPolicy batchRetryPolicy) {
+		Assert.notNull(batchRetryPolicy, "batchRetryPolicy must not be null!");
+		this.batchRetryPolicy = batchRetryPolicy;
+	}
+
+	/**
+	 * Sets the number of segments unpaginated scans and scan counts are split
+	 * into. Defaults to {@value #DEFAULT_SCAN_SEGMENTS}, i.e. a sequential scan.
+	 * More than one segment requires a {@link #setScanExecutor(Executor) scan
+	 * executor}.
+	 *
+	 * @param scanSegments
+	 *            between 1 and {@value #MAX_SCAN_SEGMENTS}
+	 */
+	public void setScanSegments(int scanSegments) {
+		Assert.isTrue(scanSegments > 0 && scanSegments <= MAX_SCAN_SEGMENTS,
+				"scanSegments must be between 1 and " + MAX_SCAN_SEGMENTS + "!");
+		this.scanSegments = scanSegments;
+	}
+
+	/**
+	 * Sets the executor the segments of a parallel scan are read on. There is no
+	 * default, as reading a segment blocks a thread on HTTP requests. The
+	 * executor should be dedicated to scans and must not run the code that starts
+	 * them, which would otherwise wait for segments queued behind itself.
+	 *
+	 * @param scanExecutor
+	 *            must not be {@literal null}
+	 */
+	public void setScanExecutor(Executor scanExecutor) {
+		Assert.notNull(scanExecutor, "scanExecutor must not be null!");
+		this.scanExecutor = scanExecutor;
+	}
+
+	public BatchRetryMetrics getBatchRetryMetrics() {
+		return batchRetryMetrics;
+	}
+
+	/**
+	 * Sets how long a load by key waits for concurrent loads of the same table,
+	 * so that they are read with a single BatchGetItem request. Defaults to zero,
+	 * i.e. every load is a GetItem request of its own.
+	 *
+	 * @param loadBatchWindow
+	 *            must not be {@literal null} or negative
+	 */
+	public void setLoadBatchWindow(Duration loadBatchWindow) {
+		Assert.notNull(loadBatchWindow, "loadBatchWindow must not be null!");
+		Assert.isTrue(!loadBatchWindow.isNegative(), "loadBatchWindow must not be negative!");
+		loadBatcher.setWindowNanos(loadBatchWindow.toNanos());
+	}
+
+	/**
+	 * Sets the number of distinct keys after which concurrent loads are read
+	 * right away instead of waiting for the {@link #setLoadBatchWindow(Duration)
+	 * load batch window} to pass. Defaults to {@value #MAX_BATCH_GET_SIZE}.
+	 *
+	 * @param maxLoadBatchSize
+	 *            between 1 and {@value #MAX_BATCH_GET_SIZE}
+	 */
+	public void setMaxLoadBatchSize(int maxLoadBatchSize) {
+		Assert.isTrue(maxLoadBatchSize > 0 && maxLoadBatchSize <= MAX_BATCH_GET_SIZE,
+				"maxLoadBatchSize must be between 1 and " + MAX_BATCH_GET_SIZE + "!");
+		loadBatcher.setMaxBatchSize(maxLoadBatchSize);
+	}
+
+	/**
+	 * Sets how long a load that joined a batch waits for the BatchGetItem request
+	 * of the batch before it fails with a
+	 * {@link org.springframework.dao.QueryTimeoutException}. Defaults to one
+	 * minute.
+	 *
+	 * @param loadBatchTimeout
+	 *            must not be {@literal null}, and must be positive
+	 */
+	public void setLoadBatchTimeout(Duration loadBatchTimeout) {
+		Assert.notNull(loadBatchTimeout, "loadBatchTimeout must not be null!");
+		Assert.isTrue(!loadBatchTimeout.isNegative() && !loadBatchTimeout.isZero(),
+				"loadBatchTimeout must be positive!");
+		loadBatcher.setTimeoutNanos(loadBatchTimeout.toNanos());
+	}
+
+	/**
+	 * Sets whether identical loads by key and identical query page requests that
+	 * are in flight at the same time share a single request and its result.
+	 * Defaults to {@literal false}.
+	 */
+	public void setCoalesceReads(boolean coalesceReads) {
+		readCoalescer.setEnabled(coalesceReads);
+	}
+
+	/**
+	 * Sets how long loads and existence checks by key answer that a key does not
+	 * exist without reading it again, after it was found missing. Saving the key
+	 * through this template, or through an {@link AsyncDynamoDBTemplate} sharing
+	 * its caches, ends that right away. Defaults to zero, i.e. missing keys are
+	 * not remembered.
+	 *
+	 * @see AsyncDynamoDBTemplate#setCachingTemplate(DynamoDBTemplate)
+	 *
+	 * @param missingKeyTimeToLive
+	 *            must not be {@literal null} or negative
+	 */
+	public void setMissingKeyTimeToLive(Duration missingKeyTimeToLive) {
+		Assert.notNull(missingKeyTimeToLive, "missingKeyTimeToLive must not be null!");
+		Assert.isTrue(!missingKeyTimeToLive.isNegative(), "missingKeyTimeToLive must not be negative!");
+		missingKeys.setTimeToLiveNanos(missingKeyTimeToLive.toNanos());
+	}
+
+	/**
+	 * @param maxMissingKeys
+	 *            upper bound of missing keys that are remembered; the oldest ones
+	 *            are forgotten first. Defaults to
+	 *            {@value #DEFAULT_MAX_MISSING_KEYS}.
+	 */
+	public void setMaxMissingKeys(int maxMissingKeys) {
+		Assert.isTrue(maxMissingKeys > 0, "maxMissingKeys must be positive!");
+		missingKeys.setMaxSize(maxMissingKeys);
+	}
+
+	/**
+	 * @return the statistics of the cache of
+	 *         {@link org.socialsignin.spring.data.dynamodb.repository.DynamoDBCacheable}
+	 *         entities
+	 */
+	public EntityCacheMetrics getEntityCacheMetrics() {
+		return entityCache.getMetrics();
+	}
+
+	@Override
+	public QueryResultCache getQueryResultCache() {
+		return queryResultCache;
+	}
+
+	/**
+	 * @param maxCachedTables
+	 *            upper bound of introspected table schemas and of table handles
+	 *            that are cached; further ones are created on every call
+	 */
+	public void setMaxCachedTables(int maxCachedTables) {
+		Assert.isTrue(maxCachedTables >= 0, "maxCachedTables must not be negative!");
+		this.maxCachedTables = maxCachedTables;
+	}
+
+	@SuppressWarnings("unchecked")
 	@Override
 	public <T> DynamoDbTable<T> getDynamoDbTable(Class<T> domainClass, String tableName) {
-		return dynamoDBMapper.table(tableName, TableSchema.fromBean(domainClass));
+		TableKey key = new TableKey(domainClass, tableName);
+		DynamoDbTable<T> table = (DynamoDbTable<T>) tables.get(key);
+		if (table == null) {
+			table = dynamoDBMapper.table(tableName, getTableModel(domainClass));
+			if (table != null && tables.size() < maxCachedTables) {
+				DynamoDbTable<T> existing = (DynamoDbTable<T>) tables.putIfAbsent(key, table);
+				if (existing != null) {
+					table = existing;
+				}
+			}
+		}
+		return table;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
+	@SuppressWarnings("unchecked")
 	@Override
 	public <T> TableSchema<T> getTableModel(Class<T> domainClass) {
-		return TableSchema.fromBean(domainClass);
+		TableSchema<T> tableSchema = (TableSchema<T>) registeredTableSchemas.get(domainClass);
+		if (tableSchema == null) {
+			tableSchema = (TableSchema<T>) tableSchemas.get(domainClass);
+		}
+		if (tableSchema == null) {
+			tableSchema = TableSchema.fromBean(domainClass);
+			if (tableSchemas.size() < maxCachedTables) {
+				TableSchema<T> existing = (TableSchema<T>) tableSchemas.putIfAbsent(domainClass, tableSchema);
+				if (existing != null) {
+					tableSchema = existing;
+				}
+			}
+		}
+		return tableSchema;
+	}
+
+	/**
+	 * @return a new instance with the same attributes as the given item
+	 */
+	static <T> T copyItem(TableSchema<T> tableSchema, T item) {
+		return tableSchema.mapToItem(tableSchema.itemToMap(item, true));
 	}
 
 	protected <T> void maybeEmitEvent(@Nullable T source, Function<T, DynamoDBMappingEvent<T>> factory) {
-		if (eventPublisher != null) {
-			if (source != null) {
-				DynamoDBMappingEvent<T> event = factory.apply(source);
+		MappingEventSupport.maybeEmitEvent(eventPublisher, source, factory);
+	}
 
-				eventPublisher.publishEvent(event);
+	static final class TableKey {
+		private final Class<?> domainClass;
+		private final String tableName;
+
+		TableKey(Class<?> domainClass, String tableName) {
+			this.domainClass = domainClass;
+			this.tableName = tableName;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof TableKey)) {
+				return false;
 			}
+			TableKey that = (TableKey) o;
+			return domainClass.equals(that.domainClass) && tableName.equals(that.tableName);
 		}
 
+		@Override
+		public int hashCode() {
+			return Objects.hash(domainClass, tableName);
+		}
 	}
 }
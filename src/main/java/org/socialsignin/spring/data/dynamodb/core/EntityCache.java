@@ -0,0 +1,189 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.socialsignin.spring.data.dynamodb.repository.DynamoDBCacheable;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size and time bounded cache of the items of {@link DynamoDBCacheable}
+ * entities. Items are kept as attribute maps and mapped again on every hit, so
+ * that callers never share an entity instance. There is one region per table
+ * name, which is evicted on writes no matter whether the written entity class
+ * is cacheable. Keys are compared like {@link LoadBatcher} does, so number
+ * values match no matter how they are written.
+ * <p>
+ * Hits are no reads, so no
+ * {@link org.socialsignin.spring.data.dynamodb.mapping.event.AfterLoadEvent}
+ * is published for them. The cached attributes are those of the item after the
+ * listeners of its load ran.
+ */
+final class EntityCache {
+
+	private final Map<String, Region> regions = new ConcurrentHashMap<>();
+	private final EntityCacheMetrics metrics = new EntityCacheMetrics();
+	private final AtomicLong writes = new AtomicLong();
+
+	EntityCacheMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * @return a marker to pass to {@link #put(DynamoDbTable, Object, long)} once
+	 *         the read is done
+	 */
+	long startRead() {
+		return writes.get();
+	}
+
+	boolean isCacheable(DynamoDbTable<?> table) {
+		return getSettings(table) != null;
+	}
+
+	@Nullable
+	<T> T get(DynamoDbTable<T> table, Key key) {
+		Region region = getRegion(table);
+		if (region == null) {
+			return null;
+		}
+
+		Map<String, AttributeValue> attributes = region.get(LoadBatcher.identityOf(key));
+		if (attributes == null) {
+			metrics.recordMiss();
+			return null;
+		}
+		metrics.recordHit();
+		return table.tableSchema().mapToItem(attributes);
+	}
+
+	/**
+	 * Caches the item unless a write happened while it was read, which might have
+	 * changed the item after it had been read.
+	 */
+	<T> void put(DynamoDbTable<T> table, @Nullable T item, long readStart) {
+		Region region = getRegion(table);
+		if (region != null && item != null) {
+			region.put(LoadBatcher.identityOf(table.keyFrom(item)), table.tableSchema().itemToMap(item, true),
+					readStart);
+		}
+	}
+
+	void evict(DynamoDbTable<?> table, Key key) {
+		evict(table.tableName(), key);
+	}
+
+	void evict(String tableName, Key key) {
+		writes.incrementAndGet();
+		Region region = regions.isEmpty() ? null : regions.get(tableName);
+		if (region != null) {
+			region.remove(LoadBatcher.identityOf(key));
+		}
+	}
+
+	<T> void evictItem(DynamoDbTable<T> table, @Nullable T item) {
+		if (item != null && !regions.isEmpty()) {
+			evict(table, table.keyFrom(item));
+		} else {
+			// A load in flight may still create the region of the table
+			writes.incrementAndGet();
+		}
+	}
+
+	@Nullable
+	private Region getRegion(DynamoDbTable<?> table) {
+		DynamoDBCacheable settings = getSettings(table);
+		if (settings == null) {
+			return null;
+		}
+		return regions.computeIfAbsent(table.tableName(), tableName -> new Region(settings.maxSize(),
+				settings.timeUnit().toNanos(settings.timeToLive())));
+	}
+
+	@Nullable
+	private static DynamoDBCacheable getSettings(DynamoDbTable<?> table) {
+		return AnnotationUtils.findAnnotation(table.tableSchema().itemType().rawClass(), DynamoDBCacheable.class);
+	}
+
+	private final class Region {
+		private final long timeToLiveNanos;
+		private final LinkedHashMap<List<Object>, CachedItem> items;
+
+		private Region(int maxSize, long timeToLiveNanos) {
+			Assert.isTrue(maxSize > 0, "maxSize must be positive!");
+			Assert.isTrue(timeToLiveNanos > 0, "timeToLive must be positive!");
+
+			this.timeToLiveNanos = timeToLiveNanos;
+			// Access order turns the map into a least recently used cache
+			this.items = new LinkedHashMap<List<Object>, CachedItem>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<List<Object>, CachedItem> eldest) {
+					if (size() > maxSize) {
+						metrics.recordEviction();
+						return true;
+					}
+					return false;
+				}
+			};
+		}
+
+		@Nullable
+		synchronized Map<String, AttributeValue> get(List<Object> key) {
+			CachedItem item = items.get(key);
+			if (item == null) {
+				return null;
+			}
+			if (System.nanoTime() - item.loadedNanos >= timeToLiveNanos) {
+				items.remove(key);
+				metrics.recordEviction();
+				return null;
+			}
+			return item.attributes;
+		}
+
+		synchronized void put(List<Object> key, Map<String, AttributeValue> attributes, long readStart) {
+			if (writes.get() == readStart) {
+				items.put(key, new CachedItem(attributes, System.nanoTime()));
+			}
+		}
+
+		synchronized void remove(List<Object> key) {
+			items.remove(key);
+		}
+	}
+
+	private static final class CachedItem {
+		private final Map<String, AttributeValue> attributes;
+		private final long loadedNanos;
+
+		private CachedItem(Map<String, AttributeValue> attributes, long loadedNanos) {
+			this.attributes = attributes;
+			this.loadedNanos = loadedNanos;
+		}
+	}
+}
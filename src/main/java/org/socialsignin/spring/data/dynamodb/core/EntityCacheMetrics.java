@@ -0,0 +1,65 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters about the entity cache of a {@link DynamoDBTemplate}.
+ *
+ * @see org.socialsignin.spring.data.dynamodb.repository.DynamoDBCacheable
+ */
+public class EntityCacheMetrics {
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	void recordHit() {
+		hits.incrementAndGet();
+	}
+
+	void recordMiss() {
+		misses.incrementAndGet();
+	}
+
+	void recordEviction() {
+		evictions.incrementAndGet();
+	}
+
+	/**
+	 * @return the number of items that were served from the cache
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * @return the number of cacheable items that had to be read from DynamoDB
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * @return the number of items removed from the cache because it was full or
+	 *         because their time to live had passed
+	 */
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+}
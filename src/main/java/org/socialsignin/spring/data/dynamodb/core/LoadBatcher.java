@@ -0,0 +1,196 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.lang.Nullable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Collects concurrent loads by key of the same table and reads them with a
+ * single BatchGetItem request. The first load of a batch waits for the batch
+ * window to pass, or until the batch is full, and then sends the request for
+ * all loads that joined in the meantime. No additional threads are involved.
+ * The other loads wait for the request of the first one at most for the
+ * timeout.
+ */
+final class LoadBatcher {
+
+	private final DynamoDBTemplate template;
+	private final Map<DynamoDBTemplate.TableKey, Batch<?>> pending = new HashMap<>();
+	private volatile long windowNanos;
+	private volatile int maxBatchSize = DynamoDBTemplate.MAX_BATCH_GET_SIZE;
+	private volatile long timeoutNanos = TimeUnit.MINUTES.toNanos(1);
+
+	LoadBatcher(DynamoDBTemplate template) {
+		this.template = template;
+	}
+
+	void setWindowNanos(long windowNanos) {
+		this.windowNanos = windowNanos;
+	}
+
+	void setMaxBatchSize(int maxBatchSize) {
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	void setTimeoutNanos(long timeoutNanos) {
+		this.timeoutNanos = timeoutNanos;
+	}
+
+	boolean isEnabled() {
+		return windowNanos > 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Nullable
+	<T> T load(DynamoDbTable<T> table, Key key) {
+		DynamoDBTemplate.TableKey tableKey = new DynamoDBTemplate.TableKey(
+				table.tableSchema().itemType().rawClass(), table.tableName());
+		CompletableFuture<T> future = new CompletableFuture<>();
+
+		Batch<T> batch;
+		boolean leader = false;
+		boolean full;
+		synchronized (pending) {
+			batch = (Batch<T>) pending.get(tableKey);
+			if (batch == null) {
+				batch = new Batch<>(table);
+				pending.put(tableKey, batch);
+				leader = true;
+			}
+			batch.add(key, future);
+			full = batch.size() >= maxBatchSize;
+			if (full) {
+				pending.remove(tableKey);
+			}
+		}
+
+		if (full) {
+			batch.full.countDown();
+			dispatch(batch);
+		} else if (leader) {
+			try {
+				batch.full.await(windowNanos, TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			boolean dispatch;
+			synchronized (pending) {
+				dispatch = pending.remove(tableKey, batch);
+			}
+			if (dispatch) {
+				dispatch(batch);
+			}
+		}
+
+		try {
+			return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			} else if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw new IllegalStateException("Batch load of " + key + " failed", e.getCause());
+		} catch (TimeoutException e) {
+			throw new QueryTimeoutException("Batch load of " + key + " did not complete in time", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for the batch load of " + key, e);
+		}
+	}
+
+	private <T> void dispatch(Batch<T> batch) {
+		Throwable failure = null;
+		try {
+			List<Key> keys = new ArrayList<>(batch.keys.values());
+			for (T item : template.batchGetItems(batch.table, keys)) {
+				List<CompletableFuture<T>> futures = batch.futures.remove(identityOf(batch.table.keyFrom(item)));
+				if (futures != null) {
+					complete(batch.table.tableSchema(), item, futures);
+				}
+			}
+			batch.futures.values().forEach(futures -> futures.forEach(future -> future.complete(null)));
+		} catch (Throwable e) {
+			failure = e;
+		} finally {
+			// No load of the batch may be left waiting, whatever went wrong
+			Throwable cause = failure != null ? failure : new IllegalStateException("Batch load was not completed");
+			batch.futures.values().forEach(futures -> futures.forEach(future -> future.completeExceptionally(cause)));
+		}
+	}
+
+	/**
+	 * Loads of the same key get an entity instance of their own each.
+	 */
+	private static <T> void complete(TableSchema<T> tableSchema, T item, List<CompletableFuture<T>> futures) {
+		futures.get(0).complete(item);
+		for (CompletableFuture<T> future : futures.subList(1, futures.size())) {
+			future.complete(DynamoDBTemplate.copyItem(tableSchema, item));
+		}
+	}
+
+	/**
+	 * DynamoDB returns numbers in their canonical form, which is not necessarily
+	 * the form used in the requested key.
+	 */
+	static List<Object> identityOf(Key key) {
+		return Arrays.asList(normalize(key.partitionKeyValue()),
+				key.sortKeyValue().map(LoadBatcher::normalize).orElse(null));
+	}
+
+	private static Object normalize(AttributeValue value) {
+		return value.n() != null ? new BigDecimal(value.n()).stripTrailingZeros() : value;
+	}
+
+	private static final class Batch<T> {
+		private final DynamoDbTable<T> table;
+		private final Map<List<Object>, Key> keys = new LinkedHashMap<>();
+		private final Map<List<Object>, List<CompletableFuture<T>>> futures = new HashMap<>();
+		private final CountDownLatch full = new CountDownLatch(1);
+
+		private Batch(DynamoDbTable<T> table) {
+			this.table = table;
+		}
+
+		private void add(Key key, CompletableFuture<T> future) {
+			List<Object> identity = identityOf(key);
+			keys.putIfAbsent(identity, key);
+			futures.computeIfAbsent(identity, it -> new ArrayList<>()).add(future);
+		}
+
+		private int size() {
+			return keys.size();
+		}
+	}
+}
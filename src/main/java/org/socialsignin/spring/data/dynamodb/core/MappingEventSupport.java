@@ -0,0 +1,43 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.socialsignin.spring.data.dynamodb.mapping.event.DynamoDBMappingEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.Nullable;
+
+import java.util.function.Function;
+
+/**
+ * Publishes the {@link DynamoDBMappingEvent}s of the blocking and the
+ * asynchronous template the same way.
+ */
+final class MappingEventSupport {
+
+	private MappingEventSupport() {
+	}
+
+	static <T> void maybeEmitEvent(@Nullable ApplicationEventPublisher eventPublisher, @Nullable T source,
+			Function<T, DynamoDBMappingEvent<T>> factory) {
+		if (eventPublisher != null) {
+			if (source != null) {
+				DynamoDBMappingEvent<T> event = factory.apply(source);
+
+				eventPublisher.publishEvent(event);
+			}
+		}
+	}
+}
@@ -0,0 +1,132 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers for a short time which keys did not exist when they were read, so
+ * that repeated reads of missing keys are answered without a request. A key is
+ * forgotten as soon as it is saved through the same template, or through an
+ * {@link AsyncDynamoDBTemplate} sharing its caches. A bounded map is
+ * used instead of a Bloom filter, as single keys need to be removed again.
+ */
+final class MissingKeyCache {
+
+	private final AtomicLong writes = new AtomicLong();
+	private final LinkedHashMap<List<Object>, Long> missingKeys = new LinkedHashMap<List<Object>, Long>() {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<List<Object>, Long> eldest) {
+			return size() > maxSize;
+		}
+	};
+	private volatile long timeToLiveNanos;
+	private volatile int maxSize = DynamoDBTemplate.DEFAULT_MAX_MISSING_KEYS;
+
+	void setTimeToLiveNanos(long timeToLiveNanos) {
+		this.timeToLiveNanos = timeToLiveNanos;
+		if (timeToLiveNanos == 0) {
+			synchronized (missingKeys) {
+				missingKeys.clear();
+			}
+		}
+	}
+
+	void setMaxSize(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	boolean isEnabled() {
+		return timeToLiveNanos > 0;
+	}
+
+	/**
+	 * @return a marker to pass to {@link #recordMissing(DynamoDbTable, Key, long)}
+	 *         once the read is done
+	 */
+	long startRead() {
+		return writes.get();
+	}
+
+	boolean isMissing(DynamoDbTable<?> table, Key key) {
+		if (!isEnabled()) {
+			return false;
+		}
+
+		List<Object> identity = identityOf(table, key);
+		synchronized (missingKeys) {
+			Long recordedNanos = missingKeys.get(identity);
+			if (recordedNanos == null) {
+				return false;
+			}
+			if (System.nanoTime() - recordedNanos >= timeToLiveNanos) {
+				missingKeys.remove(identity);
+				return false;
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Remembers the key unless a save happened while it was read, which might
+	 * have created the item after it had been looked up.
+	 */
+	void recordMissing(DynamoDbTable<?> table, Key key, long readStart) {
+		if (!isEnabled()) {
+			return;
+		}
+
+		List<Object> identity = identityOf(table, key);
+		synchronized (missingKeys) {
+			if (writes.get() == readStart) {
+				missingKeys.put(identity, System.nanoTime());
+			}
+		}
+	}
+
+	void recordWritten(DynamoDbTable<?> table, Key key) {
+		recordWritten(table.tableName(), key);
+	}
+
+	void recordWritten(String tableName, Key key) {
+		if (!isEnabled()) {
+			return;
+		}
+
+		List<Object> identity = identityOf(tableName, key);
+		synchronized (missingKeys) {
+			writes.incrementAndGet();
+			missingKeys.remove(identity);
+		}
+	}
+
+	private static List<Object> identityOf(DynamoDbTable<?> table, Key key) {
+		return identityOf(table.tableName(), key);
+	}
+
+	private static List<Object> identityOf(String tableName, Key key) {
+		return Arrays.asList(tableName, LoadBatcher.identityOf(key));
+	}
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Merges the pages of the segments of a parallel scan in the order they
+ * arrive. Each segment prefetches at most one page ahead of the consumer, so a
+ * slow or abandoned consumer never piles up pages in memory or blocks a thread
+ * of the executor.
+ *
+ * @param <T>
+ *            the type of the scanned items
+ */
+final class ParallelScanPageIterable<T> implements SdkIterable<Page<T>> {
+
+	private final List<SdkIterable<Page<T>>> segments;
+	private final Executor executor;
+
+	ParallelScanPageIterable(List<SdkIterable<Page<T>>> segments, Executor executor) {
+		this.segments = segments;
+		this.executor = executor;
+	}
+
+	@Override
+	public Iterator<Page<T>> iterator() {
+		return new MergingIterator();
+	}
+
+	private final class MergingIterator implements Iterator<Page<T>> {
+
+		private final List<Segment> active = new ArrayList<>();
+		private Page<T> nextPage;
+
+		private MergingIterator() {
+			for (SdkIterable<Page<T>> segment : segments) {
+				active.add(new Segment(segment.iterator()));
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (nextPage == null && !active.isEmpty()) {
+				join(CompletableFuture.anyOf(active.stream().map(segment -> segment.next)
+						.toArray(CompletableFuture[]::new)));
+
+				Iterator<Segment> it = active.iterator();
+				while (it.hasNext() && nextPage == null) {
+					Segment segment = it.next();
+					if (segment.next.isDone()) {
+						Page<T> page = join(segment.next);
+						if (page == null) {
+							it.remove();
+						} else {
+							nextPage = page;
+							segment.fetch();
+						}
+					}
+				}
+			}
+			return nextPage != null;
+		}
+
+		@Override
+		public Page<T> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Page<T> page = nextPage;
+			nextPage = null;
+			return page;
+		}
+	}
+
+	private final class Segment {
+
+		private final Iterator<Page<T>> pages;
+		private CompletableFuture<Page<T>> next;
+
+		private Segment(Iterator<Page<T>> pages) {
+			this.pages = pages;
+			fetch();
+		}
+
+		private void fetch() {
+			next = CompletableFuture.supplyAsync(() -> pages.hasNext() ? pages.next() : null, executor);
+		}
+	}
+
+	private static <R> R join(CompletableFuture<R> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Cache of query method results of a {@link DynamoDBTemplate}, with one region
+ * per query method. All regions of a table are evicted when the template
+ * writes to that table.
+ * <p>
+ * Results are cached per argument values, which are compared by their
+ * {@code equals} methods. Every caller gets its own copies of the entities of a
+ * result, so that modifying them does not change the cached result.
+ *
+ * @see org.socialsignin.spring.data.dynamodb.repository.CachedQuery
+ */
+public class QueryResultCache {
+
+	private final Map<Object, Region> regions = new ConcurrentHashMap<>();
+	private final Map<String, AtomicLong> tableVersions = new ConcurrentHashMap<>();
+
+	/**
+	 * @param tableName
+	 *            the table the query reads from
+	 * @param tableSchema
+	 *            the schema of the entities of the table, used to copy them, or
+	 *            {@code null} to share the entities of cached results
+	 * @param queryMethod
+	 *            identifies the region of the query method
+	 * @param arguments
+	 *            the argument values the query is run with
+	 * @param maxSize
+	 *            the maximum number of results kept for the query method
+	 * @param timeToLiveNanos
+	 *            how long results are served from the cache
+	 * @param query
+	 *            runs the query on a cache miss
+	 * @return the cached or the new result of the query
+	 */
+	@Nullable
+	public Object get(String tableName, @Nullable TableSchema<?> tableSchema, Object queryMethod,
+			List<Object> arguments, int maxSize, long timeToLiveNanos, Supplier<Object> query) {
+		Region region = regions.computeIfAbsent(queryMethod, it -> new Region(tableName, maxSize, timeToLiveNanos));
+		CachedResult cached = region.get(arguments);
+		if (cached != null) {
+			return copy(tableSchema, cached.result);
+		}
+
+		// A write while the query runs may or may not be part of its result
+		long version = getTableVersion(tableName).get();
+		Object result = query.get();
+		region.put(arguments, new CachedResult(copy(tableSchema, result), System.nanoTime()),
+				() -> getTableVersion(tableName).get() == version);
+		return result;
+	}
+
+	/**
+	 * @return the given result with copies of its entities, which are the result
+	 *         itself, or the elements of a list, slice or page, or the value of an
+	 *         optional
+	 */
+	@Nullable
+	private static <T> Object copy(@Nullable TableSchema<T> tableSchema, @Nullable Object result) {
+		if (tableSchema == null || result == null) {
+			return result;
+		}
+		Class<T> itemType = tableSchema.itemType().rawClass();
+		if (itemType.isInstance(result)) {
+			return DynamoDBTemplate.copyItem(tableSchema, itemType.cast(result));
+		} else if (result instanceof List) {
+			return ((List<?>) result).stream().map(element -> copy(tableSchema, element))
+					.collect(Collectors.toList());
+		} else if (result instanceof Slice) {
+			// Pages map to pages
+			return ((Slice<?>) result).map(element -> copy(tableSchema, element));
+		} else if (result instanceof Optional) {
+			return ((Optional<?>) result).map(value -> copy(tableSchema, value));
+		}
+		return result;
+	}
+
+	/**
+	 * Evicts the results of all query methods reading from the given table.
+	 */
+	void evict(String tableName) {
+		if (regions.isEmpty()) {
+			return;
+		}
+		getTableVersion(tableName).incrementAndGet();
+		regions.values().stream().filter(region -> region.tableName.equals(tableName)).forEach(Region::clear);
+	}
+
+	private AtomicLong getTableVersion(String tableName) {
+		return tableVersions.computeIfAbsent(tableName, it -> new AtomicLong());
+	}
+
+	private static final class Region {
+		private final String tableName;
+		private final long timeToLiveNanos;
+		private final LinkedHashMap<List<Object>, CachedResult> results;
+
+		private Region(String tableName, int maxSize, long timeToLiveNanos) {
+			Assert.isTrue(maxSize > 0, "maxSize must be positive!");
+			Assert.isTrue(timeToLiveNanos > 0, "timeToLive must be positive!");
+
+			this.tableName = tableName;
+			this.timeToLiveNanos = timeToLiveNanos;
+			this.results = new LinkedHashMap<List<Object>, CachedResult>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<List<Object>, CachedResult> eldest) {
+					return size() > maxSize;
+				}
+			};
+		}
+
+		@Nullable
+		synchronized CachedResult get(List<Object> arguments) {
+			CachedResult cached = results.get(arguments);
+			if (cached != null && System.nanoTime() - cached.createdNanos >= timeToLiveNanos) {
+				results.remove(arguments);
+				return null;
+			}
+			return cached;
+		}
+
+		synchronized void put(List<Object> arguments, CachedResult result, Supplier<Boolean> stillValid) {
+			if (stillValid.get()) {
+				results.put(arguments, result);
+			}
+		}
+
+		synchronized void clear() {
+			results.clear();
+		}
+	}
+
+	private static final class CachedResult {
+		@Nullable
+		private final Object result;
+		private final long createdNanos;
+
+		private CachedResult(@Nullable Object result, long createdNanos) {
+			this.result = result;
+			this.createdNanos = createdNanos;
+		}
+	}
+}
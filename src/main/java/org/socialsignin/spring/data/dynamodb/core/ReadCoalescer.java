@@ -0,0 +1,93 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Lets identical reads that are in flight at the same time share a single
+ * request. The first caller sends the request, later callers wait for its
+ * result and get a copy of it, so that they never share entity instances.
+ */
+final class ReadCoalescer {
+
+	private final Map<Object, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+	private volatile boolean enabled;
+
+	void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @param request
+	 *            identifies the read, i.e. equal requests return equal results
+	 * @param read
+	 *            sends the request
+	 * @param copy
+	 *            copies the result for every caller but the one that sent the
+	 *            request
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable
+	<V> V read(Object request, Supplier<V> read, UnaryOperator<V> copy) {
+		if (!enabled) {
+			return read.get();
+		}
+
+		CompletableFuture<V> flight = new CompletableFuture<>();
+		CompletableFuture<V> existing = (CompletableFuture<V>) inFlight.putIfAbsent(request, flight);
+		if (existing != null) {
+			V result = join(existing);
+			return result != null ? copy.apply(result) : null;
+		}
+
+		try {
+			V result = read.get();
+			flight.complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(request, flight);
+		}
+	}
+
+	private static <V> V join(CompletableFuture<V> flight) {
+		try {
+			return flight.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.domain;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.Objects;
+
+/**
+ * Request for a page of a keyset paginated scan. Instead of a page number, the
+ * page is identified by the {@link ContinuationSlice#getContinuationToken()
+ * continuation token} of the previous page, so every page costs a single read
+ * regardless of how deep it is.
+ */
+public final class ContinuationPageRequest {
+
+	private final int pageSize;
+	private final String continuationToken;
+	private final boolean countTotal;
+
+	private ContinuationPageRequest(int pageSize, @Nullable String continuationToken, boolean countTotal) {
+		Assert.isTrue(pageSize > 0, "Page size must be positive!");
+
+		this.pageSize = pageSize;
+		this.continuationToken = continuationToken;
+		this.countTotal = countTotal;
+	}
+
+	/**
+	 * @return a request for the first page
+	 */
+	public static ContinuationPageRequest of(int pageSize) {
+		return new ContinuationPageRequest(pageSize, null, false);
+	}
+
+	/**
+	 * @param continuationToken
+	 *            the token of the previous page, {@literal null} for the first
+	 *            page
+	 */
+	public static ContinuationPageRequest of(int pageSize, @Nullable String continuationToken) {
+		return new ContinuationPageRequest(pageSize, continuationToken, false);
+	}
+
+	/**
+	 * @return a copy of this request that also counts all items of the table,
+	 *         which requires a full scan
+	 */
+	public ContinuationPageRequest withTotalCount() {
+		return new ContinuationPageRequest(pageSize, continuationToken, true);
+	}
+
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	@Nullable
+	public String getContinuationToken() {
+		return continuationToken;
+	}
+
+	public boolean isCountTotal() {
+		return countTotal;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof ContinuationPageRequest)) {
+			return false;
+		}
+		ContinuationPageRequest that = (ContinuationPageRequest) o;
+		return pageSize == that.pageSize && countTotal == that.countTotal
+				&& Objects.equals(continuationToken, that.continuationToken);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(pageSize, continuationToken, countTotal);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Continuation page request [size: %d, token: %s]", pageSize, continuationToken);
+	}
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link org.springframework.data.domain.Slice} of a keyset paginated scan that
+ * carries the token to request the following page with.
+ *
+ * @param <T>
+ *            The type of the list's elements
+ */
+public class ContinuationSlice<T> extends SliceImpl<T> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String continuationToken;
+	private final Long totalElements;
+
+	/**
+	 * @param continuationToken
+	 *            the token of the following page, {@literal null} if this is
+	 *            the last page
+	 * @param totalElements
+	 *            the number of items of the table, if it was counted
+	 */
+	public ContinuationSlice(List<T> content, int pageSize, @Nullable String continuationToken,
+			@Nullable Long totalElements) {
+		super(content, Pageable.ofSize(pageSize), continuationToken != null);
+
+		this.continuationToken = continuationToken;
+		this.totalElements = totalElements;
+	}
+
+	@Nullable
+	public String getContinuationToken() {
+		return continuationToken;
+	}
+
+	/**
+	 * @return the request for the following page, {@literal null} if this is
+	 *         the last page
+	 */
+	@Nullable
+	public ContinuationPageRequest nextPageRequest() {
+		return continuationToken == null
+				? null
+				: ContinuationPageRequest.of(getPageable().getPageSize(), continuationToken);
+	}
+
+	public Optional<Long> getTotalElements() {
+		return Optional.ofNullable(totalElements);
+	}
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.domain;
+
+import org.springframework.lang.Nullable;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Encodes the {@code LastEvaluatedKey} of a DynamoDB page into an opaque, URL
+ * safe token and back. Key attributes are always strings, numbers or binaries,
+ * so only these types are supported.
+ */
+public final class ContinuationToken {
+
+	private static final byte STRING = 'S';
+	private static final byte NUMBER = 'N';
+	private static final byte BINARY = 'B';
+
+	/**
+	 * Maximum length of a key attribute in DynamoDB, so no valid token declares
+	 * a longer binary.
+	 */
+	private static final int MAX_KEY_ATTRIBUTE_LENGTH = 2048;
+
+	private ContinuationToken() {
+	}
+
+	/**
+	 * @param lastEvaluatedKey
+	 *            the key a page ended at, may be {@literal null} or empty
+	 * @return the token or {@literal null} if there are no further pages
+	 */
+	@Nullable
+	public static String encode(@Nullable Map<String, AttributeValue> lastEvaluatedKey) {
+		if (lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()) {
+			return null;
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeShort(lastEvaluatedKey.size());
+			for (Map.Entry<String, AttributeValue> entry : lastEvaluatedKey.entrySet()) {
+				out.writeUTF(entry.getKey());
+				AttributeValue value = entry.getValue();
+				if (value.s() != null) {
+					out.writeByte(STRING);
+					out.writeUTF(value.s());
+				} else if (value.n() != null) {
+					out.writeByte(NUMBER);
+					out.writeUTF(value.n());
+				} else if (value.b() != null) {
+					byte[] binary = value.b().asByteArray();
+					out.writeByte(BINARY);
+					out.writeInt(binary.length);
+					out.write(binary);
+				} else {
+					throw new IllegalArgumentException(
+							"Key attribute " + entry.getKey() + " is neither a string, a number nor a binary");
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+	}
+
+	/**
+	 * @param token
+	 *            a token created by {@link #encode(Map)}, may be {@literal null}
+	 * @return the key to continue at, empty to start at the beginning
+	 * @throws IllegalArgumentException
+	 *             if the token is malformed
+	 */
+	public static Map<String, AttributeValue> decode(@Nullable String token) {
+		if (token == null || token.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+			int size = in.readUnsignedShort();
+			Map<String, AttributeValue> key = new LinkedHashMap<>();
+			for (int i = 0; i < size; i++) {
+				String name = in.readUTF();
+				byte type = in.readByte();
+				if (type == STRING) {
+					key.put(name, AttributeValue.fromS(in.readUTF()));
+				} else if (type == NUMBER) {
+					key.put(name, AttributeValue.fromN(in.readUTF()));
+				} else if (type == BINARY) {
+					int length = in.readInt();
+					// The length is client supplied, so it is checked before allocating
+					if (length < 0 || length > MAX_KEY_ATTRIBUTE_LENGTH || length > in.available()) {
+						throw new IllegalArgumentException("Malformed continuation token: " + token);
+					}
+					byte[] binary = new byte[length];
+					in.readFully(binary);
+					key.put(name, AttributeValue.fromB(SdkBytes.fromByteArray(binary)));
+				} else {
+					throw new IllegalArgumentException("Malformed continuation token: " + token);
+				}
+			}
+			if (in.available() > 0) {
+				throw new IllegalArgumentException("Malformed continuation token: " + token);
+			}
+			return key;
+		} catch (IOException | IllegalArgumentException e) {
+			throw new IllegalArgumentException("Malformed continuation token: " + token, e);
+		}
+	}
+}
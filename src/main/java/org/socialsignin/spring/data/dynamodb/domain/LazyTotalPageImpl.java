@@ -0,0 +1,89 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.domain;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.util.Lazy;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * {@link Page} implementation whose total is only determined once
+ * {@link #getTotalElements()} or {@link #getTotalPages()} is called. Whether
+ * there is a following page is known up front, so navigating the pages does
+ * not require the total. A serialized page is written as a {@link PageImpl}
+ * with the total resolved, as the count query cannot be serialized.
+ *
+ * @param <T>
+ *            The type of the list's elements
+ */
+public class LazyTotalPageImpl<T> extends SliceImpl<T> implements Page<T> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient Lazy<Long> total;
+
+	/**
+	 * @param hasNext
+	 *            whether there are further elements after this page
+	 * @param totalSupplier
+	 *            computes the total number of elements, called at most once
+	 */
+	public LazyTotalPageImpl(List<T> content, Pageable pageable, boolean hasNext, LongSupplier totalSupplier) {
+		this(content, pageable, hasNext, Lazy.of(() -> hasNext || (content.isEmpty() && pageable.getOffset() > 0)
+				? totalSupplier.getAsLong()
+				// The last page tells the total without counting
+				: pageable.getOffset() + content.size()));
+	}
+
+	private LazyTotalPageImpl(List<T> content, Pageable pageable, boolean hasNext, Lazy<Long> total) {
+		super(content, pageable, hasNext);
+		this.total = total;
+	}
+
+	@Override
+	public int getTotalPages() {
+		return getSize() == 0 ? 1 : (int) Math.ceil((double) getTotalElements() / (double) getSize());
+	}
+
+	@Override
+	public long getTotalElements() {
+		return total.get();
+	}
+
+	@Override
+	public <U> LazyTotalPageImpl<U> map(Function<? super T, ? extends U> converter) {
+		List<U> convertedContent = getContent().stream().map(converter).collect(Collectors.toList());
+
+		return new LazyTotalPageImpl<>(convertedContent, getPageable(), hasNext(), total);
+	}
+
+	private Object writeReplace() {
+		return new PageImpl<>(getContent(), getPageable(), getTotalElements());
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Page %s containing %s instances", getNumber() + 1,
+				hasContent() ? getContent().get(0).getClass().getName() : "UNKNOWN");
+	}
+}
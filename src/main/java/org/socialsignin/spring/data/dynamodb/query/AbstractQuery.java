@@ -15,6 +15,8 @@
  */
 package org.socialsignin.spring.data.dynamodb.query;
 
+import org.springframework.util.Assert;
+
 /**
  * {@link org.socialsignin.spring.data.dynamodb.mapping.DynamoDBPersistentProperty}
  * implementation
@@ -47,4 +49,32 @@ public abstract class AbstractQuery<T> implements Query<T> {
 		return scanEnabled;
 	}
 
+	protected void assertScanEnabled() {
+		assertScanEnabled(scanEnabled);
+	}
+
+	protected void assertScanCountEnabled(boolean pageQuery) {
+		assertScanCountEnabled(scanCountEnabled, pageQuery);
+	}
+
+	static void assertScanEnabled(boolean scanEnabled) {
+		Assert.isTrue(scanEnabled, "Scanning for this query is not enabled.  "
+				+ "To enable annotate your repository method with @EnableScan, or "
+				+ "enable scanning for all repository methods by annotating your repository interface with @EnableScan");
+	}
+
+	static void assertScanCountEnabled(boolean scanCountEnabled, boolean pageQuery) {
+		if (pageQuery) {
+			Assert.isTrue(scanCountEnabled, "Scanning for the total counts for this query is not enabled.  "
+					+ "To enable annotate your repository method with @EnableScanCount, or "
+					+ "enable scanning for all repository methods by annotating your repository interface with @EnableScanCount.  "
+					+ "This total count is required to serve this Page query - if total counts are not desired "
+					+ "an alternative approach could be to replace the Page query with a Slice query");
+		} else {
+			Assert.isTrue(scanCountEnabled, "Scanning for counts for this query is not enabled.  "
+					+ "To enable annotate your repository method with @EnableScanCount, or "
+					+ "enable scanning for all repository methods by annotating your repository interface with @EnableScanCount");
+		}
+	}
+
 }
@@ -0,0 +1,48 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+
+/**
+ * Non-blocking counterpart of {@link MultipleEntityScanRequestQuery}. The
+ * segments of the table are scanned one after the other.
+ */
+public class AsyncMultipleEntityScanRequestQuery<T> extends AbstractAsyncQuery<T> {
+
+	private final AsyncDynamoDBOperations asyncDynamoDBOperations;
+	private final Class<T> clazz;
+	private final ScanEnhancedRequest scanRequest;
+	private final DynamoDBEntityInformation<T, ?> entityInformation;
+
+	public AsyncMultipleEntityScanRequestQuery(AsyncDynamoDBOperations asyncDynamoDBOperations, Class<T> clazz,
+			ScanEnhancedRequest scanRequest, DynamoDBEntityInformation<T, ?> entityInformation) {
+		this.asyncDynamoDBOperations = asyncDynamoDBOperations;
+		this.clazz = clazz;
+		this.scanRequest = scanRequest;
+		this.entityInformation = entityInformation;
+	}
+
+	@Override
+	public SdkPublisher<T> getResultPublisher() {
+		assertScanEnabled();
+		return asyncDynamoDBOperations.scan(clazz, scanRequest, entityInformation).items();
+	}
+
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import software.amazon.awssdk.core.async.SdkPublisher;
+
+/**
+ * Non-blocking counterpart of {@link Query}.
+ *
+ * @param <T>
+ *            the type of the results
+ */
+public interface AsyncQuery<T> {
+
+	/**
+	 * Nothing is read before the returned publisher is subscribed to; afterwards
+	 * pages are only requested from DynamoDB as the subscriber signals demand.
+	 *
+	 * @return the results of the query
+	 */
+	SdkPublisher<T> getResultPublisher();
+
+	void setScanEnabled(boolean scanEnabled);
+	void setScanCountEnabled(boolean scanCountEnabled);
+	boolean isScanCountEnabled();
+	boolean isScanEnabled();
+
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Non-blocking counterpart of {@link ScanRequestExistsQuery}: scans the table
+ * until the first matching item is read.
+ */
+public class AsyncScanRequestExistsQuery<T> extends AbstractAsyncQuery<Boolean> {
+
+	private final AsyncDynamoDBOperations asyncDynamoDBOperations;
+	private final Class<T> domainClass;
+	private final ScanEnhancedRequest scanRequest;
+	private final DynamoDBEntityInformation<T, ?> entityInformation;
+
+	public AsyncScanRequestExistsQuery(AsyncDynamoDBOperations asyncDynamoDBOperations, Class<T> domainClass,
+			ScanEnhancedRequest scanRequest, DynamoDBEntityInformation<T, ?> entityInformation) {
+		this.asyncDynamoDBOperations = asyncDynamoDBOperations;
+		this.domainClass = domainClass;
+		this.scanRequest = scanRequest;
+		this.entityInformation = entityInformation;
+	}
+
+	@Override
+	public SdkPublisher<Boolean> getResultPublisher() {
+		assertScanEnabled();
+		return new AsyncSingleResultQuery<>(() -> {
+			AtomicBoolean found = new AtomicBoolean();
+			return asyncDynamoDBOperations.scan(domainClass, scanRequest, entityInformation).items().limit(1)
+					.subscribe(item -> found.set(true)).thenApply(done -> found.get());
+		}).getResultPublisher();
+	}
+
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.util.Assert;
+import software.amazon.awssdk.core.async.SdkPublisher;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * {@link AsyncQuery} with at most one result, such as loading an item by its
+ * key or counting items. The request is only sent once the subscriber requests
+ * the result; a {@literal null} result completes the publisher empty.
+ *
+ * @param <T>
+ *            the type of the result
+ */
+public class AsyncSingleResultQuery<T> extends AbstractAsyncQuery<T> {
+
+	private final Supplier<CompletableFuture<T>> request;
+
+	public AsyncSingleResultQuery(Supplier<CompletableFuture<T>> request) {
+		Assert.notNull(request, "request must not be null!");
+		this.request = request;
+	}
+
+	@Override
+	public SdkPublisher<T> getResultPublisher() {
+		return subscriber -> subscriber.onSubscribe(new SingleResultSubscription<>(subscriber, request));
+	}
+
+	private static final class SingleResultSubscription<T> implements Subscription {
+
+		private final Subscriber<? super T> subscriber;
+		private final Supplier<CompletableFuture<T>> request;
+		private final AtomicBoolean requested = new AtomicBoolean();
+		private volatile boolean cancelled;
+
+		private SingleResultSubscription(Subscriber<? super T> subscriber, Supplier<CompletableFuture<T>> request) {
+			this.subscriber = subscriber;
+			this.request = request;
+		}
+
+		@Override
+		public void request(long n) {
+			if (cancelled || !requested.compareAndSet(false, true)) {
+				return;
+			}
+			if (n <= 0) {
+				cancelled = true;
+				// Rule 3.9 of the Reactive Streams specification
+				subscriber.onError(new IllegalArgumentException("Requested " + n + " results, must be positive!"));
+				return;
+			}
+
+			CompletableFuture<T> result;
+			try {
+				result = request.get();
+			} catch (RuntimeException e) {
+				cancelled = true;
+				subscriber.onError(e);
+				return;
+			}
+			result.whenComplete((value, throwable) -> {
+				if (cancelled) {
+					return;
+				}
+				if (throwable != null) {
+					subscriber.onError(throwable instanceof CompletionException && throwable.getCause() != null
+							? throwable.getCause()
+							: throwable);
+					return;
+				}
+				if (value != null) {
+					subscriber.onNext(value);
+				}
+				if (!cancelled) {
+					subscriber.onComplete();
+				}
+			});
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+	}
+}
@@ -17,20 +17,30 @@ package org.socialsignin.spring.data.dynamodb.query;
 
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import org.springframework.lang.Nullable;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public class MultipleEntityQueryRequestQuery<T> extends AbstractMultipleEntityQuery<T> {
 
 	private DynamoDBOperations dynamoDBOperations;
+	private String indexName;
 	private QueryEnhancedRequest queryRequest;
 	private DynamoDBEntityInformation entityInformation;
 
 	public MultipleEntityQueryRequestQuery(
 			DynamoDBOperations dynamoDBOperations, Class<T> clazz, QueryEnhancedRequest queryRequest,
 			DynamoDBEntityInformation entityInformation) {
+		this(dynamoDBOperations, clazz, null, queryRequest, entityInformation);
+	}
+
+	public MultipleEntityQueryRequestQuery(
+			DynamoDBOperations dynamoDBOperations, Class<T> clazz, @Nullable String indexName,
+			QueryEnhancedRequest queryRequest, DynamoDBEntityInformation entityInformation) {
 		super(null, clazz);
+		this.indexName = indexName;
 		this.queryRequest = queryRequest;
 		this.dynamoDBOperations = dynamoDBOperations;
 		this.entityInformation = entityInformation;
@@ -38,7 +48,19 @@ public class MultipleEntityQueryRequestQuery<T> extends AbstractMultipleEntityQu
 
 	@Override
 	public List<T> getResultList() {
-		return dynamoDBOperations.query(clazz, queryRequest, entityInformation).items().stream().toList();
+		return getResultStream().toList();
+	}
+
+	/**
+	 * Result pages are only requested from DynamoDB as the stream advances, so
+	 * only a single page is held in memory at a time.
+	 */
+	@Override
+	public Stream<T> getResultStream() {
+		if (indexName == null) {
+			return dynamoDBOperations.query(clazz, queryRequest, entityInformation).items().stream();
+		}
+		return dynamoDBOperations.query(clazz, indexName, queryRequest, entityInformation).items().stream();
 	}
 
 }
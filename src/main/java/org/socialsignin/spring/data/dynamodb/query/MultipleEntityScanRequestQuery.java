@@ -0,0 +1,64 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Reads the items of a finder that can neither be served by the table key nor
+ * by an index, scanning the whole table. The segments of the table are scanned
+ * concurrently if the {@link DynamoDBOperations} are configured to do so, except
+ * for the {@link #getOrderedResultStream() ordered results}, as the pages of
+ * concurrently scanned segments are merged in the order they arrive.
+ */
+public class MultipleEntityScanRequestQuery<T> extends AbstractMultipleEntityQuery<T> {
+
+	private final ScanEnhancedRequest scanRequest;
+	private final DynamoDBEntityInformation<T, ?> entityInformation;
+
+	public MultipleEntityScanRequestQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz,
+			ScanEnhancedRequest scanRequest, DynamoDBEntityInformation<T, ?> entityInformation) {
+		super(dynamoDBOperations, clazz);
+		this.scanRequest = scanRequest;
+		this.entityInformation = entityInformation;
+	}
+
+	@Override
+	public List<T> getResultList() {
+		return getResultStream().toList();
+	}
+
+	/**
+	 * Result pages are only requested from DynamoDB as the stream advances.
+	 */
+	@Override
+	public Stream<T> getResultStream() {
+		assertScanEnabled();
+		return dynamoDBOperations.parallelScan(clazz, scanRequest, entityInformation).items().stream();
+	}
+
+	@Override
+	public Stream<T> getOrderedResultStream() {
+		assertScanEnabled();
+		return dynamoDBOperations.scan(clazz, scanRequest, entityInformation).items().stream();
+	}
+
+}
@@ -16,6 +16,7 @@
 package org.socialsignin.spring.data.dynamodb.query;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface Query<T> {
 
@@ -29,6 +30,28 @@ public interface Query<T> {
 	 */
 	List<T> getResultList();
 
+	/**
+	 * Execute a SELECT query and return the query results as a Stream. Unlike
+	 * {@link #getResultList()}, implementations may fetch the results lazily while
+	 * the stream is consumed.
+	 * 
+	 * @return a stream of the results
+	 */
+	default Stream<T> getResultStream() {
+		return getResultList().stream();
+	}
+
+	/**
+	 * Like {@link #getResultStream()}, but the results come in the same order on
+	 * every execution, so that a page can be read by skipping the results of the
+	 * pages before it.
+	 * 
+	 * @return a stream of the results
+	 */
+	default Stream<T> getOrderedResultStream() {
+		return getResultStream();
+	}
+
 	/**
 	 * Execute a SELECT query that returns a single result.
 	 * 
@@ -0,0 +1,35 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+
+public class QueryRequestExistsQuery extends AbstractSingleEntityQuery<Boolean> {
+
+	private final QueryRequest.Builder queryRequest;
+
+	public QueryRequestExistsQuery(DynamoDBOperations dynamoDBOperations, QueryRequest.Builder queryRequest) {
+		super(dynamoDBOperations, Boolean.class);
+		this.queryRequest = queryRequest;
+	}
+
+	@Override
+	public Boolean getSingleResult() {
+		return dynamoDBOperations.exists(clazz, queryRequest);
+	}
+
+}
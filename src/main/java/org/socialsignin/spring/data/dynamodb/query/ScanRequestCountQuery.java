@@ -0,0 +1,44 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+
+public class ScanRequestCountQuery<T> extends AbstractSingleEntityQuery<Long> {
+
+	private final Class<T> domainClass;
+	private final ScanRequest.Builder scanRequest;
+	private final DynamoDBEntityInformation<T, ?> entityInformation;
+	private final boolean pageQuery;
+
+	public ScanRequestCountQuery(DynamoDBOperations dynamoDBOperations, Class<T> domainClass,
+			ScanRequest.Builder scanRequest, DynamoDBEntityInformation<T, ?> entityInformation, boolean pageQuery) {
+		super(dynamoDBOperations, Long.class);
+		this.domainClass = domainClass;
+		this.scanRequest = scanRequest;
+		this.entityInformation = entityInformation;
+		this.pageQuery = pageQuery;
+	}
+
+	@Override
+	public Long getSingleResult() {
+		assertScanCountEnabled(pageQuery);
+		return Long.valueOf(dynamoDBOperations.count(domainClass, scanRequest, entityInformation));
+	}
+
+}
@@ -0,0 +1,48 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.NestedAttributeName;
+
+import java.util.List;
+
+/**
+ * Loads a single entity by its primary key, reading the projected attributes
+ * only.
+ */
+public class SingleEntityLoadByKeyQuery<T, ID> extends AbstractSingleEntityQuery<T> implements Query<T> {
+
+	private final Key key;
+	private final List<NestedAttributeName> attributesToProject;
+	private final DynamoDBEntityInformation<T, ID> entityInformation;
+
+	public SingleEntityLoadByKeyQuery(DynamoDBOperations dynamoDBOperations, Class<T> clazz, Key key,
+			List<NestedAttributeName> attributesToProject, DynamoDBEntityInformation<T, ID> entityInformation) {
+		super(dynamoDBOperations, clazz);
+		this.key = key;
+		this.attributesToProject = attributesToProject;
+		this.entityInformation = entityInformation;
+	}
+
+	@Override
+	public T getSingleResult() {
+		return dynamoDBOperations.load(key, attributesToProject, entityInformation);
+	}
+
+}
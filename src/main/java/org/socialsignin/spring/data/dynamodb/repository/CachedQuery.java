@@ -0,0 +1,59 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the results of the annotated query method per argument values. The
+ * cached results of a table are evicted whenever an entity of that table is
+ * written through the same
+ * {@link org.socialsignin.spring.data.dynamodb.core.DynamoDBTemplate}, or
+ * through an {@link org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBTemplate}
+ * sharing its caches. Writes by other processes, and by asynchronous templates
+ * that do not share the caches, are only seen once the results expired.
+ * <p>
+ * Methods returning a {@link java.util.stream.Stream} or an
+ * {@link java.lang.Iterable}, which are read lazily, and delete queries are
+ * never cached. Arguments are compared by their {@code equals} methods, so
+ * invocations with array arguments are not cached either, and arguments of
+ * other types should implement {@code equals} and {@code hashCode}. Every
+ * caller gets its own copies of the cached entities.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface CachedQuery {
+
+	/**
+	 * @return how long the results are served from the cache
+	 */
+	long timeToLive() default 60;
+
+	TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+	/**
+	 * @return the maximum number of distinct argument values whose results are
+	 *         kept in the cache
+	 */
+	int maxSize() default 100;
+
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the items of the annotated entity that are loaded by key in an
+ * in-process cache of the
+ * {@link org.socialsignin.spring.data.dynamodb.core.DynamoDBTemplate}. Items
+ * are evicted when they are saved or deleted through the same template or
+ * through an {@link org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBTemplate}
+ * sharing its caches, when the cache is full, or when their time to live has
+ * passed. Writes by other processes, and by asynchronous templates that do not
+ * share the caches, are only seen once the cached item expired.
+ *
+ * @see org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBTemplate#setCachingTemplate
+ * <p>
+ * Items served from the cache are not read, so no
+ * {@link org.socialsignin.spring.data.dynamodb.mapping.event.AfterLoadEvent}
+ * is published for them.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+@Documented
+public @interface DynamoDBCacheable {
+
+	/**
+	 * @return the maximum number of items of the table kept in the cache
+	 */
+	int maxSize() default 1000;
+
+	/**
+	 * @return how long an item is served from the cache after it was loaded
+	 */
+	long timeToLive() default 60;
+
+	TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+}
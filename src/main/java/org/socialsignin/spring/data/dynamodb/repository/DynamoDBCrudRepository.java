@@ -18,6 +18,8 @@ package org.socialsignin.spring.data.dynamodb.repository;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 
+import java.util.List;
+
 /**
  * DynamoDB specific extension of
  * {@link org.springframework.data.repository.Repository}.
@@ -28,4 +30,18 @@ import org.springframework.data.repository.NoRepositoryBean;
 @NoRepositoryBean
 public interface DynamoDBCrudRepository<T, ID> extends CrudRepository<T, ID> {
 
+	/**
+	 * Returns all instances of the type {@code T} with the given IDs. Repeated IDs
+	 * are loaded only once.
+	 *
+	 * @param ids
+	 *            must not be {@literal null} nor contain any {@literal null}
+	 *            values.
+	 * @param preserveOrder
+	 *            whether the entities are returned in the order of the given IDs;
+	 *            otherwise the order is undefined
+	 * @return the found entities, at most one per distinct ID
+	 */
+	List<T> findAllById(Iterable<ID> ids, boolean preserveOrder);
+
 }
@@ -15,6 +15,8 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository;
 
+import org.socialsignin.spring.data.dynamodb.domain.ContinuationPageRequest;
+import org.socialsignin.spring.data.dynamodb.domain.ContinuationSlice;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
@@ -28,4 +30,15 @@ import org.springframework.data.repository.PagingAndSortingRepository;
 @NoRepositoryBean
 public interface DynamoDBPagingAndSortingRepository<T, ID> extends PagingAndSortingRepository<T, ID> {
 
+	/**
+	 * Reads a single page of a table scan, continuing at the
+	 * {@link ContinuationPageRequest#getContinuationToken() continuation token}
+	 * of the previous page. Unlike {@link #findAll(org.springframework.data.domain.Pageable)},
+	 * the cost of a page does not grow with its depth.
+	 *
+	 * @param pageRequest
+	 *            must not be {@literal null}
+	 * @return the page and the token of the following page
+	 */
+	ContinuationSlice<T> findAll(ContinuationPageRequest pageRequest);
 }
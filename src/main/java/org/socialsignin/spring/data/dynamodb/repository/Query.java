@@ -21,6 +21,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import org.socialsignin.spring.data.dynamodb.repository.QueryConstants.ConsistentReadMode;
+import org.socialsignin.spring.data.dynamodb.repository.QueryConstants.TotalCountMode;
 import static org.socialsignin.spring.data.dynamodb.repository.QueryConstants.QUERY_LIMIT_UNLIMITED;
 
 @Retention(RetentionPolicy.RUNTIME)
@@ -61,6 +62,15 @@ public @interface Query {
 	 */
 	ConsistentReadMode consistentReads() default ConsistentReadMode.DEFAULT;
 
+	/**
+	 * How the total of a {@link org.springframework.data.domain.Page} returned
+	 * by the query is determined. Use {@link TotalCountMode#ESTIMATED} for
+	 * paginated methods that never need an exact total.
+	 *
+	 * @return TotalCountMode of the returned pages
+	 */
+	TotalCountMode totalCount() default TotalCountMode.LAZY;
+
 	/**
 	 * Set filter expressions for a query
 	 *
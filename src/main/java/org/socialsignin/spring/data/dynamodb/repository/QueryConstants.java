@@ -48,4 +48,22 @@ public class QueryConstants {
 		EVENTUAL
 	}
 
+	public enum TotalCountMode {
+		/**
+		 * Count the matching items when the page is read, which costs a second
+		 * query over the whole key range
+		 */
+		EXACT,
+		/**
+		 * Count the matching items only once the total of the page is requested.
+		 * The last page derives its total without counting.
+		 */
+		LAZY,
+		/**
+		 * Never count the matching items. The total is the number of items read so
+		 * far, plus one if there is a following page.
+		 */
+		ESTIMATED
+	}
+
 }
@@ -0,0 +1,45 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository;
+
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+
+/**
+ * DynamoDB specific extension of
+ * {@link org.springframework.data.repository.reactive.ReactiveCrudRepository}.
+ * Backed by the asynchronous DynamoDB client, so no thread is blocked while a
+ * request is in flight.
+ */
+@NoRepositoryBean
+public interface ReactiveDynamoDBCrudRepository<T, ID> extends ReactiveCrudRepository<T, ID> {
+
+	/**
+	 * Returns all instances of the type {@code T} with the given IDs. Repeated IDs
+	 * are loaded only once.
+	 *
+	 * @param ids
+	 *            must not be {@literal null} nor contain any {@literal null}
+	 *            values.
+	 * @param preserveOrder
+	 *            whether the entities are emitted in the order of the given IDs;
+	 *            otherwise the order is undefined
+	 * @return the found entities, at most one per distinct ID
+	 */
+	Flux<T> findAllById(Iterable<ID> ids, boolean preserveOrder);
+
+}
@@ -31,6 +31,7 @@ import org.socialsignin.spring.data.dynamodb.core.DynamoDBTemplate;
 import org.socialsignin.spring.data.dynamodb.mapping.DynamoDBMappingContext;
 import org.socialsignin.spring.data.dynamodb.repository.DynamoDBCrudRepository;
 import org.socialsignin.spring.data.dynamodb.repository.DynamoDBPagingAndSortingRepository;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityMetadataRegistry;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBRepositoryFactoryBean;
 import org.socialsignin.spring.data.dynamodb.repository.util.DynamoDBMappingContextProcessor;
 import org.socialsignin.spring.data.dynamodb.repository.util.Entity2DynamoDBTableSynchronizer;
@@ -199,6 +200,10 @@ public class DynamoDBRepositoryConfigExtension extends RepositoryConfigurationEx
 		String dynamoDBMappingContextProcessorName = registerDynamoDBMappingContextProcessor(registry,
 				dynamoDBMappingContextRef);
 		builder.addPropertyReference("dynamoDBMappingContextProcessor", dynamoDBMappingContextProcessorName);
+
+		String dynamoDBEntityMetadataRegistryName = registerDynamoDBEntityMetadataRegistry(registry,
+				dynamoDBMappingContextRef);
+		builder.addPropertyReference("dynamoDBEntityMetadataRegistry", dynamoDBEntityMetadataRegistryName);
 	}
 
 	private final Map<String, String> entity2DynamoDBTableSynchronizerCache = new ConcurrentHashMap<>();
@@ -242,6 +247,25 @@ public class DynamoDBRepositoryConfigExtension extends RepositoryConfigurationEx
 		});
 	}
 
+	private final Map<String, String> dynamoDBEntityMetadataRegistryCache = new ConcurrentHashMap<>();
+	private String registerDynamoDBEntityMetadataRegistry(BeanDefinitionRegistry registry,
+			String dynamoDBMappingContextRef) {
+		assert registry != null;
+
+		return dynamoDBEntityMetadataRegistryCache.computeIfAbsent(dynamoDBMappingContextRef, ref -> {
+			BeanDefinitionBuilder dynamoDBEntityMetadataRegistryBuilder = BeanDefinitionBuilder
+					.genericBeanDefinition(DynamoDBEntityMetadataRegistry.class);
+			dynamoDBEntityMetadataRegistryBuilder.addConstructorArgReference(dynamoDBMappingContextRef);
+
+			String dynamoDBEntityMetadataRegistryRef = getBeanNameWithModulePrefix(
+					"DynamoDBEntityMetadataRegistry-" + dynamoDBMappingContextRef);
+			registry.registerBeanDefinition(dynamoDBEntityMetadataRegistryRef,
+					dynamoDBEntityMetadataRegistryBuilder.getBeanDefinition());
+
+			return dynamoDBEntityMetadataRegistryRef;
+		});
+	}
+
 	private String registerDynamoDBMappingContext(BeanDefinitionRegistry registry) {
 		assert registry != null;
 
@@ -15,11 +15,14 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
-import jakarta.persistence.Table;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.QueryResultCache;
+import org.socialsignin.spring.data.dynamodb.domain.LazyTotalPageImpl;
 import org.socialsignin.spring.data.dynamodb.domain.UnpagedPageImpl;
 import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
 import org.socialsignin.spring.data.dynamodb.query.Query;
+import org.socialsignin.spring.data.dynamodb.repository.CachedQuery;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
 import org.socialsignin.spring.data.dynamodb.utils.ExceptionHandler;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -30,13 +33,19 @@ import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * @author Michael Lavelle
@@ -53,7 +62,11 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 	}
 
 	protected QueryExecution<T, ID> getExecution() {
-		if (method.isCollectionQuery() && !isSingleEntityResultsRestriction()) {
+		if (method.isStreamQuery() && !isSingleEntityResultsRestriction()) {
+			return new StreamExecution();
+		} else if (Iterable.class.equals(method.getReturnType()) && !isSingleEntityResultsRestriction()) {
+			return new IterableExecution();
+		} else if (method.isCollectionQuery() && !isSingleEntityResultsRestriction()) {
 			return new CollectionExecution();
 		} else if (method.isSliceQuery() && !isSingleEntityResultsRestriction()) {
 			return new SlicedExecution(method.getParameters());
@@ -72,6 +85,7 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 
 	protected abstract Query<T> doCreateQuery(Object[] values);
 	protected abstract Query<Long> doCreateCountQuery(Object[] values, boolean pageQuery);
+	protected abstract Query<Boolean> doCreateExistsQuery(Object[] values);
 	protected abstract boolean isCountQuery();
 	protected abstract boolean isExistsQuery();
 	protected abstract boolean isDeleteQuery();
@@ -91,6 +105,12 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 		return query;
 	}
 
+	protected Query<Boolean> doCreateExistsQueryWithPermissions(Object[] values) {
+		Query<Boolean> query = doCreateExistsQuery(values);
+		query.setScanEnabled(method.isScanEnabled());
+		return query;
+	}
+
 	private interface QueryExecution<T, ID> {
 		Object execute(AbstractDynamoDBQuery<T, ID> query, Object[] values);
 	}
@@ -101,21 +121,44 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 		public Object execute(AbstractDynamoDBQuery<T, ID> dynamoDBQuery, Object[] values) {
 			Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
 			if (getResultsRestrictionIfApplicable() != null) {
-				return restrictMaxResultsIfNecessary(query.getResultList().iterator());
+				// Stop requesting further pages once enough results have been read
+				return restrictMaxResultsIfNecessary(query.getResultStream()).collect(Collectors.toList());
 			} else
 				return query.getResultList();
 		}
 
-		private List<T> restrictMaxResultsIfNecessary(Iterator<T> iterator) {
-			int processed = 0;
-			List<T> resultsPage = new ArrayList<>();
-			while (iterator.hasNext() && processed < getResultsRestrictionIfApplicable()) {
-				resultsPage.add(iterator.next());
-				processed++;
-			}
-			return resultsPage;
+	}
+
+	/**
+	 * Executes the {@link AbstractDynamoDBQuery} to return a {@link Stream} of
+	 * entities that requests the result pages as it is consumed.
+	 */
+	class StreamExecution implements QueryExecution<T, ID> {
+
+		@Override
+		public Object execute(AbstractDynamoDBQuery<T, ID> dynamoDBQuery, Object[] values) {
+			return restrictMaxResultsIfNecessary(dynamoDBQuery.doCreateQueryWithPermissions(values).getResultStream());
 		}
+	}
 
+	/**
+	 * Executes the {@link AbstractDynamoDBQuery} to return a lazy {@link Iterable}
+	 * of entities. Every call to {@link Iterable#iterator()} runs the query again,
+	 * just like the {@link software.amazon.awssdk.core.pagination.sync.SdkIterable}
+	 * it is backed by.
+	 */
+	class IterableExecution implements QueryExecution<T, ID> {
+
+		@Override
+		public Object execute(AbstractDynamoDBQuery<T, ID> dynamoDBQuery, Object[] values) {
+			Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
+			return (Iterable<T>) () -> restrictMaxResultsIfNecessary(query.getResultStream()).iterator();
+		}
+	}
+
+	private Stream<T> restrictMaxResultsIfNecessary(Stream<T> results) {
+		Integer resultsRestriction = getResultsRestrictionIfApplicable();
+		return resultsRestriction != null ? results.limit(resultsRestriction) : results;
 	}
 
 	/**
@@ -160,41 +203,53 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 			Pageable pageable = accessor.getPageable();
 			Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
 
-			List<T> results = query.getResultList();
-			return createPage(results, pageable, dynamoDBQuery, values);
+			if (pageable.isUnpaged()) {
+				// The whole result set is the page, so its size is the total
+				List<T> allResults = query.getResultList();
+				return new UnpagedPageImpl<>(allResults, allResults.size());
+			}
+			return createPage(query.getOrderedResultStream().iterator(), pageable, dynamoDBQuery, values);
 		}
 
-		private Page<T> createPage(List<T> allResults, Pageable pageable, AbstractDynamoDBQuery<T, ID> dynamoDBQuery,
+		private Page<T> createPage(Iterator<T> iterator, Pageable pageable, AbstractDynamoDBQuery<T, ID> dynamoDBQuery,
 				Object[] values) {
 
-			// Get the result = this list might be a lazy list
-			Iterator<T> iterator = allResults.iterator();
-
 			// Check if the pageable request is 'beyond' the result set
-			if (!pageable.isUnpaged() && pageable.getOffset() > 0) {
+			if (pageable.getOffset() > 0) {
 				long processedCount = scanThroughResults(iterator, pageable.getOffset());
 				if (processedCount < pageable.getOffset()) {
 					return new PageImpl<>(Collections.emptyList());
 				}
 			}
 
-			// Then Count the result set size
+			List<T> results = readPageOfResultsRestrictMaxResultsIfNecessary(iterator, pageable.getPageSize());
+			// Scan ahead to find out whether there is a next page
+			boolean hasMoreResults = scanThroughResults(iterator, 1) > 0;
+			if (getResultsRestrictionIfApplicable() != null
+					&& getResultsRestrictionIfApplicable() <= pageable.getOffset() + results.size()) {
+				hasMoreResults = false;
+			}
+
+			switch (method.getTotalCountMode()) {
+				case EXACT:
+					return new PageImpl<>(results, pageable, countResults(dynamoDBQuery, values));
+				case ESTIMATED:
+					long estimatedTotal = pageable.getOffset() + results.size() + (hasMoreResults ? 1 : 0);
+					return new LazyTotalPageImpl<>(results, pageable, hasMoreResults, () -> estimatedTotal);
+				default:
+					return new LazyTotalPageImpl<>(results, pageable, hasMoreResults,
+							() -> countResults(dynamoDBQuery, values));
+			}
+		}
+
+		private long countResults(AbstractDynamoDBQuery<T, ID> dynamoDBQuery, Object[] values) {
 			Query<Long> countQuery = dynamoDBQuery.doCreateCountQueryWithPermissions(values, true);
 			long count = countQuery.getSingleResult();
 
-			// Finally wrap the result in a page -
-			if (!pageable.isUnpaged()) {
-				// either seek to the proper part of the result set
-				if (getResultsRestrictionIfApplicable() != null) {
-					count = Math.min(count, getResultsRestrictionIfApplicable());
-				}
-
-				List<T> results = readPageOfResultsRestrictMaxResultsIfNecessary(iterator, pageable.getPageSize());
-				return new PageImpl<>(results, pageable, count);
-			} else {
-				// or treat the whole (lazy) list as the result page if it's unpaged
-				return new UnpagedPageImpl<>(allResults, count);
+			if (getResultsRestrictionIfApplicable() != null) {
+				count = Math.min(count, getResultsRestrictionIfApplicable());
 			}
+			return count;
 		}
 	}
 
@@ -236,13 +291,11 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 			ParameterAccessor accessor = new ParametersParameterAccessor(parameters, values);
 			Pageable pageable = accessor.getPageable();
 			Query<T> query = dynamoDBQuery.doCreateQueryWithPermissions(values);
-			List<T> results = query.getResultList();
-			return createSlice(results, pageable);
+			return createSlice(query.getOrderedResultStream().iterator(), pageable);
 		}
 
-		private Slice<T> createSlice(List<T> allResults, Pageable pageable) {
+		private Slice<T> createSlice(Iterator<T> iterator, Pageable pageable) {
 
-			Iterator<T> iterator = allResults.iterator();
 			if (pageable.getOffset() > 0) {
 				long processedCount = scanThroughResults(iterator, pageable.getOffset());
 				if (processedCount < pageable.getOffset())
@@ -264,10 +317,12 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 		public Object execute(AbstractDynamoDBQuery<T, ID> dynamoDBQuery, Object[] values) throws BatchDeleteException {
 			List<T> entities = dynamoDBQuery.doCreateQueryWithPermissions(values).getResultList();
 
-			Class<?> entityClass = values[0].getClass();
-			Table table = entityClass.getAnnotation(Table.class);
-			// TODO: problem?
-			DynamoDbTable<T> dynamoDbTable = (DynamoDbTable<T>) dynamoDBOperations.getDynamoDbTable(entityClass, table.name());
+			DynamoDBEntityInformation<T, ID> entityInformation = method.getEntityInformation();
+			DynamoDbTable<T> dynamoDbTable = entityInformation.getTable();
+			if (dynamoDbTable == null) {
+				dynamoDbTable = dynamoDBOperations.getDynamoDbTable(entityInformation.getJavaType(),
+						entityInformation.getDynamoDBTableName());
+			}
 
 			BatchWriteResult failedBatches = dynamoDBOperations.batchDelete(entities, dynamoDbTable);
 
@@ -292,7 +347,7 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 			if (isCountQuery()) {
 				return dynamoDBQuery.doCreateCountQueryWithPermissions(values, false).getSingleResult();
 			} else if (isExistsQuery()) {
-				return !dynamoDBQuery.doCreateQueryWithPermissions(values).getResultList().isEmpty();
+				return dynamoDBQuery.doCreateExistsQueryWithPermissions(values).getSingleResult();
 			} else {
 				return dynamoDBQuery.doCreateQueryWithPermissions(values).getSingleResult();
 			}
@@ -307,8 +362,8 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 			if (isCountQuery()) {
 				return dynamoDBQuery.doCreateCountQueryWithPermissions(values, false).getSingleResult();
 			} else {
-				List<T> resultList = dynamoDBQuery.doCreateQueryWithPermissions(values).getResultList();
-				return resultList.size() == 0 ? null : resultList.get(0);
+				Iterator<T> iterator = dynamoDBQuery.doCreateQueryWithPermissions(values).getResultStream().iterator();
+				return iterator.hasNext() ? iterator.next() : null;
 
 			}
 
@@ -323,7 +378,42 @@ public abstract class AbstractDynamoDBQuery<T, ID> implements RepositoryQuery, E
 	 */
 	public Object execute(Object[] parameters) {
 
-		return getExecution().execute(this, parameters);
+		ResultProcessor processor = method.getResultProcessor()
+				.withDynamicProjection(new ParametersParameterAccessor(method.getParameters(), parameters));
+		QueryExecution<T, ID> execution = getExecution();
+		Object result = executeCached(execution, parameters);
+		if (execution instanceof IterableExecution) {
+			// Project the elements as they are iterated, so that the results stay lazy
+			Iterable<?> results = (Iterable<?>) result;
+			return (Iterable<Object>) () -> StreamSupport.stream(results.spliterator(), false)
+					.map(element -> processor.processResult(element)).iterator();
+		}
+		return processor.processResult(result);
+	}
+
+	/**
+	 * Serves the results of {@link CachedQuery} methods from the
+	 * {@link QueryResultCache}, unless they are read lazily, delete entities, or
+	 * have array arguments, which are not equal to arrays of the same elements.
+	 */
+	private Object executeCached(QueryExecution<T, ID> execution, Object[] parameters) {
+		Optional<CachedQuery> cachedQuery = method.getCachedQuery();
+		QueryResultCache queryResultCache = dynamoDBOperations.getQueryResultCache();
+		if (!cachedQuery.isPresent() || queryResultCache == null || execution instanceof StreamExecution
+				|| execution instanceof IterableExecution || execution instanceof DeleteExecution
+				|| Arrays.stream(parameters).anyMatch(parameter -> parameter != null && parameter.getClass().isArray())) {
+			return execution.execute(this, parameters);
+		}
+
+		CachedQuery settings = cachedQuery.get();
+		DynamoDBEntityInformation<T, ID> entityInformation = method.getEntityInformation();
+		DynamoDbTable<T> dynamoDbTable = entityInformation.getTable();
+		String tableName = dynamoDbTable != null
+				? dynamoDbTable.tableName()
+				: entityInformation.getDynamoDBTableName();
+		return queryResultCache.get(tableName, dynamoDbTable != null ? dynamoDbTable.tableSchema() : null, method,
+				Arrays.asList(parameters), settings.maxSize(), settings.timeUnit().toNanos(settings.timeToLive()),
+				() -> execution.execute(this, parameters));
 	}
 
 	@Override
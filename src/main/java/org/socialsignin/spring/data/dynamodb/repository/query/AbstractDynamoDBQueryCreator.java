@@ -60,6 +60,7 @@ public abstract class AbstractDynamoDBQueryCreator<T, ID, R>
 	protected final ExpressionAttribute[] expressionAttributeValues;
 	protected final Map<String, String> mappedExpressionValues = new HashMap<>();
 	protected final QueryConstants.ConsistentReadMode consistentReads;
+	protected final DynamoDBQueryPlan<T, ID> queryPlan;
 
 	public AbstractDynamoDBQueryCreator(PartTree tree, DynamoDBEntityInformation<T, ID> entityMetadata,
 										Optional<String> projection, Optional<Integer> limitResults, QueryConstants.ConsistentReadMode consistentReads,
@@ -81,6 +82,7 @@ public abstract class AbstractDynamoDBQueryCreator<T, ID, R>
 			this.expressionAttributeValues = null;
 		}
 		this.dynamoDBOperations = dynamoDBOperations;
+		this.queryPlan = null;
 	}
 
 	public AbstractDynamoDBQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
@@ -112,10 +114,32 @@ public abstract class AbstractDynamoDBQueryCreator<T, ID, R>
 			this.expressionAttributeValues = null;
 		}
 		this.dynamoDBOperations = dynamoDBOperations;
+		this.queryPlan = null;
+	}
+
+	public AbstractDynamoDBQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
+										DynamoDBQueryPlan<T, ID> queryPlan, Optional<String> projection,
+										Optional<Integer> limitResults, QueryConstants.ConsistentReadMode consistentReads,
+										Optional<String> filterExpression, DynamoDBOperations dynamoDBOperations) {
+		super(tree, parameterAccessor);
+		this.entityMetadata = queryPlan.getEntityInformation();
+		this.projection = projection;
+		this.limit = limitResults;
+		this.filterExpression = filterExpression;
+		this.consistentReads = consistentReads;
+		this.expressionAttributeNames = queryPlan.getExpressionAttributeNames();
+		this.expressionAttributeValues = queryPlan.getExpressionAttributeValues();
+		queryPlan.getExpressionValueParameterIndexes().forEach((parameterName, index) -> mappedExpressionValues
+				.put(parameterName, (String) parameterAccessor.getBindableValue(index)));
+		this.dynamoDBOperations = dynamoDBOperations;
+		this.queryPlan = queryPlan;
 	}
 
 	@Override
 	protected DynamoDBQueryCriteria<T, ID> create(Part part, Iterator<Object> iterator) {
+		if (queryPlan != null) {
+			return addCriteria(queryPlan.createCriteria(), part, iterator);
+		}
 		final TableSchema<T> tableModel = dynamoDBOperations.getTableModel(entityMetadata.getJavaType());
 		DynamoDBQueryCriteria<T, ID> criteria = entityMetadata.isRangeKeyAware()
 				? new DynamoDBEntityWithHashAndRangeKeyCriteria<>(
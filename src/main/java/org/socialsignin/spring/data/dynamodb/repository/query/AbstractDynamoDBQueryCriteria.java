@@ -15,10 +15,21 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.marshaller.Date2IsoDynamoDBMarshaller;
 import org.socialsignin.spring.data.dynamodb.marshaller.Instant2IsoDynamoDBMarshaller;
+import org.socialsignin.spring.data.dynamodb.query.AsyncMultipleEntityQueryRequestQuery;
+import org.socialsignin.spring.data.dynamodb.query.AsyncMultipleEntityScanRequestQuery;
+import org.socialsignin.spring.data.dynamodb.query.AsyncQuery;
+import org.socialsignin.spring.data.dynamodb.query.AsyncScanRequestCountQuery;
+import org.socialsignin.spring.data.dynamodb.query.AsyncScanRequestExistsQuery;
+import org.socialsignin.spring.data.dynamodb.query.AsyncSingleResultQuery;
+import org.socialsignin.spring.data.dynamodb.query.ExistsByKeyQuery;
 import org.socialsignin.spring.data.dynamodb.query.Query;
+import org.socialsignin.spring.data.dynamodb.query.QueryRequestExistsQuery;
+import org.socialsignin.spring.data.dynamodb.query.ScanRequestExistsQuery;
+import org.socialsignin.spring.data.dynamodb.query.SingleEntityLoadByKeyQuery;
 import org.socialsignin.spring.data.dynamodb.repository.ExpressionAttribute;
 import org.socialsignin.spring.data.dynamodb.repository.QueryConstants;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
@@ -34,9 +45,12 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.util.StringUtils;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.NestedAttributeName;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.internal.converter.StringConverter;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.model.*;
 
 import java.time.Instant;
@@ -47,10 +61,12 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -64,6 +80,7 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 	private final Map<String, String> attributeNamesByPropertyName;
 	private final TableSchema<T> tableModel;
 	private final String hashKeyPropertyName;
+	private final DynamoDBQueryPlan<T, ID> queryPlan;
 
 	protected MultiValueMap<String, Condition> attributeConditions;
 	protected MultiValueMap<String, Condition> propertyConditions;
@@ -74,6 +91,7 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 	protected Sort sort = Sort.unsorted();
 	protected Optional<String> projection = Optional.empty();
 	protected Optional<Integer> limit = Optional.empty();
+	protected Optional<Integer> resultsLimit = Optional.empty();
 	protected Optional<String> filterExpression = Optional.empty();
 	protected ExpressionAttribute[] expressionAttributeNames;
 	protected ExpressionAttribute[] expressionAttributeValues;
@@ -91,46 +109,18 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		queryRequest.tableName(tableName);
 		queryRequest.indexName(theIndexName);
 
-		if (isApplicableForGlobalSecondaryIndex()) {
-			List<String> allowedSortProperties = new ArrayList<>();
-
-			for (Entry<String, List<Condition>> singlePropertyCondition : propertyConditions.entrySet()) {
-				if (entityInformation.getGlobalSecondaryIndexNamesByPropertyName()
-						.containsKey(singlePropertyCondition.getKey())) {
-					allowedSortProperties.add(singlePropertyCondition.getKey());
-				}
-			}
-
-			HashMap<String, Condition> keyConditions = new HashMap<>();
-
-			if (hashKeyConditions != null && hashKeyConditions.size() > 0) {
-				for (Condition hashKeyCondition : hashKeyConditions) {
-					keyConditions.put(hashKeyAttributeName, hashKeyCondition);
-					allowedSortProperties.add(hashKeyPropertyName);
-				}
-			}
-			if (rangeKeyConditions != null && rangeKeyConditions.size() > 0) {
-				for (Condition rangeKeyCondition : rangeKeyConditions) {
-					keyConditions.put(rangeKeyAttributeName, rangeKeyCondition);
-					allowedSortProperties.add(rangeKeyPropertyName);
-				}
-			}
+		MultiValueMap<String, Condition> queryConditions = getQueryConditions(hashKeyAttributeName,
+				rangeKeyAttributeName, hashKeyConditions, rangeKeyConditions);
+		KeyConditions keyConditions = getKeyConditions(hashKeyAttributeName, rangeKeyAttributeName, queryConditions);
 
-			for (Entry<String, List<Condition>> singleAttributeConditions : attributeConditions.entrySet()) {
+		Map<String, String> expressionNames = new HashMap<>();
+		Map<String, AttributeValue> expressionValues = new HashMap<>();
 
-				for (Condition condition : singleAttributeConditions.getValue()) {
-					keyConditions.put(singleAttributeConditions.getKey(), condition);
-				}
-			}
+		Expression keyConditionExpression = keyConditions.toKeyConditionExpression();
+		queryRequest.keyConditionExpression(keyConditionExpression.expression());
+		addExpressionAttributes(keyConditionExpression, expressionNames, expressionValues);
 
-			for (Order order : sort) {
-				final String sortProperty = order.getProperty();
-				if (entityInformation.isGlobalIndexRangeKeyProperty(sortProperty)) {
-					allowedSortProperties.add(sortProperty);
-				}
-			}
-
-			queryRequest.keyConditions(keyConditions);
+		if (isApplicableForGlobalSecondaryIndex()) {
 			// Might be overwritten in the actual Query classes
 			if (projection.isPresent()) {
 				queryRequest.select(Select.SPECIFIC_ATTRIBUTES);
@@ -138,33 +128,33 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 			} else {
 				queryRequest.select(Select.ALL_PROJECTED_ATTRIBUTES);
 			}
-
-			applySortIfSpecified(queryRequest, new ArrayList<>(new HashSet<>(allowedSortProperties)), keyConditions);
+		} else if (theIndexName != null) {
+			// A local secondary index reads the attributes it does not project from the
+			// table, but only if they are asked for
+			if (projection.isPresent()) {
+				queryRequest.select(Select.SPECIFIC_ATTRIBUTES);
+				queryRequest.projectionExpression(projection.get());
+			} else {
+				queryRequest.select(Select.ALL_ATTRIBUTES);
+			}
 		}
 
+		applySortIfSpecified(queryRequest,
+				getPermittedSortPropertyNames(rangeKeyPropertyName, hashKeyConditions, rangeKeyConditions),
+				getSortKeyConditions(queryConditions));
+
 		applyConsistentReads(queryRequest);
 
-		limit.ifPresent(queryRequest::limit);
+		Expression filter = getFilterExpression(keyConditions.toFilterExpression());
+		getRequestLimit(filter).ifPresent(queryRequest::limit);
+		if (filter != null) {
+			queryRequest.filterExpression(filter.expression());
+			addExpressionAttributes(filter, expressionNames, expressionValues);
+		}
 
-		if(filterExpression.isPresent()) {
-			String filter = filterExpression.get();
-			if(StringUtils.hasText(filter)) {
-				queryRequest.filterExpression(filter);
-				if (expressionAttributeNames != null && expressionAttributeNames.length > 0) {
-					queryRequest.expressionAttributeNames(Arrays.stream(expressionAttributeNames)
-							.collect(Collectors.toMap(ExpressionAttribute::key, ExpressionAttribute::value)));
-				}
-				if (expressionAttributeValues != null && expressionAttributeValues.length > 0) {
-					queryRequest.expressionAttributeValues(Arrays.stream(expressionAttributeValues)
-							.collect(Collectors.toMap(ExpressionAttribute::key, v -> {
-								if (mappedExpressionValues.containsKey(v.parameterName())) {
-									return AttributeValue.builder().s(mappedExpressionValues.get(v.parameterName())).build();
-								} else {
-									return AttributeValue.builder().s(v.value()).build();
-								}
-							})));
-				}
-			}
+		queryRequest.expressionAttributeNames(expressionNames);
+		if (!expressionValues.isEmpty()) {
+			queryRequest.expressionAttributeValues(expressionValues);
 		}
 		return queryRequest;
 	}
@@ -176,73 +166,250 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		// TODO Set other query request properties based on config
 		QueryEnhancedRequest.Builder queryRequest = QueryEnhancedRequest.builder();
 
-		if (isApplicableForGlobalSecondaryIndex()) {
-			List<String> allowedSortProperties = new ArrayList<>();
+		MultiValueMap<String, Condition> queryConditions = getQueryConditions(hashKeyAttributeName,
+				rangeKeyAttributeName, hashKeyConditions, rangeKeyConditions);
+		KeyConditions keyConditions = getKeyConditions(hashKeyAttributeName, rangeKeyAttributeName, queryConditions);
+		queryRequest.queryConditional(keyConditions.toQueryConditional());
 
-			for (Entry<String, List<Condition>> singlePropertyCondition : propertyConditions.entrySet()) {
-				if (entityInformation.getGlobalSecondaryIndexNamesByPropertyName()
-						.containsKey(singlePropertyCondition.getKey())) {
-					allowedSortProperties.add(singlePropertyCondition.getKey());
-				}
-			}
+		applySortIfSpecified(queryRequest,
+				getPermittedSortPropertyNames(rangeKeyPropertyName, hashKeyConditions, rangeKeyConditions),
+				getSortKeyConditions(queryConditions));
 
-			HashMap<String, Condition> keyConditions = new HashMap<>();
+		switch (consistentReads) {
+			case CONSISTENT:
+				queryRequest.consistentRead(true);
+				break;
+			case EVENTUAL:
+				queryRequest.consistentRead(false);
+				break;
+			default:
+				break;
+		}
 
-			if (hashKeyConditions != null && hashKeyConditions.size() > 0) {
-				for (Condition hashKeyCondition : hashKeyConditions) {
-					keyConditions.put(hashKeyAttributeName, hashKeyCondition);
-					allowedSortProperties.add(hashKeyPropertyName);
-				}
-			}
-			if (rangeKeyConditions != null && rangeKeyConditions.size() > 0) {
-				for (Condition rangeKeyCondition : rangeKeyConditions) {
-					keyConditions.put(rangeKeyAttributeName, rangeKeyCondition);
-					allowedSortProperties.add(rangeKeyPropertyName);
-				}
+		List<NestedAttributeName> attributesToProject = getAttributesToProject();
+		if (attributesToProject.isEmpty() && !isApplicableForGlobalSecondaryIndex()
+				&& getLocalSecondaryIndexName() != null) {
+			// Without a projection, a query of an index reads only the attributes the
+			// index projects. Naming all attributes of the entity makes a local secondary
+			// index read the others from the table.
+			attributesToProject = entityInformation.getTable().tableSchema().attributeNames().stream()
+					.map(attributeName -> NestedAttributeName.create(attributeName)).collect(Collectors.toList());
+		}
+		if (!attributesToProject.isEmpty()) {
+			queryRequest.addNestedAttributesToProject(attributesToProject);
+		}
+
+		Expression filter = getFilterExpression(keyConditions.toFilterExpression());
+		getRequestLimit(filter).ifPresent(queryRequest::limit);
+		if (filter != null) {
+			queryRequest.filterExpression(filter);
+		}
+		return queryRequest.build();
+	}
+
+	/**
+	 * @return a scan of the table reading the items which match all conditions of
+	 *         the criteria, for criteria which are not
+	 *         {@link #isApplicableForQuery() applicable for a query}
+	 */
+	protected ScanEnhancedRequest buildScanEnhancedRequest(String hashKeyAttributeName,
+			@Nullable String rangeKeyAttributeName, @Nullable List<Condition> rangeKeyConditions) {
+		// Scanned items are returned in no particular order
+		ensureNoSort(sort);
+
+		ScanEnhancedRequest.Builder scanRequest = ScanEnhancedRequest.builder();
+		scanRequest.consistentRead(getConsistentRead());
+
+		List<NestedAttributeName> attributesToProject = getAttributesToProject();
+		if (!attributesToProject.isEmpty()) {
+			scanRequest.addNestedAttributesToProject(attributesToProject);
+		}
+
+		Expression filter = getScanFilterExpression(hashKeyAttributeName, rangeKeyAttributeName, rangeKeyConditions);
+		getRequestLimit(filter).ifPresent(scanRequest::limit);
+		if (filter != null) {
+			scanRequest.filterExpression(filter);
+		}
+		return scanRequest.build();
+	}
+
+	/**
+	 * @return the low level counterpart of
+	 *         {@link #buildScanEnhancedRequest(String, String, List)} to count
+	 *         the matching items with
+	 */
+	protected ScanRequest.Builder buildScanRequest(String hashKeyAttributeName,
+			@Nullable String rangeKeyAttributeName, @Nullable List<Condition> rangeKeyConditions) {
+		ScanRequest.Builder scanRequest = ScanRequest.builder();
+		scanRequest.tableName(entityInformation.getDynamoDBTableName());
+		scanRequest.consistentRead(getConsistentRead());
+
+		Expression filter = getScanFilterExpression(hashKeyAttributeName, rangeKeyAttributeName, rangeKeyConditions);
+		if (filter != null) {
+			Map<String, String> expressionNames = new HashMap<>();
+			Map<String, AttributeValue> expressionValues = new HashMap<>();
+			addExpressionAttributes(filter, expressionNames, expressionValues);
+
+			scanRequest.filterExpression(filter.expression());
+			scanRequest.expressionAttributeNames(expressionNames);
+			if (!expressionValues.isEmpty()) {
+				scanRequest.expressionAttributeValues(expressionValues);
 			}
+		}
+		return scanRequest;
+	}
 
-			for (Entry<String, List<Condition>> singleAttributeConditions : attributeConditions.entrySet()) {
-				for (Condition condition : singleAttributeConditions.getValue()) {
-					keyConditions.put(singleAttributeConditions.getKey(), condition);
+	/**
+	 * @return the filter of a scan, which consists of all conditions of the
+	 *         criteria as there are no key conditions
+	 */
+	@Nullable
+	private Expression getScanFilterExpression(String hashKeyAttributeName, @Nullable String rangeKeyAttributeName,
+			@Nullable List<Condition> rangeKeyConditions) {
+		ConditionExpressionBuilder conditionsFilter = new ConditionExpressionBuilder("filter");
+		getQueryConditions(hashKeyAttributeName, rangeKeyAttributeName, getHashKeyConditions(), rangeKeyConditions)
+				.forEach((attributeName, conditions) -> conditions
+						.forEach(condition -> conditionsFilter.withCondition(attributeName, condition)));
+		return getFilterExpression(conditionsFilter.isEmpty() ? null : conditionsFilter.build());
+	}
+
+	/**
+	 * @return the explicit limit of the request or else the results limit, which
+	 *         is dropped if the items are filtered as DynamoDB evaluates the limit
+	 *         before the filter
+	 */
+	private Optional<Integer> getRequestLimit(@Nullable Expression filter) {
+		if (limit.isPresent()) {
+			return limit;
+		}
+		return filter == null ? resultsLimit : Optional.empty();
+	}
+
+	/**
+	 * @return the conditions of the query by attribute name, including the
+	 *         conditions on the hash and range key which are not kept as
+	 *         attribute conditions
+	 */
+	private MultiValueMap<String, Condition> getQueryConditions(String hashKeyAttributeName,
+			@Nullable String rangeKeyAttributeName, @Nullable List<Condition> hashKeyConditions,
+			@Nullable List<Condition> rangeKeyConditions) {
+		MultiValueMap<String, Condition> queryConditions = new LinkedMultiValueMap<>();
+		addQueryConditions(queryConditions, hashKeyAttributeName, hashKeyConditions);
+		addQueryConditions(queryConditions, rangeKeyAttributeName, rangeKeyConditions);
+		for (Entry<String, List<Condition>> singleAttributeConditions : attributeConditions.entrySet()) {
+			addQueryConditions(queryConditions, singleAttributeConditions.getKey(),
+					singleAttributeConditions.getValue());
+		}
+		return queryConditions;
+	}
+
+	private void addQueryConditions(MultiValueMap<String, Condition> queryConditions, String attributeName,
+			@Nullable List<Condition> conditions) {
+		if (conditions != null) {
+			for (Condition condition : conditions) {
+				// The hash key conditions might be the attribute conditions of the hash key
+				List<Condition> existingConditions = queryConditions.get(attributeName);
+				if (existingConditions == null || !existingConditions.contains(condition)) {
+					queryConditions.add(attributeName, condition);
 				}
 			}
+		}
+	}
 
-			for (Order order : sort) {
-				final String sortProperty = order.getProperty();
-				if (entityInformation.isGlobalIndexRangeKeyProperty(sortProperty)) {
-					allowedSortProperties.add(sortProperty);
+	/**
+	 * Splits the conditions of the query into the key conditions of the global
+	 * secondary index the query runs against, or of the table itself if the
+	 * criteria is not applicable for a global secondary index, and the conditions
+	 * which can only be used to filter the items read.
+	 */
+	private KeyConditions getKeyConditions(String hashKeyAttributeName, @Nullable String rangeKeyAttributeName,
+			MultiValueMap<String, Condition> queryConditions) {
+		if (isApplicableForGlobalSecondaryIndex()) {
+			String indexName = getGlobalSecondaryIndexName();
+			String indexHashKeyAttributeName = null;
+			List<String> indexRangeKeyAttributeNames = new ArrayList<>();
+			for (Entry<String, String[]> indexNamesForPropertyName : entityInformation
+					.getGlobalSecondaryIndexNamesByPropertyName().entrySet()) {
+				String propertyName = indexNamesForPropertyName.getKey();
+				String attributeName = getAttributeName(propertyName);
+				if (!queryConditions.containsKey(attributeName)
+						|| (indexName != null && !Arrays.asList(indexNamesForPropertyName.getValue()).contains(indexName))) {
+					continue;
+				}
+				if (indexHashKeyAttributeName == null && entityInformation.isGlobalIndexHashKeyProperty(propertyName)
+						&& queryConditions.get(attributeName).stream()
+								.anyMatch(condition -> condition.comparisonOperator() == ComparisonOperator.EQ)) {
+					indexHashKeyAttributeName = attributeName;
+				} else if (entityInformation.isGlobalIndexRangeKeyProperty(propertyName)) {
+					indexRangeKeyAttributeNames.add(attributeName);
 				}
 			}
+			return KeyConditions.of(indexHashKeyAttributeName, indexRangeKeyAttributeNames, queryConditions);
+		} else {
+			String localIndexName = getLocalSecondaryIndexName();
+			List<String> sortKeyAttributeNames;
+			if (localIndexName != null) {
+				sortKeyAttributeNames = getLocalSecondaryIndexSortKeyPropertyNames(localIndexName).stream()
+						.map(this::getAttributeName).collect(Collectors.toList());
+			} else {
+				sortKeyAttributeNames = rangeKeyAttributeName == null
+						? Collections.emptyList()
+						: Collections.singletonList(rangeKeyAttributeName);
+			}
+			return KeyConditions.of(hashKeyAttributeName, sortKeyAttributeNames, queryConditions);
+		}
+	}
 
-			// TODO: Fix this
-//			queryRequest.queryConditional(QueryConditional.keyEqualTo(keyConditions));
-
-			// Might be overwritten in the actual Query classes
-			// TODO: Fix this
-//			if (projection.isPresent()) {
-//				queryRequest.select(Select.SPECIFIC_ATTRIBUTES);
-//				queryRequest.pro(projection.get());
-//			} else {
-//				queryRequest.(Select.ALL_PROJECTED_ATTRIBUTES);
-//			}
-
-			applySortIfSpecified(queryRequest, new ArrayList<>(new HashSet<>(allowedSortProperties)), keyConditions);
+	private List<String> getPermittedSortPropertyNames(@Nullable String rangeKeyPropertyName,
+			@Nullable List<Condition> hashKeyConditions, @Nullable List<Condition> rangeKeyConditions) {
+		if (!isApplicableForGlobalSecondaryIndex()) {
+			// Items of a table query are ordered by the range key of the table, or by
+			// the sort key of the local secondary index queried instead
+			String localIndexName = getLocalSecondaryIndexName();
+			if (localIndexName != null) {
+				return getLocalSecondaryIndexSortKeyPropertyNames(localIndexName);
+			}
+			return rangeKeyPropertyName == null
+					? Collections.emptyList()
+					: Collections.singletonList(rangeKeyPropertyName);
 		}
 
-		switch (consistentReads) {
-			case CONSISTENT:
-				queryRequest.consistentRead(true);
-				break;
-			case EVENTUAL:
-				queryRequest.consistentRead(false);
-				break;
-			default:
-				break;
+		List<String> allowedSortProperties = new ArrayList<>();
+		for (Entry<String, List<Condition>> singlePropertyCondition : propertyConditions.entrySet()) {
+			if (entityInformation.getGlobalSecondaryIndexNamesByPropertyName()
+					.containsKey(singlePropertyCondition.getKey())) {
+				allowedSortProperties.add(singlePropertyCondition.getKey());
+			}
+		}
+		if (hashKeyConditions != null && hashKeyConditions.size() > 0) {
+			allowedSortProperties.add(hashKeyPropertyName);
+		}
+		if (rangeKeyConditions != null && rangeKeyConditions.size() > 0) {
+			allowedSortProperties.add(rangeKeyPropertyName);
 		}
+		for (Order order : sort) {
+			final String sortProperty = order.getProperty();
+			if (entityInformation.isGlobalIndexRangeKeyProperty(sortProperty)) {
+				allowedSortProperties.add(sortProperty);
+			}
+		}
+		return new ArrayList<>(new HashSet<>(allowedSortProperties));
+	}
 
-		limit.ifPresent(queryRequest::limit);
+	private Map<String, Condition> getSortKeyConditions(MultiValueMap<String, Condition> queryConditions) {
+		// The hash key of a table query always has an equality condition
+		return isApplicableForGlobalSecondaryIndex() ? queryConditions.toSingleValueMap() : Collections.emptyMap();
+	}
 
-		if(filterExpression.isPresent()) {
+	/**
+	 * @return the filter expression of the {@link #withFilterExpression(Optional)
+	 *         annotation} joined with the conditions which are not key
+	 *         conditions, or {@code null} if there is nothing to filter by
+	 */
+	@Nullable
+	private Expression getFilterExpression(@Nullable Expression conditionsFilter) {
+		Expression annotatedFilter = null;
+		if (filterExpression.isPresent()) {
 			String filter = filterExpression.get();
 			if(StringUtils.hasText(filter)) {
 				Expression.Builder expression = Expression.builder().expression(filter);
@@ -263,10 +430,49 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 							})));
 				}
 
-				queryRequest.filterExpression(expression.build());
+				annotatedFilter = expression.build();
 			}
 		}
-		return queryRequest.build();
+
+		if (annotatedFilter == null) {
+			return conditionsFilter;
+		} else if (conditionsFilter == null) {
+			return annotatedFilter;
+		} else {
+			return Expression.join(annotatedFilter, conditionsFilter, " AND ");
+		}
+	}
+
+	private static void addExpressionAttributes(Expression expression, Map<String, String> expressionNames,
+			Map<String, AttributeValue> expressionValues) {
+		if (expression.expressionNames() != null) {
+			expressionNames.putAll(expression.expressionNames());
+		}
+		if (expression.expressionValues() != null) {
+			expressionValues.putAll(expression.expressionValues());
+		}
+	}
+
+	/**
+	 * @return the attributes of the projection, with nested attributes given as
+	 *         dot separated paths, or an empty list if whole items are read
+	 */
+	protected List<NestedAttributeName> getAttributesToProject() {
+		return projection.map(fields -> Arrays.stream(fields.split(",")).map(String::trim)
+				.filter(StringUtils::hasText).map(field -> NestedAttributeName.create(field.split("\\.")))
+				.collect(Collectors.toList())).orElse(Collections.emptyList());
+	}
+
+	@Nullable
+	private Boolean getConsistentRead() {
+		switch (consistentReads) {
+			case CONSISTENT:
+				return true;
+			case EVENTUAL:
+				return false;
+			default:
+				return null;
+		}
 	}
 
 	protected void applyConsistentReads(QueryRequest.Builder queryRequest) {
@@ -363,18 +569,32 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 				hashKeyConditions = attributeConditions.get(getHashKeyAttributeName());
 			}
 
+		} else if (!isApplicableForGlobalSecondaryIndex() && getHashKeyAttributeValue() != null) {
+			// Query of the table itself
+			hashKeyConditions = Collections.singletonList(createSingleValueCondition(getHashKeyPropertyName(),
+					ComparisonOperator.EQ, getHashKeyAttributeValue(), getHashKeyAttributeValue().getClass(), true));
 		}
 		return hashKeyConditions;
 	}
 
 	public AbstractDynamoDBQueryCriteria(DynamoDBEntityInformation<T, ID> dynamoDBEntityInformation,
 			final TableSchema<T> tableModel) {
+		this(dynamoDBEntityInformation, tableModel, null);
+	}
+
+	public AbstractDynamoDBQueryCriteria(DynamoDBEntityInformation<T, ID> dynamoDBEntityInformation,
+			final TableSchema<T> tableModel, @Nullable DynamoDBQueryPlan<T, ID> queryPlan) {
 		this.clazz = dynamoDBEntityInformation.getJavaType();
 		this.attributeConditions = new LinkedMultiValueMap<>();
 		this.propertyConditions = new LinkedMultiValueMap<>();
 		this.hashKeyPropertyName = dynamoDBEntityInformation.getHashKeyPropertyName();
 		this.entityInformation = dynamoDBEntityInformation;
-		this.attributeNamesByPropertyName = new HashMap<>();
+		this.queryPlan = queryPlan;
+		// Attribute names never change for an entity, so share them with the query
+		// plan if there is one
+		this.attributeNamesByPropertyName = queryPlan != null
+				? queryPlan.getAttributeNamesByPropertyName()
+				: new HashMap<>();
 		// TODO consider adding the DynamoDBMapper table model to
 		// DynamoDBEntityInformation instead
 		this.tableModel = tableModel;
@@ -393,6 +613,72 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		return indexName;
 	}
 
+	/**
+	 * @return the name of the index a query runs against, or {@code null} if it
+	 *         runs against the table itself
+	 */
+	@Nullable
+	protected String getQueryIndexName() {
+		return isApplicableForGlobalSecondaryIndex() ? getGlobalSecondaryIndexName() : getLocalSecondaryIndexName();
+	}
+
+	/**
+	 * A local secondary index shares the hash key of the table, so it is queried
+	 * instead of the table if the hash key is fixed and the items are sorted by
+	 * the sort key of the index alone. Unsorted, the index is queried if the
+	 * criteria constrain its sort key but not the range key of the table. Unlike
+	 * global secondary indexes, local secondary indexes support consistent reads,
+	 * and the attributes they do not project are read from the table.
+	 *
+	 * @return the name of the local secondary index to query, or {@code null} if
+	 *         no local secondary index applies
+	 */
+	@Nullable
+	protected String getLocalSecondaryIndexName() {
+		Map<String, String[]> localIndexNames = entityInformation.getLocalSecondaryIndexNamesByPropertyName();
+		if (localIndexNames == null || localIndexNames.isEmpty() || !isHashKeySpecified()
+				|| isApplicableForGlobalSecondaryIndex()) {
+			return null;
+		}
+
+		if (sort.isSorted()) {
+			// Items can only be sorted by a single sort key, so a sort by further
+			// properties is rejected against the table
+			Iterator<Order> orders = sort.iterator();
+			String[] indexNames = localIndexNames.get(orders.next().getProperty());
+			if (!orders.hasNext() && indexNames != null && indexNames.length > 0) {
+				return indexNames[0];
+			}
+		} else if (!isRangeKeyConstrained()) {
+			for (Entry<String, String[]> indexNamesForPropertyName : localIndexNames.entrySet()) {
+				List<Condition> conditions = attributeConditions.get(getAttributeName(indexNamesForPropertyName.getKey()));
+				if (conditions != null && conditions.stream().anyMatch(KeyConditions::isSortKeyCondition)
+						&& indexNamesForPropertyName.getValue().length > 0) {
+					return indexNamesForPropertyName.getValue()[0];
+				}
+			}
+		}
+		return null;
+	}
+
+	private List<String> getLocalSecondaryIndexSortKeyPropertyNames(String localIndexName) {
+		List<String> sortKeyPropertyNames = new ArrayList<>();
+		for (Entry<String, String[]> indexNamesForPropertyName : entityInformation
+				.getLocalSecondaryIndexNamesByPropertyName().entrySet()) {
+			if (Arrays.asList(indexNamesForPropertyName.getValue()).contains(localIndexName)) {
+				sortKeyPropertyNames.add(indexNamesForPropertyName.getKey());
+			}
+		}
+		return sortKeyPropertyNames;
+	}
+
+	/**
+	 * @return whether the criteria have a condition on the range key of the table
+	 */
+	protected boolean isRangeKeyConstrained() {
+		return false;
+	}
+
 	protected String getGlobalSecondaryIndexName() {
 
 		// Lazy evaluate the globalSecondaryIndexName if not already set
@@ -401,66 +687,78 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		// secondary index, otherwise return null for index name
 		// Also this method only evaluates the
 		if (globalSecondaryIndexName == null && attributeConditions != null && !attributeConditions.isEmpty()) {
-			// Declare map of index names by attribute name which we will populate below -
-			// this will be used to determine which index to use if multiple indexes are
-			// applicable
-			Map<String, String[]> indexNamesByAttributeName = new HashMap<>();
-
-			// Declare map of attribute lists by index name which we will populate below -
-			// this will be used to determine whether we have an exact match index for
-			// specified attribute conditions
-			MultiValueMap<String, String> attributeListsByIndexName = new LinkedMultiValueMap<>();
-
-			// Populate the above maps
-			for (Entry<String, String[]> indexNamesForPropertyNameEntry : entityInformation
-					.getGlobalSecondaryIndexNamesByPropertyName().entrySet()) {
-				String propertyName = indexNamesForPropertyNameEntry.getKey();
-				String attributeName = getAttributeName(propertyName);
-				indexNamesByAttributeName.put(attributeName, indexNamesForPropertyNameEntry.getValue());
-				for (String indexNameForPropertyName : indexNamesForPropertyNameEntry.getValue()) {
-					attributeListsByIndexName.add(indexNameForPropertyName, attributeName);
-				}
+			if (queryPlan != null) {
+				globalSecondaryIndexName = queryPlan.getGlobalSecondaryIndexName(attributeConditions.keySet(),
+						this::resolveGlobalSecondaryIndexName);
+			} else {
+				globalSecondaryIndexName = resolveGlobalSecondaryIndexName();
 			}
+		}
+		return globalSecondaryIndexName;
+	}
 
-			// Declare lists to store matching index names
-			List<String> exactMatchIndexNames = new ArrayList<>();
-			List<String> partialMatchIndexNames = new ArrayList<>();
-
-			// Populate matching index name lists - an index is either an exact match ( the
-			// index attributes match all the specified criteria exactly)
-			// or a partial match ( the properties for the specified criteria are contained
-			// within the property set for an index )
-			for (Entry<String, List<String>> attributeListForIndexNameEntry : attributeListsByIndexName.entrySet()) {
-				String indexNameForAttributeList = attributeListForIndexNameEntry.getKey();
-				List<String> attributeList = attributeListForIndexNameEntry.getValue();
-				if (attributeList.containsAll(attributeConditions.keySet())) {
-					if (attributeConditions.keySet().containsAll(attributeList)) {
-						exactMatchIndexNames.add(indexNameForAttributeList);
-					} else {
-						partialMatchIndexNames.add(indexNameForAttributeList);
-					}
-				}
+	private String resolveGlobalSecondaryIndexName() {
+		String indexName = null;
+		// Declare map of index names by attribute name which we will populate below -
+		// this will be used to determine which index to use if multiple indexes are
+		// applicable
+		Map<String, String[]> indexNamesByAttributeName = new HashMap<>();
+
+		// Declare map of attribute lists by index name which we will populate below -
+		// this will be used to determine whether we have an exact match index for
+		// specified attribute conditions
+		MultiValueMap<String, String> attributeListsByIndexName = new LinkedMultiValueMap<>();
+
+		// Populate the above maps
+		for (Entry<String, String[]> indexNamesForPropertyNameEntry : entityInformation
+				.getGlobalSecondaryIndexNamesByPropertyName().entrySet()) {
+			String propertyName = indexNamesForPropertyNameEntry.getKey();
+			String attributeName = getAttributeName(propertyName);
+			indexNamesByAttributeName.put(attributeName, indexNamesForPropertyNameEntry.getValue());
+			for (String indexNameForPropertyName : indexNamesForPropertyNameEntry.getValue()) {
+				attributeListsByIndexName.add(indexNameForPropertyName, attributeName);
 			}
+		}
 
-			if (exactMatchIndexNames.size() > 1) {
-				throw new RuntimeException(
-						"Multiple indexes defined on same attribute set:" + attributeConditions.keySet());
-			} else if (exactMatchIndexNames.size() == 1) {
-				globalSecondaryIndexName = exactMatchIndexNames.get(0);
-			} else if (partialMatchIndexNames.size() > 1) {
-				if (attributeConditions.size() == 1) {
-					globalSecondaryIndexName = getFirstDeclaredIndexNameForAttribute(indexNamesByAttributeName,
-							partialMatchIndexNames, attributeConditions.keySet().iterator().next());
-				}
-				if (globalSecondaryIndexName == null) {
-					globalSecondaryIndexName = partialMatchIndexNames.get(0);
+		// Declare lists to store matching index names
+		List<String> exactMatchIndexNames = new ArrayList<>();
+		List<String> partialMatchIndexNames = new ArrayList<>();
+
+		// Populate matching index name lists - an index is either an exact match ( the
+		// index attributes match all the specified criteria exactly)
+		// or a partial match ( the properties for the specified criteria are contained
+		// within the property set for an index )
+		for (Entry<String, List<String>> attributeListForIndexNameEntry : attributeListsByIndexName.entrySet()) {
+			String indexNameForAttributeList = attributeListForIndexNameEntry.getKey();
+			List<String> attributeList = attributeListForIndexNameEntry.getValue();
+			if (attributeList.containsAll(attributeConditions.keySet())) {
+				if (attributeConditions.keySet().containsAll(attributeList)) {
+					exactMatchIndexNames.add(indexNameForAttributeList);
+				} else {
+					partialMatchIndexNames.add(indexNameForAttributeList);
 				}
-			} else if (partialMatchIndexNames.size() == 1) {
-				globalSecondaryIndexName = partialMatchIndexNames.get(0);
 			}
 		}
-		return globalSecondaryIndexName;
+
+		if (exactMatchIndexNames.size() > 1) {
+			throw new RuntimeException(
+					"Multiple indexes defined on same attribute set:" + attributeConditions.keySet());
+		} else if (exactMatchIndexNames.size() == 1) {
+			indexName = exactMatchIndexNames.get(0);
+		} else if (partialMatchIndexNames.size() > 1) {
+			if (attributeConditions.size() == 1) {
+				indexName = getFirstDeclaredIndexNameForAttribute(indexNamesByAttributeName,
+						partialMatchIndexNames, attributeConditions.keySet().iterator().next());
+			}
+			if (indexName == null) {
+				indexName = partialMatchIndexNames.get(0);
+			}
+		} else if (partialMatchIndexNames.size() == 1) {
+			indexName = partialMatchIndexNames.get(0);
+		}
+		return indexName;
 	}
+
 	protected boolean isHashKeyProperty(String propertyName) {
 		return hashKeyPropertyName.equals(propertyName);
 	}
@@ -478,7 +776,7 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		for (Map.Entry<String, List<Condition>> propertyConditionList : propertyConditions.entrySet()) {
 			if (entityInformation.isGlobalIndexHashKeyProperty(propertyConditionList.getKey())) {
 				for (Condition condition : propertyConditionList.getValue()) {
-					if (condition.comparisonOperator().equals(ComparisonOperator.EQ.name())) {
+					if (condition.comparisonOperator() == ComparisonOperator.EQ) {
 						hasIndexHashKeyEqualCondition = true;
 					}
 				}
@@ -517,6 +815,15 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 
 	}
 
+	/**
+	 * @return whether the items can be queried, either from a global secondary
+	 *         index or from the table by their hash key. Any condition which is
+	 *         not a key condition is applied as a filter to the items read.
+	 */
+	public boolean isApplicableForQuery() {
+		return isHashKeySpecified() || isApplicableForGlobalSecondaryIndex();
+	}
+
 	public DynamoDBQueryCriteria<T, ID> withHashKeyEquals(Object value) {
 		Assert.notNull(value, "Creating conditions on null hash keys not supported: please specify a value for '"
 				+ getHashKeyPropertyName() + "'");
@@ -578,6 +885,10 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 	@Override
 	public Query<T> buildQuery(DynamoDBOperations dynamoDBOperations) {
 		if (isApplicableForLoad()) {
+			if (projection.isPresent()) {
+				return new SingleEntityLoadByKeyQuery<>(dynamoDBOperations, clazz, getSingleEntityKey(),
+						getAttributesToProject(), entityInformation);
+			}
 			return buildSingleEntityLoadQuery(dynamoDBOperations);
 		} else {
 			return buildFinderQuery(dynamoDBOperations);
@@ -593,14 +904,118 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		}
 	}
 
+	@Override
+	public Query<Boolean> buildExistsQuery(DynamoDBOperations dynamoDBOperations) {
+		if (isApplicableForLoad()) {
+			return new ExistsByKeyQuery<>(dynamoDBOperations, getSingleEntityKey(), entityInformation);
+		} else if (!isApplicableForQuery()) {
+			ScanEnhancedRequest scanRequest = buildFinderScanRequest();
+			if (!projection.isPresent()) {
+				scanRequest = scanRequest.toBuilder().attributesToProject(getHashKeyAttributeName()).build();
+			}
+			return new ScanRequestExistsQuery<>(dynamoDBOperations, clazz, scanRequest, entityInformation);
+		} else {
+			QueryRequest.Builder queryRequest = buildFinderCountQueryRequest();
+			// The first match answers the query, unless a filter discards it
+			if (queryRequest.build().filterExpression() == null) {
+				queryRequest.limit(1);
+			}
+			return new QueryRequestExistsQuery(dynamoDBOperations, queryRequest);
+		}
+	}
+
+	@Override
+	public AsyncQuery<T> buildAsyncQuery(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		if (isApplicableForLoad()) {
+			return new AsyncSingleResultQuery<>(() -> loadSingleEntity(asyncDynamoDBOperations));
+		} else if (!isApplicableForQuery()) {
+			return new AsyncMultipleEntityScanRequestQuery<>(asyncDynamoDBOperations, clazz, buildFinderScanRequest(),
+					entityInformation);
+		} else {
+			return new AsyncMultipleEntityQueryRequestQuery<>(asyncDynamoDBOperations, clazz,
+					getQueryIndexName(), buildFinderQueryRequest(), entityInformation);
+		}
+	}
+
+	@Override
+	public AsyncQuery<Long> buildAsyncCountQuery(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		if (isApplicableForLoad()) {
+			return new AsyncSingleResultQuery<>(() -> loadSingleEntity(asyncDynamoDBOperations)
+					.thenApply(entity -> entity == null ? 0L : 1L));
+		} else if (!isApplicableForQuery()) {
+			return new AsyncScanRequestCountQuery<>(asyncDynamoDBOperations, clazz,
+					buildFinderCountScanRequest().build(), entityInformation);
+		} else {
+			QueryRequest queryRequest = buildFinderCountQueryRequest().build();
+			return new AsyncSingleResultQuery<>(
+					() -> asyncDynamoDBOperations.count(clazz, queryRequest).thenApply(Integer::longValue));
+		}
+	}
+
+	@Override
+	public AsyncQuery<Boolean> buildAsyncExistsQuery(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		if (isApplicableForLoad()) {
+			Key key = getSingleEntityKey();
+			return new AsyncSingleResultQuery<>(() -> asyncDynamoDBOperations.exists(key, entityInformation));
+		} else if (!isApplicableForQuery()) {
+			ScanEnhancedRequest scanRequest = buildFinderScanRequest();
+			if (!projection.isPresent()) {
+				scanRequest = scanRequest.toBuilder().attributesToProject(getHashKeyAttributeName()).build();
+			}
+			return new AsyncScanRequestExistsQuery<>(asyncDynamoDBOperations, clazz, scanRequest, entityInformation);
+		} else {
+			QueryRequest.Builder queryRequest = buildFinderCountQueryRequest();
+			// The first match answers the query, unless a filter discards it
+			if (queryRequest.build().filterExpression() == null) {
+				queryRequest.limit(1);
+			}
+			QueryRequest request = queryRequest.build();
+			return new AsyncSingleResultQuery<>(() -> asyncDynamoDBOperations.exists(clazz, request));
+		}
+	}
+
 	protected abstract Query<T> buildSingleEntityLoadQuery(DynamoDBOperations dynamoDBOperations);
 
+	protected abstract CompletableFuture<T> loadSingleEntity(AsyncDynamoDBOperations asyncDynamoDBOperations);
+
 	protected abstract Query<Long> buildSingleEntityCountQuery(DynamoDBOperations dynamoDBOperations);
 
+	/**
+	 * @return the primary key of the item if the criteria is
+	 *         {@link #isApplicableForLoad() applicable for load}
+	 */
+	protected abstract Key getSingleEntityKey();
+
 	protected abstract Query<T> buildFinderQuery(DynamoDBOperations dynamoDBOperations);
 
 	protected abstract Query<Long> buildFinderCountQuery(DynamoDBOperations dynamoDBOperations, boolean pageQuery);
 
+	/**
+	 * @return the request of {@link #buildFinderQuery(DynamoDBOperations)}
+	 */
+	protected abstract QueryEnhancedRequest buildFinderQueryRequest();
+
+	/**
+	 * @return the request of
+	 *         {@link #buildFinderCountQuery(DynamoDBOperations, boolean)}
+	 */
+	protected abstract QueryRequest.Builder buildFinderCountQueryRequest();
+
+	/**
+	 * @return the request of {@link #buildFinderQuery(DynamoDBOperations)} if
+	 *         the criteria is not {@link #isApplicableForQuery() applicable for a
+	 *         query}
+	 */
+	protected abstract ScanEnhancedRequest buildFinderScanRequest();
+
+	/**
+	 * @return the request of
+	 *         {@link #buildFinderCountQuery(DynamoDBOperations, boolean)} if the
+	 *         criteria is not {@link #isApplicableForQuery() applicable for a
+	 *         query}
+	 */
+	protected abstract ScanRequest.Builder buildFinderCountScanRequest();
+
 	protected abstract boolean isOnlyHashKeySpecified();
 
 	@Override
@@ -850,6 +1265,12 @@ public abstract class AbstractDynamoDBQueryCriteria<T, ID> implements DynamoDBQu
 		return this;
 	}
 
+	@Override
+	public DynamoDBQueryCriteria<T, ID> withResultsLimit(Optional<Integer> resultsLimit) {
+		this.resultsLimit = resultsLimit;
+		return this;
+	}
+
 	@Override
 	public DynamoDBQueryCriteria<T, ID> withFilterExpression(Optional<String> filter) {
 		this.filterExpression = filter;
@@ -0,0 +1,78 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.query.AsyncQuery;
+import org.socialsignin.spring.data.dynamodb.query.AsyncSingleResultQuery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.ParameterAccessor;
+import org.springframework.data.repository.query.parser.AbstractQueryCreator;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Creates the counting {@link AsyncQuery} of a derived query method. The
+ * criteria are collected exactly like by the {@link DynamoDBCountQueryCreator}.
+ */
+public class AsyncDynamoDBCountQueryCreator<T, ID>
+		extends
+			AbstractQueryCreator<AsyncQuery<Long>, DynamoDBQueryCriteria<T, ID>> {
+
+	private final DynamoDBCountQueryCreator<T, ID> criteriaCreator;
+	private final AsyncDynamoDBOperations asyncDynamoDBOperations;
+
+	public AsyncDynamoDBCountQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
+			DynamoDBQueryPlan<T, ID> queryPlan, DynamoDBOperations dynamoDBOperations,
+			AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		super(tree, parameterAccessor);
+		this.criteriaCreator = new DynamoDBCountQueryCreator<>(tree, parameterAccessor, queryPlan, dynamoDBOperations,
+				false);
+		this.asyncDynamoDBOperations = asyncDynamoDBOperations;
+	}
+
+	@Override
+	protected DynamoDBQueryCriteria<T, ID> create(Part part, Iterator<Object> iterator) {
+		return criteriaCreator.create(part, iterator);
+	}
+
+	@Override
+	protected DynamoDBQueryCriteria<T, ID> and(Part part, DynamoDBQueryCriteria<T, ID> base,
+			Iterator<Object> iterator) {
+		return criteriaCreator.and(part, base, iterator);
+	}
+
+	@Override
+	protected DynamoDBQueryCriteria<T, ID> or(DynamoDBQueryCriteria<T, ID> base,
+			DynamoDBQueryCriteria<T, ID> criteria) {
+		return criteriaCreator.or(base, criteria);
+	}
+
+	@Override
+	protected AsyncQuery<Long> complete(@Nullable DynamoDBQueryCriteria<T, ID> criteria, Sort sort) {
+		if (criteria == null) {
+			return new AsyncSingleResultQuery<>(() -> CompletableFuture.completedFuture(1L));
+		} else {
+			return criteriaCreator.withQueryOptions(criteria).buildAsyncCountQuery(asyncDynamoDBOperations);
+		}
+	}
+
+}
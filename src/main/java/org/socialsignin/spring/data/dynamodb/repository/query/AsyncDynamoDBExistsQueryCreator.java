@@ -0,0 +1,78 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.query.AsyncQuery;
+import org.socialsignin.spring.data.dynamodb.query.AsyncSingleResultQuery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.ParameterAccessor;
+import org.springframework.data.repository.query.parser.AbstractQueryCreator;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Creates the {@link AsyncQuery} of an {@code existsBy...} method, which only
+ * reads the key of the first matching item. The criteria are collected exactly
+ * like by the {@link DynamoDBExistsQueryCreator}.
+ */
+public class AsyncDynamoDBExistsQueryCreator<T, ID>
+		extends
+			AbstractQueryCreator<AsyncQuery<Boolean>, DynamoDBQueryCriteria<T, ID>> {
+
+	private final DynamoDBExistsQueryCreator<T, ID> criteriaCreator;
+	private final AsyncDynamoDBOperations asyncDynamoDBOperations;
+
+	public AsyncDynamoDBExistsQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
+			DynamoDBQueryPlan<T, ID> queryPlan, DynamoDBOperations dynamoDBOperations,
+			AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		super(tree, parameterAccessor);
+		this.criteriaCreator = new DynamoDBExistsQueryCreator<>(tree, parameterAccessor, queryPlan, dynamoDBOperations);
+		this.asyncDynamoDBOperations = asyncDynamoDBOperations;
+	}
+
+	@Override
+	protected DynamoDBQueryCriteria<T, ID> create(Part part, Iterator<Object> iterator) {
+		return criteriaCreator.create(part, iterator);
+	}
+
+	@Override
+	protected DynamoDBQueryCriteria<T, ID> and(Part part, DynamoDBQueryCriteria<T, ID> base,
+			Iterator<Object> iterator) {
+		return criteriaCreator.and(part, base, iterator);
+	}
+
+	@Override
+	protected DynamoDBQueryCriteria<T, ID> or(DynamoDBQueryCriteria<T, ID> base,
+			DynamoDBQueryCriteria<T, ID> criteria) {
+		return criteriaCreator.or(base, criteria);
+	}
+
+	@Override
+	protected AsyncQuery<Boolean> complete(@Nullable DynamoDBQueryCriteria<T, ID> criteria, Sort sort) {
+		if (criteria == null) {
+			return new AsyncSingleResultQuery<>(() -> CompletableFuture.completedFuture(true));
+		} else {
+			return criteriaCreator.withQueryOptions(criteria).buildAsyncExistsQuery(asyncDynamoDBOperations);
+		}
+	}
+
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Builds a condition expression out of {@link Condition}s, joining them with
+ * {@code AND}. Attribute names and values are always referenced through
+ * placeholders, so that reserved words can be used as attribute names.
+ *
+ * The placeholders of different builders must not clash when their
+ * expressions end up in the same request, hence every builder uses its own
+ * placeholder prefix.
+ */
+class ConditionExpressionBuilder {
+
+	private final String placeholderPrefix;
+	private final List<String> terms = new ArrayList<>();
+	private final Map<String, String> namePlaceholders = new LinkedHashMap<>();
+	private final Map<String, AttributeValue> values = new HashMap<>();
+
+	ConditionExpressionBuilder(String placeholderPrefix) {
+		this.placeholderPrefix = placeholderPrefix;
+	}
+
+	ConditionExpressionBuilder withCondition(String attributeName, Condition condition) {
+		String name = namePlaceholders.computeIfAbsent(attributeName,
+				n -> "#" + placeholderPrefix + namePlaceholders.size());
+		List<AttributeValue> attributeValues = condition.attributeValueList();
+
+		switch (condition.comparisonOperator()) {
+			case EQ:
+				terms.add(name + " = " + value(attributeValues.get(0)));
+				break;
+			case LT:
+				terms.add(name + " < " + value(attributeValues.get(0)));
+				break;
+			case LE:
+				terms.add(name + " <= " + value(attributeValues.get(0)));
+				break;
+			case GT:
+				terms.add(name + " > " + value(attributeValues.get(0)));
+				break;
+			case GE:
+				terms.add(name + " >= " + value(attributeValues.get(0)));
+				break;
+			case BEGINS_WITH:
+				terms.add("begins_with(" + name + ", " + value(attributeValues.get(0)) + ")");
+				break;
+			case BETWEEN:
+				terms.add(name + " BETWEEN " + value(attributeValues.get(0)) + " AND "
+						+ value(attributeValues.get(1)));
+				break;
+			case NE:
+				terms.add(name + " <> " + value(attributeValues.get(0)));
+				break;
+			case IN:
+				terms.add(name + " IN (" + attributeValues.stream().map(this::value).collect(Collectors.joining(", "))
+						+ ")");
+				break;
+			case CONTAINS:
+				terms.add("contains(" + name + ", " + value(attributeValues.get(0)) + ")");
+				break;
+			case NOT_CONTAINS:
+				terms.add("NOT contains(" + name + ", " + value(attributeValues.get(0)) + ")");
+				break;
+			case NULL:
+				terms.add("attribute_not_exists(" + name + ")");
+				break;
+			case NOT_NULL:
+				terms.add("attribute_exists(" + name + ")");
+				break;
+			default:
+				throw new UnsupportedOperationException(
+						"Comparison operator " + condition.comparisonOperatorAsString()
+								+ " is not supported in condition expressions");
+		}
+		return this;
+	}
+
+	private String value(AttributeValue attributeValue) {
+		String placeholder = ":" + placeholderPrefix + values.size();
+		values.put(placeholder, attributeValue);
+		return placeholder;
+	}
+
+	boolean isEmpty() {
+		return terms.isEmpty();
+	}
+
+	Expression build() {
+		Map<String, String> expressionNames = new HashMap<>();
+		namePlaceholders.forEach((attributeName, placeholder) -> expressionNames.put(placeholder, attributeName));
+		return Expression.builder().expression(String.join(" AND ", terms)).expressionNames(expressionNames)
+				.expressionValues(values.isEmpty() ? null : values).build();
+	}
+
+}
@@ -55,17 +55,28 @@ public class DynamoDBCountQueryCreator<T, ID> extends AbstractDynamoDBQueryCreat
 
 	}
 
+	public DynamoDBCountQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
+									 DynamoDBQueryPlan<T, ID> queryPlan, DynamoDBOperations dynamoDBOperations, boolean pageQuery) {
+		super(tree, parameterAccessor, queryPlan, Optional.empty(), Optional.empty(),
+				QueryConstants.ConsistentReadMode.DEFAULT, queryPlan.getFilterExpression(), dynamoDBOperations);
+		this.pageQuery = pageQuery;
+	}
+
 	@Override
 	protected Query<Long> complete(@Nullable DynamoDBQueryCriteria<T, ID> criteria, Sort sort) {
 		if (criteria == null) {
 			return new StaticQuery<>(1L);
 		} else {
-			criteria.withFilterExpression(filterExpression);
-			criteria.withExpressionAttributeNames(expressionAttributeNames);
-			criteria.withExpressionAttributeValues(expressionAttributeValues);
-			criteria.withMappedExpressionValues(mappedExpressionValues);
-			return criteria.buildCountQuery(dynamoDBOperations, pageQuery);
+			return withQueryOptions(criteria).buildCountQuery(dynamoDBOperations, pageQuery);
 		}
 	}
 
+	DynamoDBQueryCriteria<T, ID> withQueryOptions(DynamoDBQueryCriteria<T, ID> criteria) {
+		criteria.withFilterExpression(filterExpression);
+		criteria.withExpressionAttributeNames(expressionAttributeNames);
+		criteria.withExpressionAttributeValues(expressionAttributeValues);
+		criteria.withMappedExpressionValues(mappedExpressionValues);
+		return criteria;
+	}
+
 }
@@ -15,21 +15,30 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.query.CountByHashAndRangeKeyQuery;
 import org.socialsignin.spring.data.dynamodb.query.MultipleEntityQueryRequestQuery;
+import org.socialsignin.spring.data.dynamodb.query.MultipleEntityScanRequestQuery;
 import org.socialsignin.spring.data.dynamodb.query.Query;
 import org.socialsignin.spring.data.dynamodb.query.QueryRequestCountQuery;
+import org.socialsignin.spring.data.dynamodb.query.ScanRequestCountQuery;
 import org.socialsignin.spring.data.dynamodb.query.SingleEntityLoadByHashAndRangeKeyQuery;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBIdIsHashAndRangeKeyEntityInformation;
+import org.socialsignin.spring.data.dynamodb.utils.AttributeValueUtil;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.Condition;
 import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Michael Lavelle
@@ -58,8 +67,14 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 	public DynamoDBEntityWithHashAndRangeKeyCriteria(
 			DynamoDBIdIsHashAndRangeKeyEntityInformation<T, ID> entityInformation,
 			TableSchema<T> tableModel) {
+		this(entityInformation, tableModel, null);
+	}
 
-		super(entityInformation, tableModel);
+	public DynamoDBEntityWithHashAndRangeKeyCriteria(
+			DynamoDBIdIsHashAndRangeKeyEntityInformation<T, ID> entityInformation,
+			TableSchema<T> tableModel, @Nullable DynamoDBQueryPlan<T, ID> queryPlan) {
+
+		super(entityInformation, tableModel, queryPlan);
 		this.rangeKeyPropertyName = entityInformation.getRangeKeyPropertyName();
 		Set<String> indexRangeProps = entityInformation.getIndexRangeKeyPropertyNames();
 		if(indexRangeProps == null) {
@@ -89,6 +104,11 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 		return getRangeKeyAttributeValue() != null;
 	}
 
+	@Override
+	protected boolean isRangeKeyConstrained() {
+		return isRangeKeySpecified() || attributeConditions.containsKey(getRangeKeyAttributeName());
+	}
+
 	protected Query<T> buildSingleEntityLoadQuery(DynamoDBOperations dynamoDBOperations) {
 		return new SingleEntityLoadByHashAndRangeKeyQuery<>(dynamoDBOperations, entityInformation.getJavaType(),
 				getHashKeyPropertyValue(), getRangeKeyPropertyValue(), entityInformation);
@@ -99,6 +119,16 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 				getHashKeyPropertyValue(), getRangeKeyPropertyValue(), entityInformation);
 	}
 
+	protected Key getSingleEntityKey() {
+		return Key.builder().partitionValue(AttributeValueUtil.toAttributeValue(getHashKeyPropertyValue()))
+				.sortValue(AttributeValueUtil.toAttributeValue(getRangeKeyPropertyValue())).build();
+	}
+
+	protected CompletableFuture<T> loadSingleEntity(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		return asyncDynamoDBOperations.load(entityInformation.getJavaType(), getHashKeyPropertyValue(),
+				getRangeKeyPropertyValue(), entityInformation);
+	}
+
 	private void checkComparisonOperatorPermittedForCompositeHashAndRangeKey(ComparisonOperator comparisonOperator) {
 
 		if (!ComparisonOperator.EQ.equals(comparisonOperator) && !ComparisonOperator.CONTAINS.equals(comparisonOperator)
@@ -138,22 +168,30 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 					: Collections.singletonList(createSingleValueCondition(getRangeKeyPropertyName(), ComparisonOperator.EQ,
 					getRangeKeyAttributeValue(), getRangeKeyAttributeValue().getClass(), true));
 
+		} else if (!isApplicableForGlobalSecondaryIndex() && getRangeKeyAttributeValue() != null) {
+			// Query of the table itself
+			rangeKeyConditions = Collections.singletonList(createSingleValueCondition(getRangeKeyPropertyName(),
+					ComparisonOperator.EQ, getRangeKeyAttributeValue(), getRangeKeyAttributeValue().getClass(), true));
 		}
 		return rangeKeyConditions;
 	}
 
 	protected Query<T> buildFinderQuery(DynamoDBOperations dynamoDBOperations) {
 		if (isApplicableForQuery()) {
-			if (isApplicableForGlobalSecondaryIndex()) {
-				String tableName = entityInformation.getDynamoDBTableName();
-				QueryEnhancedRequest queryRequest = buildQueryEnhancedRequest(
-						getHashKeyAttributeName(), getRangeKeyAttributeName(), this.getRangeKeyPropertyName(),
-						getHashKeyConditions(), getRangeKeyConditions());
-				return new MultipleEntityQueryRequestQuery<>(dynamoDBOperations, entityInformation.getJavaType(),
-						queryRequest, entityInformation);
-			} else {
-				throw new UnsupportedOperationException("Query without a global secondary index is not supported");
-			}
+			return new MultipleEntityQueryRequestQuery<>(dynamoDBOperations, entityInformation.getJavaType(),
+					getQueryIndexName(), buildFinderQueryRequest(), entityInformation);
+		} else {
+			return new MultipleEntityScanRequestQuery<>(dynamoDBOperations, entityInformation.getJavaType(),
+					buildFinderScanRequest(), entityInformation);
+		}
+	}
+
+	protected QueryEnhancedRequest buildFinderQueryRequest() {
+		if (isApplicableForQuery()) {
+			// Either a query of a global secondary index, or of the table by its hash key
+			return buildQueryEnhancedRequest(
+					getHashKeyAttributeName(), getRangeKeyAttributeName(), this.getRangeKeyPropertyName(),
+					getHashKeyConditions(), getRangeKeyConditions());
 		} else {
 			throw new UnsupportedOperationException("Scan is not supported");
 		}
@@ -161,21 +199,34 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 
 	protected Query<Long> buildFinderCountQuery(DynamoDBOperations dynamoDBOperations, boolean pageQuery) {
 		if (isApplicableForQuery()) {
-			if (isApplicableForGlobalSecondaryIndex()) {
-				String tableName = entityInformation.getDynamoDBTableName();
-				QueryRequest.Builder queryRequest = buildQueryRequest(tableName, getGlobalSecondaryIndexName(),
-						getHashKeyAttributeName(), getRangeKeyAttributeName(), this.getRangeKeyPropertyName(),
-						getHashKeyConditions(), getRangeKeyConditions());
-				return new QueryRequestCountQuery(dynamoDBOperations, queryRequest);
-
-			} else {
-				throw new UnsupportedOperationException("Count is not supported for query without a global secondary index");
-			}
+			return new QueryRequestCountQuery(dynamoDBOperations, buildFinderCountQueryRequest());
+		} else {
+			return new ScanRequestCountQuery<>(dynamoDBOperations, entityInformation.getJavaType(),
+					buildFinderCountScanRequest(), entityInformation, pageQuery);
+		}
+	}
+
+	protected QueryRequest.Builder buildFinderCountQueryRequest() {
+		if (isApplicableForQuery()) {
+			String tableName = entityInformation.getDynamoDBTableName();
+			return buildQueryRequest(tableName, getQueryIndexName(),
+					getHashKeyAttributeName(), getRangeKeyAttributeName(), this.getRangeKeyPropertyName(),
+					getHashKeyConditions(), getRangeKeyConditions());
 		} else {
 			throw new UnsupportedOperationException("Count is not supported for scan");
 		}
 	}
 
+	@Override
+	protected ScanEnhancedRequest buildFinderScanRequest() {
+		return buildScanEnhancedRequest(getHashKeyAttributeName(), getRangeKeyAttributeName(), getRangeKeyConditions());
+	}
+
+	@Override
+	protected ScanRequest.Builder buildFinderCountScanRequest() {
+		return buildScanRequest(getHashKeyAttributeName(), getRangeKeyAttributeName(), getRangeKeyConditions());
+	}
+
 	@Override
 	public boolean isApplicableForLoad() {
 		return attributeConditions.size() == 0 && isHashAndRangeKeySpecified();
@@ -185,21 +236,6 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 		return isHashKeySpecified() && isRangeKeySpecified();
 	}
 
-	protected boolean isOnlyASingleAttributeConditionAndItIsOnEitherRangeOrIndexRangeKey() {
-		boolean isOnlyASingleAttributeConditionAndItIsOnEitherRangeOrIndexRangeKey = false;
-		if (!isRangeKeySpecified() && attributeConditions.size() == 1) {
-			Map.Entry<String, List<Condition>> conditionsEntry = attributeConditions.entrySet().iterator().next();
-			if (conditionsEntry.getKey().equals(getRangeKeyAttributeName())
-					|| getIndexRangeKeyAttributeNames().contains(conditionsEntry.getKey())) {
-				if (conditionsEntry.getValue().size() == 1) {
-					isOnlyASingleAttributeConditionAndItIsOnEitherRangeOrIndexRangeKey = true;
-				}
-			}
-		}
-		return isOnlyASingleAttributeConditionAndItIsOnEitherRangeOrIndexRangeKey;
-
-	}
-
 	@Override
 	protected boolean hasIndexHashKeyEqualCondition() {
 
@@ -258,15 +294,6 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteria<T, ID> extends AbstractDy
 		return globalSecondaryIndexName;
 	}
 
-	public boolean isApplicableForQuery() {
-
-		return isOnlyHashKeySpecified()
-				|| (isHashKeySpecified() && isOnlyASingleAttributeConditionAndItIsOnEitherRangeOrIndexRangeKey()
-						&& comparisonOperatorsPermittedForQuery())
-				|| isApplicableForGlobalSecondaryIndex();
-
-	}
-
 	public DynamoDBQueryCriteria<T, ID> withRangeKeyEquals(Object value) {
 		Assert.notNull(value, "Creating conditions on null range keys not supported: please specify a value for '"
 				+ getRangeKeyPropertyName() + "'");
@@ -15,21 +15,30 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.query.CountByHashKeyQuery;
 import org.socialsignin.spring.data.dynamodb.query.MultipleEntityQueryRequestQuery;
+import org.socialsignin.spring.data.dynamodb.query.MultipleEntityScanRequestQuery;
 import org.socialsignin.spring.data.dynamodb.query.Query;
 import org.socialsignin.spring.data.dynamodb.query.QueryRequestCountQuery;
+import org.socialsignin.spring.data.dynamodb.query.ScanRequestCountQuery;
 import org.socialsignin.spring.data.dynamodb.query.SingleEntityLoadByHashKeyQuery;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import org.socialsignin.spring.data.dynamodb.utils.AttributeValueUtil;
+import org.springframework.lang.Nullable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.Condition;
 import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
 import software.amazon.awssdk.services.dynamodb.model.Select;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Michael Lavelle
@@ -41,7 +50,12 @@ public class DynamoDBEntityWithHashKeyOnlyCriteria<T, ID> extends AbstractDynamo
 
 	public DynamoDBEntityWithHashKeyOnlyCriteria(DynamoDBEntityInformation<T, ID> entityInformation,
 			TableSchema<T> tableModel) {
-		super(entityInformation, tableModel);
+		this(entityInformation, tableModel, null);
+	}
+
+	public DynamoDBEntityWithHashKeyOnlyCriteria(DynamoDBEntityInformation<T, ID> entityInformation,
+			TableSchema<T> tableModel, @Nullable DynamoDBQueryPlan<T, ID> queryPlan) {
+		super(entityInformation, tableModel, queryPlan);
 		this.entityInformation = entityInformation;
 	}
 
@@ -53,14 +67,30 @@ public class DynamoDBEntityWithHashKeyOnlyCriteria<T, ID> extends AbstractDynamo
 		return new CountByHashKeyQuery<>(dynamoDBOperations, clazz, getHashKeyPropertyValue(), entityInformation);
 	}
 
+	protected Key getSingleEntityKey() {
+		return Key.builder().partitionValue(AttributeValueUtil.toAttributeValue(getHashKeyPropertyValue())).build();
+	}
+
+	protected CompletableFuture<T> loadSingleEntity(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		return asyncDynamoDBOperations.load(clazz, getHashKeyPropertyValue(), entityInformation);
+	}
+
 	protected Query<T> buildFinderQuery(DynamoDBOperations dynamoDBOperations) {
-		if (isApplicableForGlobalSecondaryIndex()) {
+		if (isApplicableForQuery()) {
+			return new MultipleEntityQueryRequestQuery<>(dynamoDBOperations, entityInformation.getJavaType(),
+					getQueryIndexName(), buildFinderQueryRequest(), entityInformation);
+		} else {
+			return new MultipleEntityScanRequestQuery<>(dynamoDBOperations, entityInformation.getJavaType(),
+					buildFinderScanRequest(), entityInformation);
+		}
+	}
+
+	protected QueryEnhancedRequest buildFinderQueryRequest() {
+		if (isApplicableForQuery()) {
 
 			List<Condition> hashKeyConditions = getHashKeyConditions();
-			QueryEnhancedRequest queryRequest = buildQueryEnhancedRequest(
+			return buildQueryEnhancedRequest(
 				getHashKeyAttributeName(), null, null, hashKeyConditions, null);
-			return new MultipleEntityQueryRequestQuery<>(dynamoDBOperations, entityInformation.getJavaType(),
-					queryRequest, entityInformation);
 		} else {
 			throw new UnsupportedOperationException(
 					"Query by example is not supported for entities with no range key and no global secondary index");
@@ -68,14 +98,23 @@ public class DynamoDBEntityWithHashKeyOnlyCriteria<T, ID> extends AbstractDynamo
 	}
 
 	protected Query<Long> buildFinderCountQuery(DynamoDBOperations dynamoDBOperations, boolean pageQuery) {
-		if (isApplicableForGlobalSecondaryIndex()) {
+		if (isApplicableForQuery()) {
+			return new QueryRequestCountQuery(dynamoDBOperations, buildFinderCountQueryRequest());
+		} else {
+			return new ScanRequestCountQuery<>(dynamoDBOperations, entityInformation.getJavaType(),
+					buildFinderCountScanRequest(), entityInformation, pageQuery);
+		}
+	}
+
+	protected QueryRequest.Builder buildFinderCountQueryRequest() {
+		if (isApplicableForQuery()) {
 
 			List<Condition> hashKeyConditions = getHashKeyConditions();
 			QueryRequest.Builder queryRequest = buildQueryRequest(
 					entityInformation.getDynamoDBTableName(),
-					getGlobalSecondaryIndexName(), getHashKeyAttributeName(), null, null, hashKeyConditions, null);
+					getQueryIndexName(), getHashKeyAttributeName(), null, null, hashKeyConditions, null);
 			queryRequest.select(Select.COUNT);
-			return new QueryRequestCountQuery(dynamoDBOperations, queryRequest);
+			return queryRequest;
 
 		} else {
 			throw new UnsupportedOperationException(
@@ -83,6 +122,16 @@ public class DynamoDBEntityWithHashKeyOnlyCriteria<T, ID> extends AbstractDynamo
 		}
 	}
 
+	@Override
+	protected ScanEnhancedRequest buildFinderScanRequest() {
+		return buildScanEnhancedRequest(getHashKeyAttributeName(), null, null);
+	}
+
+	@Override
+	protected ScanRequest.Builder buildFinderCountScanRequest() {
+		return buildScanRequest(getHashKeyAttributeName(), null, null);
+	}
+
 	@Override
 	protected boolean isOnlyHashKeySpecified() {
 		return attributeConditions.size() == 0 && isHashKeySpecified();
@@ -0,0 +1,58 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.query.Query;
+import org.socialsignin.spring.data.dynamodb.query.StaticQuery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.ParameterAccessor;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
+
+import java.util.Optional;
+
+/**
+ * Creates the query of an {@code existsBy...} method, which only reads the key
+ * of the first matching item instead of loading the matching entities.
+ */
+public class DynamoDBExistsQueryCreator<T, ID> extends AbstractDynamoDBQueryCreator<T, ID, Boolean> {
+
+	public DynamoDBExistsQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
+									  DynamoDBQueryPlan<T, ID> queryPlan, DynamoDBOperations dynamoDBOperations) {
+		super(tree, parameterAccessor, queryPlan, Optional.empty(), Optional.empty(),
+				queryPlan.getConsistentReadMode(), queryPlan.getFilterExpression(), dynamoDBOperations);
+	}
+
+	@Override
+	protected Query<Boolean> complete(@Nullable DynamoDBQueryCriteria<T, ID> criteria, Sort sort) {
+		if (criteria == null) {
+			return new StaticQuery<>(true);
+		} else {
+			return withQueryOptions(criteria).buildExistsQuery(dynamoDBOperations);
+		}
+	}
+
+	DynamoDBQueryCriteria<T, ID> withQueryOptions(DynamoDBQueryCriteria<T, ID> criteria) {
+		criteria.withConsistentReads(consistentReads);
+		criteria.withFilterExpression(filterExpression);
+		criteria.withExpressionAttributeNames(expressionAttributeNames);
+		criteria.withExpressionAttributeValues(expressionAttributeValues);
+		criteria.withMappedExpressionValues(mappedExpressionValues);
+		return criteria;
+	}
+
+}
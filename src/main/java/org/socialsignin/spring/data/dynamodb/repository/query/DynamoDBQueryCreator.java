@@ -21,19 +21,34 @@ import org.socialsignin.spring.data.dynamodb.query.StaticQuery;
 import org.socialsignin.spring.data.dynamodb.repository.ExpressionAttribute;
 import org.socialsignin.spring.data.dynamodb.repository.QueryConstants;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
 
 import java.util.Optional;
 
 public class DynamoDBQueryCreator<T, ID> extends AbstractDynamoDBQueryCreator<T, ID, T> {
 
+	private final PartTree tree;
+	private final ParameterAccessor parameterAccessor;
+
 	public DynamoDBQueryCreator(PartTree tree, ParameterAccessor parameterAccessor,
 								DynamoDBEntityInformation<T, ID> entityMetadata, Optional<String> projection, Optional<Integer> limit, QueryConstants.ConsistentReadMode consistentReads,
 								Optional<String> filterExpression, ExpressionAttribute[] names, ExpressionAttribute[] values, DynamoDBOperations dynamoDBOperations) {
 		super(tree, parameterAccessor, entityMetadata, projection, limit, consistentReads, filterExpression, names, values, dynamoDBOperations);
+		this.tree = tree;
+		this.parameterAccessor = parameterAccessor;
+	}
+
+	public DynamoDBQueryCreator(PartTree tree, ParameterAccessor parameterAccessor, DynamoDBQueryPlan<T, ID> queryPlan,
+								DynamoDBOperations dynamoDBOperations) {
+		super(tree, parameterAccessor, queryPlan, queryPlan.getProjection(), queryPlan.getLimitResults(),
+				queryPlan.getConsistentReadMode(), queryPlan.getFilterExpression(), dynamoDBOperations);
+		this.tree = tree;
+		this.parameterAccessor = parameterAccessor;
 	}
 
 	@Override
@@ -41,16 +56,52 @@ public class DynamoDBQueryCreator<T, ID> extends AbstractDynamoDBQueryCreator<T,
 		if (criteria == null) {
 			return new StaticQuery<>(null);
 		} else {
-			criteria.withSort(sort);
-			criteria.withProjection(projection);
-			criteria.withLimit(limit);
-			criteria.withConsistentReads(consistentReads);
-			criteria.withFilterExpression(filterExpression);
-			criteria.withExpressionAttributeNames(expressionAttributeNames);
-			criteria.withExpressionAttributeValues(expressionAttributeValues);
-			criteria.withMappedExpressionValues(mappedExpressionValues);
-			return criteria.buildQuery(dynamoDBOperations);
+			return withQueryOptions(criteria, sort).buildQuery(dynamoDBOperations);
 		}
 	}
 
+	DynamoDBQueryCriteria<T, ID> withQueryOptions(DynamoDBQueryCriteria<T, ID> criteria, Sort sort) {
+		criteria.withSort(sort);
+		criteria.withProjection(projection);
+		criteria.withLimit(limit);
+		criteria.withResultsLimit(getResultsLimit());
+		criteria.withConsistentReads(consistentReads);
+		criteria.withFilterExpression(filterExpression);
+		criteria.withExpressionAttributeNames(expressionAttributeNames);
+		criteria.withExpressionAttributeValues(expressionAttributeValues);
+		criteria.withMappedExpressionValues(mappedExpressionValues);
+		return criteria;
+	}
+
+	/**
+	 * The number of items a derived query reads at most, so that DynamoDB does not
+	 * return (and charge for) pages that are never consumed. As the limit only
+	 * sizes the result pages, more pages are still requested if the items turn
+	 * out to be insufficient. It is not applied if a filter expression is present
+	 * since DynamoDB evaluates the limit before the filter.
+	 *
+	 * @return the number of items required to answer the query, empty if all items
+	 *         are required
+	 */
+	Optional<Integer> getResultsLimit() {
+		if (tree.isDelete() || tree.isCountProjection() || filterExpression.filter(StringUtils::hasText).isPresent()) {
+			return Optional.empty();
+		}
+
+		long resultsLimit = Long.MAX_VALUE;
+		if (tree.isExistsProjection()) {
+			resultsLimit = 1;
+		} else if (tree.isLimiting()) {
+			resultsLimit = tree.getMaxResults();
+		}
+
+		Pageable pageable = parameterAccessor.getPageable();
+		if (pageable.isPaged()) {
+			// One additional item tells a slice whether there is a next one
+			resultsLimit = Math.min(resultsLimit, pageable.getOffset() + pageable.getPageSize() + 1);
+		}
+
+		return resultsLimit < Integer.MAX_VALUE ? Optional.of((int) resultsLimit) : Optional.empty();
+	}
+
 }
@@ -15,7 +15,9 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.query.AsyncQuery;
 import org.socialsignin.spring.data.dynamodb.query.Query;
 import org.socialsignin.spring.data.dynamodb.repository.ExpressionAttribute;
 import org.socialsignin.spring.data.dynamodb.repository.QueryConstants;
@@ -48,6 +50,14 @@ public interface DynamoDBQueryCriteria<T, ID> {
 
 	DynamoDBQueryCriteria<T, ID> withLimit(Optional<Integer> limit);
 
+	/**
+	 * @param resultsLimit
+	 *            the number of items required to answer the query, used as the
+	 *            page size of the request unless the items are filtered
+	 * @return this criteria
+	 */
+	DynamoDBQueryCriteria<T, ID> withResultsLimit(Optional<Integer> resultsLimit);
+
 	DynamoDBQueryCriteria<T, ID> withConsistentReads(QueryConstants.ConsistentReadMode reads);
 
 	DynamoDBQueryCriteria<T, ID> withFilterExpression(Optional<String> filterExpression);
@@ -62,4 +72,12 @@ public interface DynamoDBQueryCriteria<T, ID> {
 
 	Query<Long> buildCountQuery(DynamoDBOperations dynamoDBOperations, boolean pageQuery);
 
+	Query<Boolean> buildExistsQuery(DynamoDBOperations dynamoDBOperations);
+
+	AsyncQuery<T> buildAsyncQuery(AsyncDynamoDBOperations asyncDynamoDBOperations);
+
+	AsyncQuery<Long> buildAsyncCountQuery(AsyncDynamoDBOperations asyncDynamoDBOperations);
+
+	AsyncQuery<Boolean> buildAsyncExistsQuery(AsyncDynamoDBOperations asyncDynamoDBOperations);
+
 }
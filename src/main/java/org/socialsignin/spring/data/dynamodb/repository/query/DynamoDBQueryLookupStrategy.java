@@ -16,6 +16,7 @@
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityMetadataRegistry;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.NamedQueries;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -48,10 +49,13 @@ public class DynamoDBQueryLookupStrategy {
 	private abstract static class AbstractQueryLookupStrategy implements QueryLookupStrategy {
 
 		protected DynamoDBOperations dynamoDBOperations;
+		protected DynamoDBEntityMetadataRegistry entityMetadataRegistry;
 
-		public AbstractQueryLookupStrategy(DynamoDBOperations dynamoDBOperations) {
+		public AbstractQueryLookupStrategy(DynamoDBOperations dynamoDBOperations,
+				DynamoDBEntityMetadataRegistry entityMetadataRegistry) {
 
 			this.dynamoDBOperations = dynamoDBOperations;
+			this.entityMetadataRegistry = entityMetadataRegistry;
 		}
 
 		/*
@@ -82,9 +86,10 @@ public class DynamoDBQueryLookupStrategy {
 	 */
 	private static class CreateQueryLookupStrategy extends AbstractQueryLookupStrategy {
 
-		public CreateQueryLookupStrategy(DynamoDBOperations dynamoDBOperations) {
+		public CreateQueryLookupStrategy(DynamoDBOperations dynamoDBOperations,
+				DynamoDBEntityMetadataRegistry entityMetadataRegistry) {
 
-			super(dynamoDBOperations);
+			super(dynamoDBOperations, entityMetadataRegistry);
 		}
 
 		@Override
@@ -92,7 +97,8 @@ public class DynamoDBQueryLookupStrategy {
 				ProjectionFactory factory, Class<T> entityClass, Class<ID> idClass, NamedQueries namedQueries) {
 			try {
 				return new PartTreeDynamoDBQuery<T, ID>(dynamoDBOperations,
-						new DynamoDBQueryMethod<T, ID>(method, metadata, factory));
+						new DynamoDBQueryMethod<T, ID>(method, metadata, factory,
+								entityMetadataRegistry.getEntityInformation(entityClass, dynamoDBOperations)));
 			} catch (IllegalArgumentException e) {
 				throw new IllegalArgumentException(
 						String.format("Could not create query metamodel for method %s!", method.toString()), e);
@@ -110,9 +116,10 @@ public class DynamoDBQueryLookupStrategy {
 	 */
 	private static class DeclaredQueryLookupStrategy extends AbstractQueryLookupStrategy {
 
-		public DeclaredQueryLookupStrategy(DynamoDBOperations dynamoDBOperations) {
+		public DeclaredQueryLookupStrategy(DynamoDBOperations dynamoDBOperations,
+				DynamoDBEntityMetadataRegistry entityMetadataRegistry) {
 
-			super(dynamoDBOperations);
+			super(dynamoDBOperations, entityMetadataRegistry);
 		}
 
 		@Override
@@ -136,11 +143,12 @@ public class DynamoDBQueryLookupStrategy {
 		private final DeclaredQueryLookupStrategy strategy;
 		private final CreateQueryLookupStrategy createStrategy;
 
-		public CreateIfNotFoundQueryLookupStrategy(DynamoDBOperations dynamoDBOperations) {
+		public CreateIfNotFoundQueryLookupStrategy(DynamoDBOperations dynamoDBOperations,
+				DynamoDBEntityMetadataRegistry entityMetadataRegistry) {
 
-			super(dynamoDBOperations);
-			this.strategy = new DeclaredQueryLookupStrategy(dynamoDBOperations);
-			this.createStrategy = new CreateQueryLookupStrategy(dynamoDBOperations);
+			super(dynamoDBOperations, entityMetadataRegistry);
+			this.strategy = new DeclaredQueryLookupStrategy(dynamoDBOperations, entityMetadataRegistry);
+			this.createStrategy = new CreateQueryLookupStrategy(dynamoDBOperations, entityMetadataRegistry);
 		}
 
 		@Override
@@ -168,18 +176,35 @@ public class DynamoDBQueryLookupStrategy {
 	 * @return The created {@link QueryLookupStrategy}
 	 */
 	public static QueryLookupStrategy create(DynamoDBOperations dynamoDBOperations, Key key) {
+		return create(dynamoDBOperations, key, new DynamoDBEntityMetadataRegistry());
+	}
+
+	/**
+	 * Creates a {@link QueryLookupStrategy} that resolves the entity metadata of
+	 * its query methods through the given {@link DynamoDBEntityMetadataRegistry}.
+	 *
+	 * @param dynamoDBOperations
+	 *            The current operation
+	 * @param key
+	 *            The key of the entity
+	 * @param entityMetadataRegistry
+	 *            The registry shared with the repository factory
+	 * @return The created {@link QueryLookupStrategy}
+	 */
+	public static QueryLookupStrategy create(DynamoDBOperations dynamoDBOperations, Key key,
+			DynamoDBEntityMetadataRegistry entityMetadataRegistry) {
 
 		if (key == null) {
-			return new CreateQueryLookupStrategy(dynamoDBOperations);
+			return new CreateQueryLookupStrategy(dynamoDBOperations, entityMetadataRegistry);
 		}
 
 		switch (key) {
 			case CREATE :
-				return new CreateQueryLookupStrategy(dynamoDBOperations);
+				return new CreateQueryLookupStrategy(dynamoDBOperations, entityMetadataRegistry);
 			case USE_DECLARED_QUERY :
 				throw new IllegalArgumentException(String.format("Unsupported query lookup strategy %s!", key));
 			case CREATE_IF_NOT_FOUND :
-				return new CreateIfNotFoundQueryLookupStrategy(dynamoDBOperations);
+				return new CreateIfNotFoundQueryLookupStrategy(dynamoDBOperations, entityMetadataRegistry);
 			default :
 				throw new IllegalArgumentException(String.format("Unsupported query lookup strategy %s!", key));
 		}
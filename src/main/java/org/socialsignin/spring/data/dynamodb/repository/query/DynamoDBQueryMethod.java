@@ -15,6 +15,7 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.query;
 
+import org.socialsignin.spring.data.dynamodb.repository.CachedQuery;
 import org.socialsignin.spring.data.dynamodb.repository.EnableScan;
 import org.socialsignin.spring.data.dynamodb.repository.EnableScanCount;
 import org.socialsignin.spring.data.dynamodb.repository.ExpressionAttribute;
@@ -22,13 +23,19 @@ import org.socialsignin.spring.data.dynamodb.repository.Query;
 import org.socialsignin.spring.data.dynamodb.repository.QueryConstants;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityMetadataSupport;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.util.Lazy;
+import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.socialsignin.spring.data.dynamodb.repository.QueryConstants.QUERY_LIMIT_UNLIMITED;
 
@@ -39,18 +46,35 @@ import static org.socialsignin.spring.data.dynamodb.repository.QueryConstants.QU
 public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 
 	private final Method method;
+	private final ProjectionFactory projectionFactory;
 	private final boolean scanEnabledForRepository;
 	private final boolean scanCountEnabledForRepository;
 	private final Optional<String> projectionExpression;
+	private final Lazy<Optional<String>> projectedAttributes;
 	private final Optional<Integer> limitResults;
 	private final Optional<String> filterExpression;
 	private final ExpressionAttribute[] expressionAttributeNames;
 	private final ExpressionAttribute[] expressionAttributeValues;
 	private final QueryConstants.ConsistentReadMode consistentReadMode;
+	private final QueryConstants.TotalCountMode totalCountMode;
+	private final Optional<CachedQuery> cachedQuery;
+	private final Lazy<DynamoDBEntityInformation<T, ID>> entityInformation;
 
 	public DynamoDBQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory) {
+		this(method, metadata, factory, null);
+	}
+
+	/**
+	 * @param entityInformation
+	 *            the already resolved metadata of the domain class, or
+	 *            {@literal null} to derive it from the domain class
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public DynamoDBQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
+			@Nullable DynamoDBEntityInformation<T, ID> entityInformation) {
 		super(method, metadata, factory);
 		this.method = method;
+		this.projectionFactory = factory;
 		this.scanEnabledForRepository = metadata.getRepositoryInterface().isAnnotationPresent(EnableScan.class);
 		this.scanCountEnabledForRepository = metadata.getRepositoryInterface()
 				.isAnnotationPresent(EnableScanCount.class);
@@ -78,14 +102,28 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 				this.limitResults = Optional.empty();
 			}
 			this.consistentReadMode = query.consistentReads();
+			this.totalCountMode = query.totalCount();
 		} else {
 			this.projectionExpression = Optional.empty();
 			this.limitResults = Optional.empty();
 			this.consistentReadMode = QueryConstants.ConsistentReadMode.DEFAULT;
+			this.totalCountMode = QueryConstants.TotalCountMode.LAZY;
 			this.filterExpression = Optional.empty();
 			this.expressionAttributeNames = null;
 			this.expressionAttributeValues = null;
 		}
+
+		this.cachedQuery = Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(method, CachedQuery.class));
+		this.projectedAttributes = Lazy.of(this::resolveProjectedAttributes);
+
+		if (entityInformation != null) {
+			this.entityInformation = Lazy.of(entityInformation);
+		} else {
+			// The entity metadata is derived by reflection, so resolve it only once per
+			// query method instead of on every invocation
+			this.entityInformation = Lazy.<DynamoDBEntityInformation<T, ID>>of(
+					() -> new DynamoDBEntityMetadataSupport(getDomainClass()).getEntityInformation());
+		}
 	}
 
 	/**
@@ -113,9 +151,8 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 	 * org.springframework.data.repository.query.QueryMethod#getEntityInformation ()
 	 */
 	@Override
-	@SuppressWarnings({"rawtypes", "unchecked"})
 	public DynamoDBEntityInformation<T, ID> getEntityInformation() {
-		return new DynamoDBEntityMetadataSupport(getDomainClass()).getEntityInformation();
+		return entityInformation.get();
 	}
 
 	public Class<T> getEntityType() {
@@ -123,8 +160,34 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 		return getEntityInformation().getJavaType();
 	}
 
+	/**
+	 * @return the attributes to read, either given by {@link Query#fields()} or
+	 *         derived from the properties of a closed interface or DTO
+	 *         projection. Open interface projections may evaluate any property
+	 *         of the entity, so all attributes are read for them.
+	 */
 	public Optional<String> getProjectionExpression() {
-		return this.projectionExpression;
+		return this.projectionExpression.isPresent() ? this.projectionExpression : this.projectedAttributes.get();
+	}
+
+	private Optional<String> resolveProjectedAttributes() {
+		ReturnedType returnedType = getResultProcessor().getReturnedType();
+		if (!returnedType.isProjecting()) {
+			return Optional.empty();
+		}
+		Class<?> projectionType = returnedType.getReturnedType();
+		if (projectionType.isInterface()
+				&& !projectionFactory.getProjectionInformation(projectionType).isClosed()) {
+			return Optional.empty();
+		}
+		List<String> properties = returnedType.getInputProperties();
+		if (properties.isEmpty()) {
+			return Optional.empty();
+		}
+		DynamoDBEntityInformation<T, ID> entityInformation = getEntityInformation();
+		return Optional.of(properties.stream()
+				.map(property -> entityInformation.getOverriddenAttributeName(property).orElse(property))
+				.collect(Collectors.joining(", ")));
 	}
 
 	public Optional<Integer> getLimitResults() {
@@ -135,6 +198,17 @@ public class DynamoDBQueryMethod<T, ID> extends QueryMethod {
 		return this.consistentReadMode;
 	}
 
+	public QueryConstants.TotalCountMode getTotalCountMode() {
+		return this.totalCountMode;
+	}
+
+	/**
+	 * @return how the results of this query method are cached, if at all
+	 */
+	public Optional<CachedQuery> getCachedQuery() {
+		return this.cachedQuery;
+	}
+
 	public Optional<String> getFilterExpression() {
 		return this.filterExpression;
 	}
@@ -0,0 +1,177 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.repository.ExpressionAttribute;
+import org.socialsignin.spring.data.dynamodb.repository.QueryConstants;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBIdIsHashAndRangeKeyEntityInformation;
+import org.springframework.data.repository.query.Parameter;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Everything about a derived query method that does not depend on the actual
+ * invocation arguments: the entity metadata, the table model, the
+ * {@link org.socialsignin.spring.data.dynamodb.repository.Query} annotation
+ * settings and the index chosen for a given set of criteria attributes.
+ *
+ * A plan is built once when the repository query is created, so that each
+ * execution only has to bind the parameter values.
+ *
+ * @param <T>
+ *            the type of the entity
+ * @param <ID>
+ *            the type of the entity's identifier
+ */
+public class DynamoDBQueryPlan<T, ID> {
+
+	private final PartTree tree;
+	private final DynamoDBEntityInformation<T, ID> entityInformation;
+	private final TableSchema<T> tableModel;
+	private final Optional<String> projection;
+	private final Optional<Integer> limitResults;
+	private final QueryConstants.ConsistentReadMode consistentReadMode;
+	private final Optional<String> filterExpression;
+	private final ExpressionAttribute[] expressionAttributeNames;
+	private final ExpressionAttribute[] expressionAttributeValues;
+	private final Map<String, Integer> expressionValueParameterIndexes;
+
+	private final Map<String, String> attributeNamesByPropertyName = new ConcurrentHashMap<>();
+	private final Map<Set<String>, Optional<String>> indexNamesByAttributeNames = new ConcurrentHashMap<>();
+
+	public DynamoDBQueryPlan(DynamoDBQueryMethod<T, ID> method, PartTree tree, DynamoDBOperations dynamoDBOperations) {
+		this.tree = tree;
+		this.entityInformation = method.getEntityInformation();
+		this.tableModel = dynamoDBOperations.getTableModel(entityInformation.getJavaType());
+		this.projection = method.getProjectionExpression();
+		this.limitResults = method.getLimitResults();
+		this.consistentReadMode = method.getConsistentReadMode();
+		this.filterExpression = method.getFilterExpression();
+		this.expressionAttributeNames = method.getExpressionAttributeNames();
+		this.expressionAttributeValues = method.getExpressionAttributeValues();
+		this.expressionValueParameterIndexes = resolveExpressionValueParameterIndexes(method,
+				expressionAttributeValues);
+	}
+
+	private static Map<String, Integer> resolveExpressionValueParameterIndexes(DynamoDBQueryMethod<?, ?> method,
+			ExpressionAttribute[] values) {
+		if (values == null) {
+			return Collections.emptyMap();
+		}
+		Map<String, Integer> indexes = new HashMap<>();
+		for (ExpressionAttribute value : values) {
+			if (StringUtils.hasText(value.parameterName())) {
+				for (Parameter p : method.getParameters()) {
+					if (p.getName().isPresent() && p.getName().get().equals(value.parameterName())) {
+						indexes.put(value.parameterName(), p.getIndex());
+					}
+				}
+			}
+		}
+		return Collections.unmodifiableMap(indexes);
+	}
+
+	/**
+	 * Creates a fresh criteria instance for a single query execution. The returned
+	 * criteria shares the attribute name and index lookups of this plan.
+	 *
+	 * @return new criteria for the entity of this plan
+	 */
+	@SuppressWarnings("unchecked")
+	public DynamoDBQueryCriteria<T, ID> createCriteria() {
+		return entityInformation.isRangeKeyAware()
+				? new DynamoDBEntityWithHashAndRangeKeyCriteria<>(
+						(DynamoDBIdIsHashAndRangeKeyEntityInformation<T, ID>) entityInformation, tableModel, this)
+				: new DynamoDBEntityWithHashKeyOnlyCriteria<>(entityInformation, tableModel, this);
+	}
+
+	public PartTree getTree() {
+		return tree;
+	}
+
+	public DynamoDBEntityInformation<T, ID> getEntityInformation() {
+		return entityInformation;
+	}
+
+	public TableSchema<T> getTableModel() {
+		return tableModel;
+	}
+
+	public Optional<String> getProjection() {
+		return projection;
+	}
+
+	public Optional<Integer> getLimitResults() {
+		return limitResults;
+	}
+
+	public QueryConstants.ConsistentReadMode getConsistentReadMode() {
+		return consistentReadMode;
+	}
+
+	public Optional<String> getFilterExpression() {
+		return filterExpression;
+	}
+
+	public ExpressionAttribute[] getExpressionAttributeNames() {
+		if (expressionAttributeNames != null) {
+			return expressionAttributeNames.clone();
+		}
+		return null;
+	}
+
+	public ExpressionAttribute[] getExpressionAttributeValues() {
+		if (expressionAttributeValues != null) {
+			return expressionAttributeValues.clone();
+		}
+		return null;
+	}
+
+	/**
+	 * @return the parameter index of every
+	 *         {@link ExpressionAttribute#parameterName()} that is bound to a
+	 *         method parameter
+	 */
+	public Map<String, Integer> getExpressionValueParameterIndexes() {
+		return expressionValueParameterIndexes;
+	}
+
+	Map<String, String> getAttributeNamesByPropertyName() {
+		return attributeNamesByPropertyName;
+	}
+
+	/**
+	 * The index to use only depends on the attributes the criteria restricts, so
+	 * it is resolved once per distinct attribute set.
+	 */
+	String getGlobalSecondaryIndexName(Set<String> attributeNames, Supplier<String> resolver) {
+		return indexNamesByAttributeNames
+				.computeIfAbsent(Set.copyOf(attributeNames), key -> Optional.ofNullable(resolver.get()))
+				.orElse(null);
+	}
+
+}
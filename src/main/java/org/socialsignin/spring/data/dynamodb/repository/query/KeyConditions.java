@@ -0,0 +1,172 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The conditions of a query, split into the conditions DynamoDB evaluates on
+ * the key of the table or index being queried, and the remaining conditions
+ * which can only be applied as a filter to the items read.
+ *
+ * The partition key needs an equality condition. The sort key takes a single
+ * condition with one of the operators DynamoDB supports in key conditions. Any
+ * further condition, including those on attributes which are not part of the
+ * key, ends up in the filter, so that the items are still filtered by DynamoDB
+ * rather than after they have been transferred.
+ */
+class KeyConditions {
+
+	private static final List<ComparisonOperator> SORT_KEY_OPERATORS = Arrays.asList(ComparisonOperator.EQ,
+			ComparisonOperator.LE, ComparisonOperator.LT, ComparisonOperator.GE, ComparisonOperator.GT,
+			ComparisonOperator.BEGINS_WITH, ComparisonOperator.BETWEEN);
+
+	private final String partitionKeyAttributeName;
+	private final Condition partitionKeyCondition;
+	@Nullable
+	private final String sortKeyAttributeName;
+	@Nullable
+	private final Condition sortKeyCondition;
+	private final MultiValueMap<String, Condition> filterConditions;
+
+	private KeyConditions(String partitionKeyAttributeName, Condition partitionKeyCondition,
+			@Nullable String sortKeyAttributeName, @Nullable Condition sortKeyCondition,
+			MultiValueMap<String, Condition> filterConditions) {
+		this.partitionKeyAttributeName = partitionKeyAttributeName;
+		this.partitionKeyCondition = partitionKeyCondition;
+		this.sortKeyAttributeName = sortKeyAttributeName;
+		this.sortKeyCondition = sortKeyCondition;
+		this.filterConditions = filterConditions;
+	}
+
+	/**
+	 * @return whether DynamoDB can evaluate the condition on a sort key
+	 */
+	static boolean isSortKeyCondition(Condition condition) {
+		return SORT_KEY_OPERATORS.contains(condition.comparisonOperator());
+	}
+
+	/**
+	 * @param partitionKeyAttributeName
+	 *            the partition key of the table or index being queried
+	 * @param sortKeyAttributeNames
+	 *            the attributes which are a sort key of the table or index being
+	 *            queried
+	 * @param conditions
+	 *            all conditions of the query by attribute name
+	 */
+	static KeyConditions of(String partitionKeyAttributeName, Collection<String> sortKeyAttributeNames,
+			MultiValueMap<String, Condition> conditions) {
+		Condition partitionKeyCondition = null;
+		String sortKeyAttributeName = null;
+		Condition sortKeyCondition = null;
+		MultiValueMap<String, Condition> filterConditions = new LinkedMultiValueMap<>();
+
+		for (Map.Entry<String, List<Condition>> attributeConditions : conditions.entrySet()) {
+			String attributeName = attributeConditions.getKey();
+			for (Condition condition : attributeConditions.getValue()) {
+				if (partitionKeyCondition == null && attributeName.equals(partitionKeyAttributeName)
+						&& condition.comparisonOperator() == ComparisonOperator.EQ) {
+					partitionKeyCondition = condition;
+				} else if (sortKeyCondition == null && sortKeyAttributeNames.contains(attributeName)
+						&& isSortKeyCondition(condition)) {
+					sortKeyAttributeName = attributeName;
+					sortKeyCondition = condition;
+				} else {
+					filterConditions.add(attributeName, condition);
+				}
+			}
+		}
+
+		if (partitionKeyCondition == null) {
+			throw new UnsupportedOperationException(
+					"Query requires an equality condition on the partition key " + partitionKeyAttributeName);
+		}
+		return new KeyConditions(partitionKeyAttributeName, partitionKeyCondition, sortKeyAttributeName,
+				sortKeyCondition, filterConditions);
+	}
+
+	/**
+	 * @return the key condition of an enhanced query request
+	 */
+	QueryConditional toQueryConditional() {
+		AttributeValue partitionValue = partitionKeyCondition.attributeValueList().get(0);
+		if (sortKeyCondition == null) {
+			return QueryConditional.keyEqualTo(Key.builder().partitionValue(partitionValue).build());
+		}
+
+		List<AttributeValue> sortValues = sortKeyCondition.attributeValueList();
+		Key key = Key.builder().partitionValue(partitionValue).sortValue(sortValues.get(0)).build();
+		switch (sortKeyCondition.comparisonOperator()) {
+			case EQ:
+				return QueryConditional.keyEqualTo(key);
+			case LT:
+				return QueryConditional.sortLessThan(key);
+			case LE:
+				return QueryConditional.sortLessThanOrEqualTo(key);
+			case GT:
+				return QueryConditional.sortGreaterThan(key);
+			case GE:
+				return QueryConditional.sortGreaterThanOrEqualTo(key);
+			case BEGINS_WITH:
+				return QueryConditional.sortBeginsWith(key);
+			case BETWEEN:
+				return QueryConditional.sortBetween(key,
+						Key.builder().partitionValue(partitionValue).sortValue(sortValues.get(1)).build());
+			default:
+				throw new UnsupportedOperationException("Comparison operator "
+						+ sortKeyCondition.comparisonOperatorAsString() + " is not supported on a sort key");
+		}
+	}
+
+	/**
+	 * @return the key condition expression of a low level query request
+	 */
+	Expression toKeyConditionExpression() {
+		ConditionExpressionBuilder keyConditionExpression = new ConditionExpressionBuilder("key")
+				.withCondition(partitionKeyAttributeName, partitionKeyCondition);
+		if (sortKeyCondition != null) {
+			keyConditionExpression.withCondition(sortKeyAttributeName, sortKeyCondition);
+		}
+		return keyConditionExpression.build();
+	}
+
+	/**
+	 * @return the filter expression for the conditions which are not key
+	 *         conditions, or {@code null} if there are none
+	 */
+	@Nullable
+	Expression toFilterExpression() {
+		ConditionExpressionBuilder filterExpression = new ConditionExpressionBuilder("filter");
+		filterConditions.forEach((attributeName, attributeConditions) -> attributeConditions
+				.forEach(condition -> filterExpression.withCondition(attributeName, condition)));
+		return filterExpression.isEmpty() ? null : filterExpression.build();
+	}
+
+}
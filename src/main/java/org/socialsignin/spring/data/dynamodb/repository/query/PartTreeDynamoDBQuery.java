@@ -30,25 +30,26 @@ public class PartTreeDynamoDBQuery<T, ID> extends AbstractDynamoDBQuery<T, ID> i
 
 	private final Parameters<?, ?> parameters;
 	private final PartTree tree;
+	private final DynamoDBQueryPlan<T, ID> queryPlan;
 
 	public PartTreeDynamoDBQuery(DynamoDBOperations dynamoDBOperations, DynamoDBQueryMethod<T, ID> method) {
 		super(dynamoDBOperations, method);
 		this.parameters = method.getParameters();
 		this.tree = new PartTree(method.getName(), method.getEntityType());
+		this.queryPlan = new DynamoDBQueryPlan<>(method, tree, dynamoDBOperations);
 	}
 
 	protected DynamoDBQueryCreator<T, ID> createQueryCreator(ParametersParameterAccessor accessor) {
-		DynamoDBQueryMethod<T, ID> queryMethod = getQueryMethod();
-		return new DynamoDBQueryCreator<>(tree, accessor, queryMethod.getEntityInformation(),
-				queryMethod.getProjectionExpression(), queryMethod.getLimitResults(), queryMethod.getConsistentReadMode(), queryMethod.getFilterExpression(),
-				queryMethod.getExpressionAttributeNames(), queryMethod.getExpressionAttributeValues(), dynamoDBOperations);
+		return new DynamoDBQueryCreator<>(tree, accessor, queryPlan, dynamoDBOperations);
 	}
 
 	protected DynamoDBCountQueryCreator<T, ID> createCountQueryCreator(ParametersParameterAccessor accessor,
 			boolean pageQuery) {
-		DynamoDBQueryMethod<T, ID> queryMethod = getQueryMethod();
-		return new DynamoDBCountQueryCreator<>(tree, accessor, queryMethod.getEntityInformation(), queryMethod.getFilterExpression(),
-				queryMethod.getExpressionAttributeNames(), queryMethod.getExpressionAttributeValues(), dynamoDBOperations, pageQuery);
+		return new DynamoDBCountQueryCreator<>(tree, accessor, queryPlan, dynamoDBOperations, pageQuery);
+	}
+
+	protected DynamoDBExistsQueryCreator<T, ID> createExistsQueryCreator(ParametersParameterAccessor accessor) {
+		return new DynamoDBExistsQueryCreator<>(tree, accessor, queryPlan, dynamoDBOperations);
 	}
 
 	@Override
@@ -67,6 +68,13 @@ public class PartTreeDynamoDBQuery<T, ID> extends AbstractDynamoDBQuery<T, ID> i
 
 	}
 
+	@Override
+	public Query<Boolean> doCreateExistsQuery(Object[] values) {
+		ParametersParameterAccessor accessor = new ParametersParameterAccessor(parameters, values);
+		DynamoDBExistsQueryCreator<T, ID> queryCreator = createExistsQueryCreator(accessor);
+		return queryCreator.createQuery();
+	}
+
 	@Override
 	protected boolean isCountQuery() {
 		return tree.isCountProjection();
@@ -0,0 +1,85 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityMetadataRegistry;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+import org.springframework.data.repository.query.RepositoryQuery;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link QueryLookupStrategy} of reactive repositories. As declared queries
+ * are not supported, every query is derived from the method name, see
+ * {@link DynamoDBQueryLookupStrategy}.
+ */
+public class ReactiveDynamoDBQueryLookupStrategy implements QueryLookupStrategy {
+
+	private final DynamoDBOperations dynamoDBOperations;
+	private final AsyncDynamoDBOperations asyncDynamoDBOperations;
+	private final DynamoDBEntityMetadataRegistry entityMetadataRegistry;
+
+	private ReactiveDynamoDBQueryLookupStrategy(DynamoDBOperations dynamoDBOperations,
+			AsyncDynamoDBOperations asyncDynamoDBOperations, DynamoDBEntityMetadataRegistry entityMetadataRegistry) {
+		this.dynamoDBOperations = dynamoDBOperations;
+		this.asyncDynamoDBOperations = asyncDynamoDBOperations;
+		this.entityMetadataRegistry = entityMetadataRegistry;
+	}
+
+	@Override
+	public RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
+			NamedQueries namedQueries) {
+		try {
+			return new ReactivePartTreeDynamoDBQuery<>(dynamoDBOperations, asyncDynamoDBOperations,
+					new DynamoDBQueryMethod<>(method, metadata, factory,
+							entityMetadataRegistry.getEntityInformation(metadata.getDomainType(), dynamoDBOperations)));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException(
+					String.format("Could not create query metamodel for method %s!", method.toString()), e);
+		}
+	}
+
+	/**
+	 * Creates a {@link QueryLookupStrategy} for reactive repositories.
+	 *
+	 * @param dynamoDBOperations
+	 *            The operations the entity metadata is resolved with
+	 * @param asyncDynamoDBOperations
+	 *            The operations the queries are executed with
+	 * @param key
+	 *            The key of the entity
+	 * @param entityMetadataRegistry
+	 *            The registry shared with the repository factory
+	 * @return The created {@link QueryLookupStrategy}
+	 */
+	public static QueryLookupStrategy create(DynamoDBOperations dynamoDBOperations,
+			AsyncDynamoDBOperations asyncDynamoDBOperations, Key key,
+			DynamoDBEntityMetadataRegistry entityMetadataRegistry) {
+
+		if (key == null || key == Key.CREATE || key == Key.CREATE_IF_NOT_FOUND) {
+			return new ReactiveDynamoDBQueryLookupStrategy(dynamoDBOperations, asyncDynamoDBOperations,
+					entityMetadataRegistry);
+		}
+		throw new IllegalArgumentException(String.format("Unsupported query lookup strategy %s!", key));
+	}
+
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBTemplate;
+import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
+import org.socialsignin.spring.data.dynamodb.query.AsyncQuery;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import org.socialsignin.spring.data.dynamodb.utils.ExceptionHandler;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.query.Parameter;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.util.ReactiveWrappers;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Reactive counterpart of {@link PartTreeDynamoDBQuery}. The results are
+ * streamed straight from the publisher of the asynchronous client, so further
+ * pages are only read from DynamoDB as the subscriber requests more items.
+ */
+public class ReactivePartTreeDynamoDBQuery<T, ID> implements RepositoryQuery, ExceptionHandler {
+
+	private final DynamoDBOperations dynamoDBOperations;
+	private final AsyncDynamoDBOperations asyncDynamoDBOperations;
+	private final DynamoDBQueryMethod<T, ID> method;
+	private final PartTree tree;
+	private final DynamoDBQueryPlan<T, ID> queryPlan;
+
+	/**
+	 * @param dynamoDBOperations
+	 *            resolves the table model the criteria of the query are mapped
+	 *            with
+	 * @param asyncDynamoDBOperations
+	 *            executes the query
+	 * @throws IllegalArgumentException
+	 *             if a parameter of the method is a reactive wrapper, which are
+	 *             not supported yet
+	 */
+	public ReactivePartTreeDynamoDBQuery(DynamoDBOperations dynamoDBOperations,
+			AsyncDynamoDBOperations asyncDynamoDBOperations, DynamoDBQueryMethod<T, ID> method) {
+		for (Parameter parameter : method.getParameters()) {
+			if (ReactiveWrappers.supports(parameter.getType())) {
+				throw new IllegalArgumentException(String.format(
+						"Reactive wrapper parameters are not supported, but parameter %s of %s is a %s!",
+						parameter.getIndex(), method.getName(), parameter.getType().getName()));
+			}
+		}
+		this.dynamoDBOperations = dynamoDBOperations;
+		this.asyncDynamoDBOperations = asyncDynamoDBOperations;
+		this.method = method;
+		this.tree = new PartTree(method.getName(), method.getEntityType());
+		this.queryPlan = new DynamoDBQueryPlan<>(method, tree, dynamoDBOperations);
+	}
+
+	protected AsyncQuery<T> doCreateQuery(ParametersParameterAccessor accessor) {
+		AsyncQuery<T> query = new AsyncDynamoDBQueryCreator<>(tree, accessor, queryPlan, dynamoDBOperations,
+				asyncDynamoDBOperations).createQuery();
+		query.setScanEnabled(method.isScanEnabled());
+		return query;
+	}
+
+	protected AsyncQuery<Long> doCreateCountQuery(ParametersParameterAccessor accessor) {
+		AsyncQuery<Long> query = new AsyncDynamoDBCountQueryCreator<>(tree, accessor, queryPlan, dynamoDBOperations,
+				asyncDynamoDBOperations).createQuery();
+		query.setScanCountEnabled(method.isScanCountEnabled());
+		return query;
+	}
+
+	protected AsyncQuery<Boolean> doCreateExistsQuery(ParametersParameterAccessor accessor) {
+		AsyncQuery<Boolean> query = new AsyncDynamoDBExistsQueryCreator<>(tree, accessor, queryPlan,
+				dynamoDBOperations, asyncDynamoDBOperations).createQuery();
+		query.setScanEnabled(method.isScanEnabled());
+		return query;
+	}
+
+	@Override
+	public Object execute(Object[] parameters) {
+		ParametersParameterAccessor accessor = new ParametersParameterAccessor(method.getParameters(), parameters);
+
+		if (tree.isCountProjection()) {
+			return Mono.defer(() -> Mono.from(doCreateCountQuery(accessor).getResultPublisher()));
+		}
+		if (tree.isExistsProjection()) {
+			return Mono.defer(() -> Mono.from(doCreateExistsQuery(accessor).getResultPublisher()));
+		}
+
+		Flux<T> results = Flux.defer(() -> Flux.from(doCreateQuery(accessor).getResultPublisher()));
+		Pageable pageable = accessor.getPageable();
+		if (pageable.isPaged()) {
+			results = results.skip(pageable.getOffset()).take(pageable.getPageSize());
+		}
+		if (tree.isLimiting()) {
+			results = results.take(tree.getMaxResults());
+		}
+
+		if (tree.isDelete()) {
+			return delete(results);
+		} else if (ReactiveWrappers.isSingleValueType(method.getReturnType())) {
+			return results.take(2).collectList().flatMap(this::singleResult);
+		} else {
+			return results;
+		}
+	}
+
+	private Object delete(Flux<T> results) {
+		DynamoDBEntityInformation<T, ID> entityInformation = method.getEntityInformation();
+		Flux<T> deleted = results.buffer(DynamoDBTemplate.MAX_BATCH_WRITE_SIZE)
+				.concatMap(entities -> Mono
+						.fromFuture(() -> asyncDynamoDBOperations.batchDelete(entities, entityInformation))
+						.flatMapIterable(failedBatches -> {
+							if (!failedBatches.unprocessedDeleteItemsForTable(
+									asyncDynamoDBOperations.getDynamoDbAsyncTable(entityInformation)).isEmpty()) {
+								throw repackageToException(BatchDeleteException.class);
+							}
+							return entities;
+						}));
+
+		if (ReactiveWrappers.isMultiValueType(method.getReturnType())) {
+			return deleted;
+		} else if (Long.class.equals(method.getReturnedObjectType())
+				|| long.class.equals(method.getReturnedObjectType())) {
+			return deleted.count();
+		} else {
+			return deleted.then();
+		}
+	}
+
+	private Mono<T> singleResult(List<T> results) {
+		if (results.size() > 1) {
+			return Mono.error(new IncorrectResultSizeDataAccessException("result returns more than one elements", 1,
+					results.size()));
+		}
+		return Mono.justOrEmpty(results.isEmpty() ? null : results.get(0));
+	}
+
+	@Override
+	public DynamoDBQueryMethod<T, ID> getQueryMethod() {
+		return method;
+	}
+
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import jakarta.persistence.Table;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.mapping.DynamoDBMappingContext;
+import org.socialsignin.spring.data.dynamodb.mapping.DynamoDBPersistentEntityImpl;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe registry of the {@link DynamoDBEntityInformation} of all domain
+ * classes of a {@link DynamoDBMappingContext}. The metadata of a domain class
+ * is derived by reflection exactly once per {@link DynamoDBOperations} and then
+ * shared by the repository factory, the repositories and their query methods.
+ */
+public class DynamoDBEntityMetadataRegistry {
+
+	private final DynamoDBMappingContext mappingContext;
+	private final Map<DynamoDBOperations, Map<Class<?>, DynamoDBEntityInformation<?, ?>>> entityInformation = new ConcurrentHashMap<>();
+
+	public DynamoDBEntityMetadataRegistry() {
+		this(null);
+	}
+
+	public DynamoDBEntityMetadataRegistry(@Nullable DynamoDBMappingContext mappingContext) {
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * Resolves the metadata of all entities currently known to the
+	 * {@link DynamoDBMappingContext} up front.
+	 *
+	 * @param dynamoDBOperations
+	 *            the operations the entities are accessed with
+	 */
+	public void seed(DynamoDBOperations dynamoDBOperations) {
+		if (mappingContext == null) {
+			return;
+		}
+		for (DynamoDBPersistentEntityImpl<?> persistentEntity : mappingContext.getPersistentEntities()) {
+			Class<?> domainClass = persistentEntity.getType();
+			if (domainClass.isAnnotationPresent(Table.class)) {
+				getEntityInformation(domainClass, dynamoDBOperations);
+			}
+		}
+	}
+
+	/**
+	 * @param domainClass
+	 *            must not be {@literal null}
+	 * @param dynamoDBOperations
+	 *            must not be {@literal null}
+	 * @return the cached {@link DynamoDBEntityInformation} for the given domain
+	 *         class
+	 */
+	@SuppressWarnings("unchecked")
+	public <T, ID> DynamoDBEntityInformation<T, ID> getEntityInformation(Class<T> domainClass,
+			DynamoDBOperations dynamoDBOperations) {
+		Assert.notNull(domainClass, "Domain class must not be null!");
+		Assert.notNull(dynamoDBOperations, "DynamoDBOperations must not be null!");
+
+		return (DynamoDBEntityInformation<T, ID>) entityInformation
+				.computeIfAbsent(dynamoDBOperations, operations -> new ConcurrentHashMap<>())
+				.computeIfAbsent(domainClass, type -> new DynamoDBEntityMetadataSupport<T, ID>(domainClass,
+						dynamoDBOperations).getEntityInformation());
+	}
+
+}
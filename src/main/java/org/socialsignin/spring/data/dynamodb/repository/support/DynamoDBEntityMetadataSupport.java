@@ -17,6 +17,7 @@ package org.socialsignin.spring.data.dynamodb.repository.support;
 
 import jakarta.persistence.Table;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.springframework.data.util.Lazy;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
@@ -29,10 +30,14 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * @author Michael Lavelle
@@ -48,7 +53,11 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
 
 	private String dynamoDBTableName;
 	private Map<String, String[]> globalSecondaryIndexNames;
-	private DynamoDbTable<T> table;
+	private Map<String, String[]> localSecondaryIndexNames;
+	private final Set<String> secondaryPartitionKeyIndexNames = new HashSet<>();
+	private final Map<String, String[]> secondarySortKeyIndexNames = new HashMap<>();
+	private final Lazy<DynamoDbTable<T>> table;
+	private final DynamoDBOperations dynamoDBOperations;
 
 	@Override
 	public String getDynamoDBTableName() {
@@ -57,7 +66,7 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
 
 	@Override
 	public DynamoDbTable<T> getTable() {
-		return table;
+		return table.getNullable();
 	}
 
 	/**
@@ -84,14 +93,15 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
 
         Assert.notNull(domainType, "Domain type must not be null!");
         this.domainType = domainType;
+        this.dynamoDBOperations = dynamoDBOperations;
 
         Table table = this.domainType.getAnnotation(Table.class);
         Assert.notNull(table, "Domain type must by annotated with Table!");
 		this.dynamoDBTableName = table.name();
 
-		if (dynamoDBOperations != null) {
-			this.table = dynamoDBOperations.getDynamoDbTable(domainType, table.name());
-		}
+		this.table = Lazy.of(() -> dynamoDBOperations != null
+				? dynamoDBOperations.getDynamoDbTable(domainType, dynamoDBTableName)
+				: null);
         this.hashKeyPropertyName = null;
         this.globalSecondaryIndexNames = new HashMap<>();
         this.globalIndexHashKeyPropertyNames = new ArrayList<>();
@@ -131,13 +141,14 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
             }
         });
         Assert.notNull(hashKeyPropertyName, "Unable to find hash key field or getter method on " + domainType + "!");
+        this.localSecondaryIndexNames = resolveLocalSecondaryIndexNames();
     }
 
 	public DynamoDBEntityInformation<T, ID> getEntityInformation() {
 
 		if (hasRangeKey) {
 			DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl<T, ID> metadata = new DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl<T, ID>(
-					domainType);
+					domainType, dynamoDBOperations);
 			return new DynamoDBIdIsHashAndRangeKeyEntityInformationImpl<>(domainType, metadata);
 		} else {
 			return new DynamoDBIdIsHashKeyEntityInformationImpl<>(domainType, this);
@@ -296,8 +307,8 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
 				&& dynamoDBIndexRangeKey.indexNames().length > 0) {
 			String propertyName = getPropertyNameForAccessorMethod(method);
 
-			globalSecondaryIndexNames.put(propertyName,
-					method.getAnnotation(DynamoDbSecondarySortKey.class).indexNames());
+			addGlobalSecondaryIndexNames(propertyName, dynamoDBIndexRangeKey.indexNames());
+			secondarySortKeyIndexNames.put(propertyName, dynamoDBIndexRangeKey.indexNames());
 			globalIndexRangeKeyPropertyNames.add(propertyName);
 
 		}
@@ -309,8 +320,8 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
 				&& dynamoDBIndexRangeKey.indexNames().length > 0) {
 			String propertyName = getPropertyNameForField(field);
 
-			globalSecondaryIndexNames.put(propertyName,
-					field.getAnnotation(DynamoDbSecondarySortKey.class).indexNames());
+			addGlobalSecondaryIndexNames(propertyName, dynamoDBIndexRangeKey.indexNames());
+			secondarySortKeyIndexNames.put(propertyName, dynamoDBIndexRangeKey.indexNames());
 			globalIndexRangeKeyPropertyNames.add(propertyName);
 
 		}
@@ -322,8 +333,8 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
 				&& dynamoDBIndexHashKey.indexNames().length > 0) {
 			String propertyName = getPropertyNameForAccessorMethod(method);
 
-			globalSecondaryIndexNames.put(propertyName,
-					method.getAnnotation(DynamoDbSecondaryPartitionKey.class).indexNames());
+			addGlobalSecondaryIndexNames(propertyName, dynamoDBIndexHashKey.indexNames());
+			secondaryPartitionKeyIndexNames.addAll(Arrays.asList(dynamoDBIndexHashKey.indexNames()));
 			globalIndexHashKeyPropertyNames.add(propertyName);
 
 		}
@@ -335,13 +346,66 @@ public class DynamoDBEntityMetadataSupport<T, ID> implements DynamoDBHashKeyExtr
 				&& dynamoDBIndexHashKey.indexNames().length > 0) {
 			String propertyName = getPropertyNameForField(field);
 
-			globalSecondaryIndexNames.put(propertyName,
-					field.getAnnotation(DynamoDbSecondaryPartitionKey.class).indexNames());
+			addGlobalSecondaryIndexNames(propertyName, dynamoDBIndexHashKey.indexNames());
+			secondaryPartitionKeyIndexNames.addAll(Arrays.asList(dynamoDBIndexHashKey.indexNames()));
 			globalIndexHashKeyPropertyNames.add(propertyName);
 
 		}
 	}
 
+	private void addGlobalSecondaryIndexNames(String propertyName, String[] indexNames) {
+		// A property can be a key of several indexes, both as partition and as sort key
+		Set<String> propertyIndexNames = new LinkedHashSet<>();
+		if (globalSecondaryIndexNames.containsKey(propertyName)) {
+			propertyIndexNames.addAll(Arrays.asList(globalSecondaryIndexNames.get(propertyName)));
+		}
+		propertyIndexNames.addAll(Arrays.asList(indexNames));
+		globalSecondaryIndexNames.put(propertyName, propertyIndexNames.toArray(new String[0]));
+	}
+
+	/**
+	 * An index which has a sort key but no partition key of its own is keyed by
+	 * the hash key of the table, which makes it a local secondary index. Its sort
+	 * key properties are taken out of the global secondary index key properties.
+	 *
+	 * @return the local secondary index names by the property name of their sort
+	 *         key
+	 */
+	private Map<String, String[]> resolveLocalSecondaryIndexNames() {
+		Map<String, String[]> localIndexNames = new HashMap<>();
+		for (Map.Entry<String, String[]> sortKeyIndexNames : secondarySortKeyIndexNames.entrySet()) {
+			String propertyName = sortKeyIndexNames.getKey();
+			List<String> localIndexNamesOfProperty = new ArrayList<>();
+			for (String indexName : sortKeyIndexNames.getValue()) {
+				if (!secondaryPartitionKeyIndexNames.contains(indexName)) {
+					localIndexNamesOfProperty.add(indexName);
+				}
+			}
+			if (localIndexNamesOfProperty.isEmpty()) {
+				continue;
+			}
+			localIndexNames.put(propertyName, localIndexNamesOfProperty.toArray(new String[0]));
+
+			List<String> globalIndexNamesOfProperty = new ArrayList<>(
+					Arrays.asList(globalSecondaryIndexNames.get(propertyName)));
+			globalIndexNamesOfProperty.removeAll(localIndexNamesOfProperty);
+			if (globalIndexNamesOfProperty.isEmpty()) {
+				globalSecondaryIndexNames.remove(propertyName);
+			} else {
+				globalSecondaryIndexNames.put(propertyName, globalIndexNamesOfProperty.toArray(new String[0]));
+			}
+			if (Arrays.stream(sortKeyIndexNames.getValue()).noneMatch(secondaryPartitionKeyIndexNames::contains)) {
+				globalIndexRangeKeyPropertyNames.removeIf(propertyName::equals);
+			}
+		}
+		return localIndexNames;
+	}
+
+	@Override
+	public Map<String, String[]> getLocalSecondaryIndexNamesByPropertyName() {
+		return localSecondaryIndexNames;
+	}
+
 	@Override
 	public Map<String, String[]> getGlobalSecondaryIndexNamesByPropertyName() {
 		return globalSecondaryIndexNames;
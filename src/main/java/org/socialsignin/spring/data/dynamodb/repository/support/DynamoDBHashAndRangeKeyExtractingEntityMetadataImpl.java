@@ -15,6 +15,7 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.springframework.data.annotation.Id;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
@@ -24,6 +25,7 @@ import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecon
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -40,8 +42,15 @@ public class DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl<T, ID> extends
 	private Method hashKeySetterMethod;
 	private Field hashKeyField;
 
+	private final Set<String> indexRangeKeyPropertyNames;
+
 	public DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl(final Class<T> domainType) {
-		super(domainType);
+		this(domainType, null);
+	}
+
+	public DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl(final Class<T> domainType,
+			DynamoDBOperations dynamoDBOperations) {
+		super(domainType, dynamoDBOperations);
 		this.hashAndRangeKeyMethodExtractor = new DynamoDBHashAndRangeKeyMethodExtractorImpl<T>(getJavaType());
 		ReflectionUtils.doWithMethods(domainType, method -> {
 			if (method.getAnnotation(DynamoDbPartitionKey.class) != null) {
@@ -63,6 +72,7 @@ public class DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl<T, ID> extends
 				"Unable to find hash key field or setter method on " + domainType + "!");
 		Assert.isTrue(hashKeySetterMethod == null || hashKeyField == null,
 				"Found both hash key field and setter method on " + domainType + "!");
+		this.indexRangeKeyPropertyNames = Collections.unmodifiableSet(resolveIndexRangeKeyPropertyNames());
 
 	}
 
@@ -78,6 +88,10 @@ public class DynamoDBHashAndRangeKeyExtractingEntityMetadataImpl<T, ID> extends
 
 	@Override
 	public Set<String> getIndexRangeKeyPropertyNames() {
+		return indexRangeKeyPropertyNames;
+	}
+
+	private Set<String> resolveIndexRangeKeyPropertyNames() {
 		final Set<String> propertyNames = new HashSet<>();
 		ReflectionUtils.doWithMethods(getJavaType(), method -> {
 			if (method.getAnnotation(DynamoDbSecondarySortKey.class) != null) {
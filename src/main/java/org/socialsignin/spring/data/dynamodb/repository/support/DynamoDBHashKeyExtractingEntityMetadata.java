@@ -47,6 +47,12 @@ public interface DynamoDBHashKeyExtractingEntityMetadata<T> extends EntityMetada
 
 	Map<String, String[]> getGlobalSecondaryIndexNamesByPropertyName();
 
+	/**
+	 * @return the names of the local secondary indexes by the property name of
+	 *         their sort key; these indexes share the hash key of the table
+	 */
+	Map<String, String[]> getLocalSecondaryIndexNamesByPropertyName();
+
 	boolean isGlobalIndexHashKeyProperty(String propertyName);
 
 	boolean isGlobalIndexRangeKeyProperty(String propertyName);
@@ -131,6 +131,11 @@ public class DynamoDBIdIsHashAndRangeKeyEntityInformationImpl<T, ID>
 		return metadata.getGlobalSecondaryIndexNamesByPropertyName();
 	}
 
+	@Override
+	public Map<String, String[]> getLocalSecondaryIndexNamesByPropertyName() {
+		return metadata.getLocalSecondaryIndexNamesByPropertyName();
+	}
+
 	@Override
 	public <H> T getHashKeyPropotypeEntityForHashKey(H hashKey) {
 		return metadata.getHashKeyPropotypeEntityForHashKey(hashKey);
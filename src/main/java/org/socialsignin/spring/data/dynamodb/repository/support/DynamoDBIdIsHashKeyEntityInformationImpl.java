@@ -121,6 +121,11 @@ public class DynamoDBIdIsHashKeyEntityInformationImpl<T, ID> extends FieldAndGet
 		return metadata.getGlobalSecondaryIndexNamesByPropertyName();
 	}
 
+	@Override
+	public Map<String, String[]> getLocalSecondaryIndexNamesByPropertyName() {
+		return metadata.getLocalSecondaryIndexNamesByPropertyName();
+	}
+
 	@Override
 	public boolean isGlobalIndexHashKeyProperty(String propertyName) {
 		return metadata.isGlobalIndexHashKeyProperty(propertyName);
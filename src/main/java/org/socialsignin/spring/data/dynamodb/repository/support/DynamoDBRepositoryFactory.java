@@ -92,22 +92,27 @@ public class DynamoDBRepositoryFactory extends RepositoryFactorySupport {
 	}
 
 	private final DynamoDBOperations dynamoDBOperations;
+	private final DynamoDBEntityMetadataRegistry entityMetadataRegistry;
 
 	public DynamoDBRepositoryFactory(DynamoDBOperations dynamoDBOperations) {
+		this(dynamoDBOperations, new DynamoDBEntityMetadataRegistry());
+	}
+
+	public DynamoDBRepositoryFactory(DynamoDBOperations dynamoDBOperations,
+			DynamoDBEntityMetadataRegistry entityMetadataRegistry) {
 		this.dynamoDBOperations = dynamoDBOperations;
+		this.entityMetadataRegistry = entityMetadataRegistry;
 	}
 
 	@Override
 	public <T, ID> DynamoDBEntityInformation<T, ID> getEntityInformation(final Class<T> domainClass) {
-
-		final DynamoDBEntityMetadataSupport<T, ID> metadata = new DynamoDBEntityMetadataSupport<>(domainClass, this.dynamoDBOperations);
-		return metadata.getEntityInformation();
+		return entityMetadataRegistry.getEntityInformation(domainClass, this.dynamoDBOperations);
 	}
 
 	@Override
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(Key key,
 			QueryMethodEvaluationContextProvider evaluationContextProvider) {
-		return Optional.of(DynamoDBQueryLookupStrategy.create(dynamoDBOperations, key));
+		return Optional.of(DynamoDBQueryLookupStrategy.create(dynamoDBOperations, key, entityMetadataRegistry));
 	}
 
 	/**
@@ -43,6 +43,7 @@ public class DynamoDBRepositoryFactoryBean<T extends Repository<S, ID>, S, ID ex
 	private DynamoDBOperations dynamoDBOperations;
 	private Entity2DynamoDBTableSynchronizer<S, ID> tableSynchronizer;
 	private DynamoDBMappingContextProcessor<S, ID> dynamoDBMappingContextProcessor;
+	private DynamoDBEntityMetadataRegistry entityMetadataRegistry;
 
 	public DynamoDBRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
 		super(repositoryInterface);
@@ -53,7 +54,12 @@ public class DynamoDBRepositoryFactoryBean<T extends Repository<S, ID>, S, ID ex
 		assert dynamoDBOperations != null;
 		assert tableSynchronizer != null;
 		assert dynamoDBMappingContextProcessor != null;
-		DynamoDBRepositoryFactory dynamoDBRepositoryFactory = new DynamoDBRepositoryFactory(dynamoDBOperations);
+		if (entityMetadataRegistry == null) {
+			entityMetadataRegistry = new DynamoDBEntityMetadataRegistry();
+		}
+		entityMetadataRegistry.seed(dynamoDBOperations);
+		DynamoDBRepositoryFactory dynamoDBRepositoryFactory = new DynamoDBRepositoryFactory(dynamoDBOperations,
+				entityMetadataRegistry);
 		dynamoDBRepositoryFactory.addRepositoryProxyPostProcessor(tableSynchronizer);
 		dynamoDBRepositoryFactory.addRepositoryProxyPostProcessor(dynamoDBMappingContextProcessor);
 		return dynamoDBRepositoryFactory;
@@ -70,6 +76,11 @@ public class DynamoDBRepositoryFactoryBean<T extends Repository<S, ID>, S, ID ex
 		this.tableSynchronizer = tableSynchronizer;
 	}
 
+	@Autowired(required = false)
+	public void setDynamoDBEntityMetadataRegistry(DynamoDBEntityMetadataRegistry entityMetadataRegistry) {
+		this.entityMetadataRegistry = entityMetadataRegistry;
+	}
+
 	@Autowired
 	public void setDynamoDBOperations(DynamoDBOperations dynamoDBOperations) {
 		this.dynamoDBOperations = dynamoDBOperations;
@@ -0,0 +1,87 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.repository.ReactiveDynamoDBCrudRepository;
+import org.socialsignin.spring.data.dynamodb.repository.query.ReactiveDynamoDBQueryLookupStrategy;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.util.Assert;
+
+import java.util.Optional;
+
+/**
+ * Factory to create {@link ReactiveDynamoDBCrudRepository} instances. The
+ * entity metadata is resolved like by the {@link DynamoDBRepositoryFactory},
+ * the repositories and their query methods are executed with
+ * {@link AsyncDynamoDBOperations}.
+ */
+public class ReactiveDynamoDBRepositoryFactory extends ReactiveRepositoryFactorySupport {
+
+	private final DynamoDBOperations dynamoDBOperations;
+	private final AsyncDynamoDBOperations asyncDynamoDBOperations;
+	private final DynamoDBEntityMetadataRegistry entityMetadataRegistry;
+
+	public ReactiveDynamoDBRepositoryFactory(DynamoDBOperations dynamoDBOperations,
+			AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		this(dynamoDBOperations, asyncDynamoDBOperations, new DynamoDBEntityMetadataRegistry());
+	}
+
+	public ReactiveDynamoDBRepositoryFactory(DynamoDBOperations dynamoDBOperations,
+			AsyncDynamoDBOperations asyncDynamoDBOperations, DynamoDBEntityMetadataRegistry entityMetadataRegistry) {
+		Assert.notNull(dynamoDBOperations, "dynamoDBOperations must not be null");
+		Assert.notNull(asyncDynamoDBOperations, "asyncDynamoDBOperations must not be null");
+
+		this.dynamoDBOperations = dynamoDBOperations;
+		this.asyncDynamoDBOperations = asyncDynamoDBOperations;
+		this.entityMetadataRegistry = entityMetadataRegistry;
+	}
+
+	@Override
+	public <T, ID> DynamoDBEntityInformation<T, ID> getEntityInformation(final Class<T> domainClass) {
+		return entityMetadataRegistry.getEntityInformation(domainClass, this.dynamoDBOperations);
+	}
+
+	@Override
+	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(Key key,
+			QueryMethodEvaluationContextProvider evaluationContextProvider) {
+		return Optional.of(ReactiveDynamoDBQueryLookupStrategy.create(dynamoDBOperations, asyncDynamoDBOperations,
+				key, entityMetadataRegistry));
+	}
+
+	protected EnableScanPermissions getEnableScanPermissions(RepositoryMetadata metadata) {
+		return new EnableScanAnnotationPermissions(metadata.getRepositoryInterface());
+	}
+
+	@Override
+	protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+		return SimpleReactiveDynamoDBCrudRepository.class;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	@Override
+	protected Object getTargetRepository(RepositoryInformation metadata) {
+		return new SimpleReactiveDynamoDBCrudRepository(getEntityInformation(metadata.getDomainType()),
+				asyncDynamoDBOperations, getEnableScanPermissions(metadata));
+	}
+
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBTemplate;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBTemplate;
+import org.socialsignin.spring.data.dynamodb.mapping.DynamoDBMappingContext;
+import org.socialsignin.spring.data.dynamodb.repository.util.DynamoDBMappingContextProcessor;
+import org.socialsignin.spring.data.dynamodb.repository.util.Entity2DynamoDBTableSynchronizer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+
+import java.io.Serializable;
+
+/**
+ * Special adapter for Springs
+ * {@link org.springframework.beans.factory.FactoryBean} interface to allow easy
+ * setup of reactive repository factories via Spring configuration.
+ *
+ * @param <T>
+ *            the type of the repository
+ */
+public class ReactiveDynamoDBRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable>
+		extends
+			RepositoryFactoryBeanSupport<T, S, ID> {
+
+	private DynamoDBOperations dynamoDBOperations;
+	private AsyncDynamoDBOperations asyncDynamoDBOperations;
+	private Entity2DynamoDBTableSynchronizer<S, ID> tableSynchronizer;
+	private DynamoDBMappingContextProcessor<S, ID> dynamoDBMappingContextProcessor;
+	private DynamoDBEntityMetadataRegistry entityMetadataRegistry;
+
+	public ReactiveDynamoDBRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
+		super(repositoryInterface);
+	}
+
+	@Override
+	protected RepositoryFactorySupport createRepositoryFactory() {
+		assert dynamoDBOperations != null;
+		assert asyncDynamoDBOperations != null;
+		if (entityMetadataRegistry == null) {
+			entityMetadataRegistry = new DynamoDBEntityMetadataRegistry();
+		}
+		entityMetadataRegistry.seed(dynamoDBOperations);
+		if (asyncDynamoDBOperations instanceof AsyncDynamoDBTemplate
+				&& dynamoDBOperations instanceof DynamoDBTemplate
+				&& ((AsyncDynamoDBTemplate) asyncDynamoDBOperations).getCachingTemplate() == null) {
+			// Blocking repositories must not serve stale cache entries for items
+			// written through reactive ones
+			((AsyncDynamoDBTemplate) asyncDynamoDBOperations).setCachingTemplate((DynamoDBTemplate) dynamoDBOperations);
+		}
+		ReactiveDynamoDBRepositoryFactory dynamoDBRepositoryFactory = new ReactiveDynamoDBRepositoryFactory(
+				dynamoDBOperations, asyncDynamoDBOperations, entityMetadataRegistry);
+		if (tableSynchronizer != null) {
+			dynamoDBRepositoryFactory.addRepositoryProxyPostProcessor(tableSynchronizer);
+		}
+		if (dynamoDBMappingContextProcessor != null) {
+			dynamoDBRepositoryFactory.addRepositoryProxyPostProcessor(dynamoDBMappingContextProcessor);
+		}
+		return dynamoDBRepositoryFactory;
+	}
+
+	@Autowired(required = false)
+	public void setDynamoDBMappingContextProcessor(
+			DynamoDBMappingContextProcessor<S, ID> dynamoDBMappingContextProcessor) {
+		this.dynamoDBMappingContextProcessor = dynamoDBMappingContextProcessor;
+	}
+
+	@Autowired(required = false)
+	public void setEntity2DynamoDBTableSynchronizer(Entity2DynamoDBTableSynchronizer<S, ID> tableSynchronizer) {
+		this.tableSynchronizer = tableSynchronizer;
+	}
+
+	@Autowired(required = false)
+	public void setDynamoDBEntityMetadataRegistry(DynamoDBEntityMetadataRegistry entityMetadataRegistry) {
+		this.entityMetadataRegistry = entityMetadataRegistry;
+	}
+
+	@Autowired
+	public void setDynamoDBOperations(DynamoDBOperations dynamoDBOperations) {
+		this.dynamoDBOperations = dynamoDBOperations;
+	}
+
+	@Autowired
+	public void setAsyncDynamoDBOperations(AsyncDynamoDBOperations asyncDynamoDBOperations) {
+		this.asyncDynamoDBOperations = asyncDynamoDBOperations;
+	}
+
+	@Autowired
+	public void setDynamoDBMappingContext(DynamoDBMappingContext dynamoDBMappingContext) {
+		setMappingContext(dynamoDBMappingContext);
+	}
+}
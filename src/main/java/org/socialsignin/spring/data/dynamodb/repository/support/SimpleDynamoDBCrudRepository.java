@@ -16,6 +16,7 @@
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
 import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
 import org.socialsignin.spring.data.dynamodb.repository.DynamoDBCrudRepository;
 import org.socialsignin.spring.data.dynamodb.utils.AttributeValueUtil;
@@ -30,9 +31,13 @@ import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -89,26 +94,41 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 
 	@Override
 	public List<T> findAllById(Iterable<ID> ids) {
+		return findAllById(ids, false);
+	}
+
+	@Override
+	public List<T> findAllById(Iterable<ID> ids, boolean preserveOrder) {
 
 		Assert.notNull(ids, "The given ids must not be null!");
 
 		// Works only with non-parallel streams!
 		AtomicInteger idx = new AtomicInteger();
-		List<Key> keyPairs = StreamSupport.stream(ids.spliterator(), false).map(id -> {
+		Set<ID> distinctIds = StreamSupport.stream(ids.spliterator(), false).peek(id -> Assert.notNull(id,
+				"The given id at position " + idx.getAndIncrement() + " must not be null!"))
+				.collect(Collectors.toCollection(LinkedHashSet::new));
 
-			Assert.notNull(id, "The given id at position " + idx.getAndIncrement() + " must not be null!");
-
-			if (entityInformation.isRangeKeyAware()) {
-				return Key.builder().partitionValue(AttributeValueUtil.toAttributeValue(entityInformation.getHashKey(id)))
-						.sortValue(AttributeValueUtil.toAttributeValue(entityInformation.getRangeKey(id))).build();
-			} else {
-				return Key.builder().partitionValue(AttributeValueUtil.toAttributeValue(id)).build();
-			}
-		}).collect(Collectors.toList());
+		List<Key> keyPairs = distinctIds.stream().map(this::toKey).collect(Collectors.toList());
 
 		Map<Class<?>, List<Key>> keyPairsMap = Collections.<Class<?>, List<Key>>singletonMap(domainType,
 				keyPairs);
-		return dynamoDBOperations.batchLoad(keyPairsMap, entityInformation);
+		List<T> results = dynamoDBOperations.batchLoad(keyPairsMap, entityInformation);
+		if (!preserveOrder) {
+			return results;
+		}
+
+		Map<ID, T> resultsById = new HashMap<>();
+		results.forEach(result -> resultsById.put(entityInformation.getId(result), result));
+		return distinctIds.stream().map(resultsById::get).filter(Objects::nonNull).collect(Collectors.toList());
+	}
+
+	private Key toKey(ID id) {
+		if (entityInformation.isRangeKeyAware()) {
+			return Key.builder().partitionValue(AttributeValueUtil.toAttributeValue(entityInformation.getHashKey(id)))
+					.sortValue(AttributeValueUtil.toAttributeValue(entityInformation.getRangeKey(id))).build();
+		} else {
+			return Key.builder().partitionValue(AttributeValueUtil.toAttributeValue(id)).build();
+		}
 	}
 
 	@Override
@@ -143,7 +163,7 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 	public boolean existsById(ID id) {
 
 		Assert.notNull(id, "The given id must not be null!");
-		return findById(id).isPresent();
+		return dynamoDBOperations.exists(toKey(id), entityInformation);
 	}
 
 	void assertScanEnabled(boolean scanEnabled, String methodName) {
@@ -157,13 +177,14 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 	public Iterable<T> findAll() {
 		assertScanEnabled(enableScanPermissions.isFindAllUnpaginatedScanEnabled(), "findAll");
 		ScanEnhancedRequest scanExpression = ScanEnhancedRequest.builder().build();
-		return dynamoDBOperations.scan(domainType, scanExpression, entityInformation).items();
+		return dynamoDBOperations.parallelScan(domainType, scanExpression, entityInformation).items();
 	}
 
 	@Override
 	public long count() {
 		assertScanEnabled(enableScanPermissions.isCountUnpaginatedScanEnabled(), "count");
-		final ScanRequest.Builder scanExpression = ScanRequest.builder();
+		final ScanRequest.Builder scanExpression = ScanRequest.builder()
+				.tableName(entityInformation.getDynamoDBTableName());
 		return dynamoDBOperations.count(domainType, scanExpression, entityInformation);
 	}
 
@@ -172,14 +193,12 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 
 		Assert.notNull(id, "The given id must not be null!");
 
-		Optional<T> entity = findById(id);
-
-		if (entity.isPresent()) {
-			dynamoDBOperations.delete(entity.get(), entityInformation);
-
-		} else {
+		try {
+			// Deletes by key, so the existence check doesn't cost a separate read
+			dynamoDBOperations.deleteByKey(toKey(id), true, entityInformation);
+		} catch (EmptyResultDataAccessException e) {
 			throw new EmptyResultDataAccessException(String.format("No %s entity with id %s exists!", domainType, id),
-					1);
+					1, e);
 		}
 	}
 
@@ -191,7 +210,19 @@ public class SimpleDynamoDBCrudRepository<T, ID>
 
 	@Override
 	public void deleteAllById(Iterable<? extends ID> ids) {
-		// TODO
+
+		Assert.notNull(ids, "The given ids must not be null!");
+
+		AtomicInteger idx = new AtomicInteger();
+		List<Key> keys = StreamSupport.stream(ids.spliterator(), false).map(id -> {
+			Assert.notNull(id, "The given id at position " + idx.getAndIncrement() + " must not be null!");
+			return toKey(id);
+		}).collect(Collectors.toList());
+
+		BatchWriteResult failedBatches = dynamoDBOperations.batchDeleteByKeys(keys, entityInformation);
+		if (!failedBatches.unprocessedDeleteItemsForTable(entityInformation.getTable()).isEmpty()) {
+			throw repackageToException(BatchDeleteException.class);
+		}
 	}
 
 	@Override
@@ -16,6 +16,9 @@
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.ContinuationPageRequest;
+import org.socialsignin.spring.data.dynamodb.domain.ContinuationSlice;
+import org.socialsignin.spring.data.dynamodb.domain.ContinuationToken;
 import org.socialsignin.spring.data.dynamodb.repository.DynamoDBPagingAndSortingRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -23,11 +26,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.util.Assert;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
 
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Default implementation of the
@@ -42,7 +47,8 @@ import java.util.List;
  * returning a sublist of the result-set.
  * 
  * NB: Number of results scanned for a given page request is proportional to the
- * page number requested!
+ * page number requested! Use {@link #findAll(ContinuationPageRequest)} to page
+ * through a table at a constant cost per page.
  * 
  * 
  * @author Michael Lavelle
@@ -73,7 +79,7 @@ public class SimpleDynamoDBPagingAndSortingRepository<T, ID> extends SimpleDynam
 
 		ensureNoSort(pageable);
 
-		ScanRequest.Builder scanExpression = ScanRequest.builder();
+		ScanRequest.Builder scanExpression = ScanRequest.builder().tableName(entityInformation.getDynamoDBTableName());
 		// Scan to the end of the page after the requested page
 		long scanTo = pageable.getOffset() + (2L * pageable.getPageSize());
 		int limit = (int) Math.min(scanTo, Integer.MAX_VALUE);
@@ -99,6 +105,38 @@ public class SimpleDynamoDBPagingAndSortingRepository<T, ID> extends SimpleDynam
 
 	}
 
+	@Override
+	public ContinuationSlice<T> findAll(ContinuationPageRequest pageRequest) {
+
+		Assert.notNull(pageRequest, "The page request must not be null!");
+		assertScanEnabled(enableScanPermissions.isFindAllPaginatedScanEnabled(),
+				"findAll(ContinuationPageRequest pageRequest)");
+
+		Map<String, AttributeValue> exclusiveStartKey = ContinuationToken.decode(pageRequest.getContinuationToken());
+		ScanEnhancedRequest request = ScanEnhancedRequest.builder().limit(pageRequest.getPageSize())
+				.exclusiveStartKey(exclusiveStartKey.isEmpty() ? null : exclusiveStartKey).build();
+		Iterator<software.amazon.awssdk.enhanced.dynamodb.model.Page<T>> pages = dynamoDBOperations
+				.scan(domainType, request, entityInformation).iterator();
+
+		List<T> results = new ArrayList<>();
+		String continuationToken = null;
+		if (pages.hasNext()) {
+			software.amazon.awssdk.enhanced.dynamodb.model.Page<T> page = pages.next();
+			results.addAll(page.items());
+			continuationToken = ContinuationToken.encode(page.lastEvaluatedKey());
+		}
+
+		Long totalCount = null;
+		if (pageRequest.isCountTotal()) {
+			assertScanCountEnabled(enableScanPermissions.isFindAllUnpaginatedScanCountEnabled(),
+					"findAll(ContinuationPageRequest pageRequest)");
+			totalCount = (long) dynamoDBOperations.count(domainType,
+					ScanRequest.builder().tableName(entityInformation.getDynamoDBTableName()), entityInformation);
+		}
+
+		return new ContinuationSlice<>(results, pageRequest.getPageSize(), continuationToken, totalCount);
+	}
+
 	private long scanThroughResults(Iterator<T> paginatedScanListIterator, long resultsToScan) {
 		long processed = 0;
 		while (paginatedScanListIterator.hasNext() && processed < resultsToScan) {
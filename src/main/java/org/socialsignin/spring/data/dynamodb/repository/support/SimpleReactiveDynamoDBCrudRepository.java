@@ -0,0 +1,303 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.reactivestreams.Publisher;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBTemplate;
+import org.socialsignin.spring.data.dynamodb.exception.BatchDeleteException;
+import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
+import org.socialsignin.spring.data.dynamodb.repository.ReactiveDynamoDBCrudRepository;
+import org.socialsignin.spring.data.dynamodb.utils.AttributeValueUtil;
+import org.socialsignin.spring.data.dynamodb.utils.ExceptionHandler;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Default implementation of the
+ * {@link org.springframework.data.repository.reactive.ReactiveCrudRepository}
+ * interface.
+ *
+ * @param <T>
+ *            the type of the entity to handle
+ * @param <ID>
+ *            the type of the entity's identifier
+ */
+public class SimpleReactiveDynamoDBCrudRepository<T, ID>
+		implements
+			ReactiveDynamoDBCrudRepository<T, ID>,
+			ExceptionHandler {
+
+	protected DynamoDBEntityInformation<T, ID> entityInformation;
+
+	protected Class<T> domainType;
+
+	protected EnableScanPermissions enableScanPermissions;
+
+	protected AsyncDynamoDBOperations asyncDynamoDBOperations;
+
+	public SimpleReactiveDynamoDBCrudRepository(DynamoDBEntityInformation<T, ID> entityInformation,
+			AsyncDynamoDBOperations asyncDynamoDBOperations, EnableScanPermissions enableScanPermissions) {
+		Assert.notNull(entityInformation, "entityInformation must not be null");
+		Assert.notNull(asyncDynamoDBOperations, "asyncDynamoDBOperations must not be null");
+
+		this.entityInformation = entityInformation;
+		this.asyncDynamoDBOperations = asyncDynamoDBOperations;
+		this.domainType = entityInformation.getJavaType();
+		this.enableScanPermissions = enableScanPermissions;
+	}
+
+	@Override
+	public Mono<T> findById(ID id) {
+
+		Assert.notNull(id, "The given id must not be null!");
+
+		if (entityInformation.isRangeKeyAware()) {
+			return Mono.fromFuture(() -> asyncDynamoDBOperations.load(domainType, entityInformation.getHashKey(id),
+					entityInformation.getRangeKey(id), entityInformation));
+		} else {
+			return Mono.fromFuture(() -> asyncDynamoDBOperations.load(domainType, entityInformation.getHashKey(id),
+					entityInformation));
+		}
+	}
+
+	@Override
+	public Mono<T> findById(Publisher<ID> id) {
+
+		Assert.notNull(id, "The given id must not be null!");
+		return Mono.from(id).flatMap(this::findById);
+	}
+
+	@Override
+	public Flux<T> findAllById(Iterable<ID> ids) {
+		return findAllById(ids, false);
+	}
+
+	@Override
+	public Flux<T> findAllById(Iterable<ID> ids, boolean preserveOrder) {
+
+		Assert.notNull(ids, "The given ids must not be null!");
+
+		AtomicInteger idx = new AtomicInteger();
+		Set<ID> distinctIds = StreamSupport.stream(ids.spliterator(), false).peek(id -> Assert.notNull(id,
+				"The given id at position " + idx.getAndIncrement() + " must not be null!"))
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+		if (distinctIds.isEmpty()) {
+			return Flux.empty();
+		}
+
+		List<Key> keyPairs = distinctIds.stream().map(this::toKey).collect(Collectors.toList());
+		Map<Class<?>, List<Key>> keyPairsMap = Collections.<Class<?>, List<Key>>singletonMap(domainType,
+				keyPairs);
+		return Mono.fromFuture(() -> asyncDynamoDBOperations.batchLoad(keyPairsMap, entityInformation))
+				.flatMapIterable(results -> {
+					if (!preserveOrder) {
+						return results;
+					}
+
+					Map<ID, T> resultsById = new HashMap<>();
+					results.forEach(result -> resultsById.put(entityInformation.getId(result), result));
+					return distinctIds.stream().map(resultsById::get).filter(Objects::nonNull)
+							.collect(Collectors.toList());
+				});
+	}
+
+	@Override
+	public Flux<T> findAllById(Publisher<ID> idStream) {
+
+		Assert.notNull(idStream, "The given Publisher of ids must not be null!");
+		return Flux.from(idStream).buffer(DynamoDBTemplate.MAX_BATCH_GET_SIZE).concatMap(this::findAllById);
+	}
+
+	private Key toKey(ID id) {
+		if (entityInformation.isRangeKeyAware()) {
+			return Key.builder().partitionValue(AttributeValueUtil.toAttributeValue(entityInformation.getHashKey(id)))
+					.sortValue(AttributeValueUtil.toAttributeValue(entityInformation.getRangeKey(id))).build();
+		} else {
+			return Key.builder().partitionValue(AttributeValueUtil.toAttributeValue(id)).build();
+		}
+	}
+
+	@Override
+	public <S extends T> Mono<S> save(S entity) {
+
+		Assert.notNull(entity, "The entity must not be null!");
+		return Mono.fromFuture(() -> asyncDynamoDBOperations.save(entity, entityInformation)).thenReturn(entity);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws BatchWriteException
+	 *             signalled in case of an error during saving
+	 */
+	@Override
+	public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+
+		Assert.notNull(entities, "The given Iterable of entities not be null!");
+		return Mono.fromFuture(() -> asyncDynamoDBOperations.batchSave(entities, entityInformation))
+				.flatMapIterable(failedBatches -> {
+					if (!failedBatches.unprocessedPutItemsForTable(entityInformation.getTable()).isEmpty()) {
+						throw repackageToException(BatchWriteException.class);
+					}
+					return entities;
+				});
+	}
+
+	/**
+	 * Saves the entities in batches of {@value DynamoDBTemplate#MAX_BATCH_WRITE_SIZE}
+	 * as they are emitted.
+	 *
+	 * @throws BatchWriteException
+	 *             signalled in case of an error during saving
+	 */
+	@Override
+	public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+
+		Assert.notNull(entityStream, "The given Publisher of entities must not be null!");
+		return Flux.from(entityStream).buffer(DynamoDBTemplate.MAX_BATCH_WRITE_SIZE)
+				.concatMap(entities -> saveAll(entities));
+	}
+
+	@Override
+	public Mono<Boolean> existsById(ID id) {
+
+		Assert.notNull(id, "The given id must not be null!");
+		return Mono.fromFuture(() -> asyncDynamoDBOperations.exists(toKey(id), entityInformation));
+	}
+
+	@Override
+	public Mono<Boolean> existsById(Publisher<ID> id) {
+
+		Assert.notNull(id, "The given id must not be null!");
+		return Mono.from(id).flatMap(this::existsById);
+	}
+
+	void assertScanEnabled(boolean scanEnabled, String methodName) {
+		Assert.isTrue(scanEnabled, "Scanning for unpaginated " + methodName + "() queries is not enabled.  "
+				+ "To enable, re-implement the " + methodName
+				+ "() method in your repository interface and annotate with @EnableScan, or "
+				+ "enable scanning for all repository methods by annotating your repository interface with @EnableScan");
+	}
+
+	/**
+	 * Scans the table page by page as the items are requested.
+	 */
+	@Override
+	public Flux<T> findAll() {
+		assertScanEnabled(enableScanPermissions.isFindAllUnpaginatedScanEnabled(), "findAll");
+		ScanEnhancedRequest scanExpression = ScanEnhancedRequest.builder().build();
+		return Flux.defer(() -> asyncDynamoDBOperations.scan(domainType, scanExpression, entityInformation).items());
+	}
+
+	@Override
+	public Mono<Long> count() {
+		assertScanEnabled(enableScanPermissions.isCountUnpaginatedScanEnabled(), "count");
+		final ScanRequest scanExpression = ScanRequest.builder().tableName(entityInformation.getDynamoDBTableName())
+				.build();
+		return Mono.fromFuture(() -> asyncDynamoDBOperations.count(domainType, scanExpression, entityInformation))
+				.map(Integer::longValue);
+	}
+
+	@Override
+	public Mono<Void> deleteById(ID id) {
+
+		Assert.notNull(id, "The given id must not be null!");
+
+		// Deletes by key, so the existence check doesn't cost a separate read
+		return Mono.fromFuture(() -> asyncDynamoDBOperations.deleteByKey(toKey(id), true, entityInformation))
+				.onErrorMap(EmptyResultDataAccessException.class, e -> new EmptyResultDataAccessException(
+						String.format("No %s entity with id %s exists!", domainType, id), 1, e))
+				.then();
+	}
+
+	@Override
+	public Mono<Void> deleteById(Publisher<ID> id) {
+
+		Assert.notNull(id, "The given id must not be null!");
+		return Mono.from(id).flatMap(this::deleteById);
+	}
+
+	@Override
+	public Mono<Void> delete(T entity) {
+
+		Assert.notNull(entity, "The entity must not be null!");
+		return Mono.fromFuture(() -> asyncDynamoDBOperations.delete(entity, entityInformation)).then();
+	}
+
+	@Override
+	public Mono<Void> deleteAllById(Iterable<? extends ID> ids) {
+
+		Assert.notNull(ids, "The given ids must not be null!");
+
+		AtomicInteger idx = new AtomicInteger();
+		List<Key> keys = StreamSupport.stream(ids.spliterator(), false).map(id -> {
+			Assert.notNull(id, "The given id at position " + idx.getAndIncrement() + " must not be null!");
+			return toKey(id);
+		}).collect(Collectors.toList());
+
+		return Mono.fromFuture(() -> asyncDynamoDBOperations.batchDeleteByKeys(keys, entityInformation))
+				.handle((failedBatches, sink) -> {
+					if (!failedBatches.unprocessedDeleteItemsForTable(entityInformation.getTable()).isEmpty()) {
+						sink.error(repackageToException(BatchDeleteException.class));
+					}
+				}).then();
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+
+		Assert.notNull(entities, "The given Iterable of entities not be null!");
+		return Mono.fromFuture(() -> asyncDynamoDBOperations.batchDelete(entities, entityInformation)).then();
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+
+		Assert.notNull(entityStream, "The given Publisher of entities must not be null!");
+		return Flux.from(entityStream).buffer(DynamoDBTemplate.MAX_BATCH_WRITE_SIZE)
+				.concatMap(entities -> deleteAll(entities)).then();
+	}
+
+	@Override
+	public Mono<Void> deleteAll() {
+
+		assertScanEnabled(enableScanPermissions.isDeleteAllUnpaginatedScanEnabled(), "deleteAll");
+		return deleteAll(findAll());
+	}
+
+	@NonNull
+	public DynamoDBEntityInformation<T, ID> getEntityInformation() {
+		return this.entityInformation;
+	}
+}
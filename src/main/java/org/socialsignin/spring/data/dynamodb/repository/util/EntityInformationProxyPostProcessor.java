@@ -17,6 +17,7 @@ package org.socialsignin.spring.data.dynamodb.repository.util;
 
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
 import org.socialsignin.spring.data.dynamodb.repository.support.SimpleDynamoDBCrudRepository;
+import org.socialsignin.spring.data.dynamodb.repository.support.SimpleReactiveDynamoDBCrudRepository;
 import org.springframework.aop.TargetSource;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.data.repository.core.RepositoryInformation;
@@ -33,16 +34,25 @@ public abstract class EntityInformationProxyPostProcessor<T, ID> implements Repo
 			// assert
 			// targetSource.getTargetClass().equals(SimpleDynamoDBCrudRepository.class);
 
-			@SuppressWarnings("unchecked")
-			SimpleDynamoDBCrudRepository<T, ID> target = SimpleDynamoDBCrudRepository.class
-					.cast(targetSource.getTarget());
-
+			Object target = targetSource.getTarget();
 			assert target != null;
-			DynamoDBEntityInformation<T, ID> entityInformation = target.getEntityInformation();
+
+			DynamoDBEntityInformation<T, ID> entityInformation;
+			if (target instanceof SimpleDynamoDBCrudRepository) {
+				@SuppressWarnings("unchecked")
+				SimpleDynamoDBCrudRepository<T, ID> repository = (SimpleDynamoDBCrudRepository<T, ID>) target;
+				entityInformation = repository.getEntityInformation();
+			} else {
+				// Only referenced for reactive repositories, which require Reactor anyway
+				@SuppressWarnings("unchecked")
+				SimpleReactiveDynamoDBCrudRepository<T, ID> repository = SimpleReactiveDynamoDBCrudRepository.class
+						.cast(target);
+				entityInformation = repository.getEntityInformation();
+			}
 			registeredEntity(entityInformation);
 
 		} catch (Exception e) {
-			throw new RuntimeException("Could not extract SimpleDynamoDBCrudRepository from " + factory, e);
+			throw new RuntimeException("Could not extract the repository of " + factory, e);
 		}
 	}
 
@@ -0,0 +1,307 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
+import org.socialsignin.spring.data.dynamodb.domain.sample.PlaylistId;
+import org.socialsignin.spring.data.dynamodb.exception.BatchLoadException;
+import org.socialsignin.spring.data.dynamodb.mapping.event.AfterLoadEvent;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import org.springframework.context.ApplicationContext;
+import org.springframework.dao.EmptyResultDataAccessException;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncDynamoDBTemplateTest {
+
+	private static final TableSchema<Playlist> PLAYLIST_SCHEMA = TableSchema.fromBean(Playlist.class);
+
+	@Mock
+	private DynamoDbAsyncClient dynamoDB;
+	@Mock
+	private DynamoDbEnhancedAsyncClient dynamoDBMapper;
+	@Mock
+	private ApplicationContext applicationContext;
+	@Mock
+	private DynamoDBEntityInformation<Playlist, PlaylistId> playlistEntityInformation;
+	@Mock
+	private DynamoDbTable<Playlist> table;
+	@Mock
+	private DynamoDbAsyncTable<Playlist> asyncTable;
+
+	private AsyncDynamoDBTemplate underTest;
+
+	@BeforeEach
+	public void setUp() {
+		underTest = new AsyncDynamoDBTemplate(dynamoDB, dynamoDBMapper);
+		underTest.setApplicationContext(applicationContext);
+	}
+
+	private void mockPlaylistTable() {
+		when(playlistEntityInformation.getTable()).thenReturn(table);
+		when(table.tableName()).thenReturn("playlist");
+		when(table.tableSchema()).thenReturn(PLAYLIST_SCHEMA);
+		when(dynamoDBMapper.table("playlist", PLAYLIST_SCHEMA)).thenReturn(asyncTable);
+	}
+
+	private static List<Playlist> playlists(int count) {
+		List<Playlist> playlists = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Playlist playlist = new Playlist();
+			playlist.setUserName("user");
+			playlist.setPlaylistName("playlist" + i);
+			playlists.add(playlist);
+		}
+		return playlists;
+	}
+
+	@Test
+	public void testAsyncTableIsResolvedOnce() {
+		mockPlaylistTable();
+
+		assertSame(asyncTable, underTest.getDynamoDbAsyncTable(playlistEntityInformation));
+		assertSame(asyncTable, underTest.getDynamoDbAsyncTable(playlistEntityInformation));
+
+		verify(dynamoDBMapper, times(1)).table("playlist", PLAYLIST_SCHEMA);
+	}
+
+	@Test
+	public void testLoadPublishesEvent() throws Exception {
+		mockPlaylistTable();
+		Playlist playlist = new Playlist();
+		when(asyncTable.getItem(any(Key.class))).thenReturn(CompletableFuture.completedFuture(playlist));
+
+		Playlist actual = underTest.load(Playlist.class, "user", "playlist", playlistEntityInformation).get();
+
+		assertSame(playlist, actual);
+		verify(applicationContext).publishEvent(any(AfterLoadEvent.class));
+	}
+
+	@Test
+	public void testBatchSaveRetriesUnprocessedChunks() throws Exception {
+		underTest.setBatchRetryPolicy(
+				new BatchRetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofSeconds(10)));
+		mockPlaylistTable();
+		when(asyncTable.tableName()).thenReturn("playlist");
+		when(asyncTable.tableSchema()).thenReturn(PLAYLIST_SCHEMA);
+		List<Playlist> playlists = playlists(30);
+		WriteRequest unprocessed = WriteRequest.builder()
+				.putRequest(PutRequest.builder().item(PLAYLIST_SCHEMA.itemToMap(playlists.get(27), true)).build())
+				.build();
+		when(dynamoDBMapper.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+				.thenReturn(CompletableFuture
+						.completedFuture(BatchWriteResult.builder().unprocessedRequests(Collections.emptyMap()).build()))
+				.thenReturn(CompletableFuture.completedFuture(BatchWriteResult.builder()
+						.unprocessedRequests(Collections.singletonMap("playlist", Collections.singletonList(unprocessed)))
+						.build()))
+				.thenReturn(CompletableFuture
+						.completedFuture(BatchWriteResult.builder().unprocessedRequests(Collections.emptyMap()).build()));
+
+		BatchWriteResult result = underTest.batchSave(playlists, playlistEntityInformation).get();
+
+		ArgumentCaptor<BatchWriteItemEnhancedRequest> captor = ArgumentCaptor
+				.forClass(BatchWriteItemEnhancedRequest.class);
+		verify(dynamoDBMapper, times(3)).batchWriteItem(captor.capture());
+		assertEquals(Arrays.asList(25, 5, 1),
+				captor.getAllValues().stream()
+						.map(request -> request.writeBatches().stream()
+								.mapToInt(batch -> batch.writeRequests().size()).sum())
+						.collect(Collectors.toList()));
+		assertTrue(result.unprocessedPutItemsForTable(asyncTable).isEmpty());
+		assertEquals(1, underTest.getBatchRetryMetrics().getRetries());
+	}
+
+	@Test
+	public void testBatchSaveOfManyChunksCompletingImmediately() throws Exception {
+		mockPlaylistTable();
+		when(asyncTable.tableName()).thenReturn("playlist");
+		when(asyncTable.tableSchema()).thenReturn(PLAYLIST_SCHEMA);
+		when(dynamoDBMapper.batchWriteItem(any(BatchWriteItemEnhancedRequest.class))).thenReturn(CompletableFuture
+				.completedFuture(BatchWriteResult.builder().unprocessedRequests(Collections.emptyMap()).build()));
+		List<Playlist> playlists = playlists(DynamoDBTemplate.MAX_BATCH_WRITE_SIZE * 4000);
+
+		// Run on a small stack, which chunks starting each other recursively would
+		// overflow
+		AtomicReference<CompletableFuture<BatchWriteResult>> result = new AtomicReference<>();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread thread = new Thread(null, () -> {
+			try {
+				result.set(underTest.batchSave(playlists, playlistEntityInformation));
+			} catch (Throwable e) {
+				failure.set(e);
+			}
+		}, "batch-save", 256 * 1024);
+		thread.start();
+		thread.join();
+
+		assertNull(failure.get());
+		assertTrue(result.get().get().unprocessedPutItemsForTable(asyncTable).isEmpty());
+		verify(dynamoDBMapper, times(4000)).batchWriteItem(any(BatchWriteItemEnhancedRequest.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testBatchLoadWithoutResultPage() {
+		mockPlaylistTable();
+		lenient().when(asyncTable.tableName()).thenReturn("playlist");
+		lenient().when(asyncTable.tableSchema()).thenReturn(PLAYLIST_SCHEMA);
+		when(playlistEntityInformation.getJavaType()).thenReturn(Playlist.class);
+		BatchGetResultPagePublisher publisher = mock(BatchGetResultPagePublisher.class);
+		SdkPublisher<BatchGetResultPage> firstPage = mock(SdkPublisher.class);
+		when(dynamoDBMapper.batchGetItem(any(BatchGetItemEnhancedRequest.class))).thenReturn(publisher);
+		when(publisher.limit(1)).thenReturn(firstPage);
+		when(firstPage.subscribe(any(Consumer.class))).thenReturn(CompletableFuture.completedFuture(null));
+		Key key = Key.builder().partitionValue("user").sortValue("playlist").build();
+
+		ExecutionException actual = assertThrows(ExecutionException.class,
+				() -> underTest.batchLoad(Collections.singletonMap(Playlist.class, Collections.singletonList(key)),
+						playlistEntityInformation).get());
+
+		assertThat(actual.getCause(), instanceOf(BatchLoadException.class));
+	}
+
+	@Test
+	public void testExistsReadsKeyAttributesOnly() throws Exception {
+		mockPlaylistTable();
+		when(asyncTable.tableName()).thenReturn("playlist");
+		when(asyncTable.tableSchema()).thenReturn(PLAYLIST_SCHEMA);
+		when(dynamoDB.getItem(any(GetItemRequest.class))).thenReturn(CompletableFuture.completedFuture(
+				GetItemResponse.builder().item(Collections.singletonMap("UserName", AttributeValue.fromS("user")))
+						.build()));
+
+		boolean actual = underTest.exists(Key.builder().partitionValue("user").sortValue("playlist").build(),
+				playlistEntityInformation).get();
+
+		ArgumentCaptor<GetItemRequest> captor = ArgumentCaptor.forClass(GetItemRequest.class);
+		verify(dynamoDB).getItem(captor.capture());
+		assertTrue(actual);
+		assertEquals(new HashSet<>(Arrays.asList("UserName", "PlaylistName")),
+				new HashSet<>(captor.getValue().expressionAttributeNames().values()));
+		assertEquals(2, captor.getValue().projectionExpression().split(", ").length);
+	}
+
+	@Test
+	public void testDeleteByKeyWhenItemDoesNotExist() {
+		mockPlaylistTable();
+		when(asyncTable.tableSchema()).thenReturn(PLAYLIST_SCHEMA);
+		when(playlistEntityInformation.getJavaType()).thenReturn(Playlist.class);
+		when(asyncTable.deleteItem(any(DeleteItemEnhancedRequest.class)))
+				.thenReturn(CompletableFuture.failedFuture(ConditionalCheckFailedException.builder().build()));
+
+		ExecutionException actual = assertThrows(ExecutionException.class,
+				() -> underTest.deleteByKey(Key.builder().partitionValue("user").sortValue("playlist").build(), true,
+						playlistEntityInformation).get());
+
+		assertThat(actual.getCause(), instanceOf(EmptyResultDataAccessException.class));
+	}
+
+	@Test
+	public void testCountScanFollowsPages() throws Exception {
+		when(dynamoDB.scan(any(ScanRequest.class)))
+				.thenReturn(CompletableFuture.completedFuture(ScanResponse.builder().count(10)
+						.lastEvaluatedKey(Collections.singletonMap("id", AttributeValue.fromS("10"))).build()))
+				.thenReturn(CompletableFuture.completedFuture(ScanResponse.builder().count(3).build()));
+
+		int actual = underTest.count(Playlist.class, ScanRequest.builder().tableName("playlist").build(), null).get();
+
+		ArgumentCaptor<ScanRequest> captor = ArgumentCaptor.forClass(ScanRequest.class);
+		verify(dynamoDB, times(2)).scan(captor.capture());
+		assertEquals(13, actual);
+		assertEquals(Select.COUNT, captor.getAllValues().get(0).select());
+		assertEquals("10", captor.getAllValues().get(1).exclusiveStartKey().get("id").s());
+	}
+
+	@Test
+	public void testSaveEndsMissingKeyOfCachingTemplate() throws Exception {
+		mockPlaylistTable();
+		DynamoDBTemplate cachingTemplate = new DynamoDBTemplate(mock(DynamoDbClient.class),
+				mock(DynamoDbEnhancedClient.class));
+		cachingTemplate.setMissingKeyTimeToLive(Duration.ofMinutes(1));
+		underTest.setCachingTemplate(cachingTemplate);
+		Playlist playlist = playlists(1).get(0);
+		Key key = Key.builder().partitionValue("user").sortValue("playlist0").build();
+		when(table.getItem(key)).thenReturn(null, playlist);
+
+		assertNull(cachingTemplate.load(Playlist.class, "user", "playlist0", playlistEntityInformation));
+		// The missing key is remembered
+		assertNull(cachingTemplate.load(Playlist.class, "user", "playlist0", playlistEntityInformation));
+		verify(table, times(1)).getItem(key);
+
+		when(asyncTable.tableName()).thenReturn("playlist");
+		when(asyncTable.keyFrom(playlist)).thenReturn(key);
+		when(asyncTable.putItem(playlist)).thenReturn(CompletableFuture.completedFuture(null));
+		underTest.save(playlist, playlistEntityInformation).get();
+
+		Playlist loaded = cachingTemplate.load(Playlist.class, "user", "playlist0", playlistEntityInformation);
+		assertEquals("playlist0", loaded.getPlaylistName());
+		verify(table, times(2)).getItem(key);
+	}
+}
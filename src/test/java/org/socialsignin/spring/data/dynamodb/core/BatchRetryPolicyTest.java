@@ -0,0 +1,68 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchRetryPolicyTest {
+
+	@Test
+	public void testBackoffIsCappedAndJittered() {
+		BatchRetryPolicy underTest = new BatchRetryPolicy(10, Duration.ofMillis(10), Duration.ofMillis(50),
+				Duration.ofSeconds(1));
+
+		for (int attempt = 1; attempt < 100; attempt++) {
+			long actual = underTest.backoffMillis(attempt);
+			assertTrue(actual >= 0);
+			assertTrue(actual <= Math.min(10L << Math.min(attempt - 1, 30), 50L));
+		}
+	}
+
+	@Test
+	public void testShouldRetry() {
+		BatchRetryPolicy underTest = new BatchRetryPolicy(3, Duration.ZERO, Duration.ZERO, Duration.ofSeconds(10));
+		long start = System.nanoTime();
+
+		assertTrue(underTest.shouldRetry(1, start));
+		assertTrue(underTest.shouldRetry(2, start));
+		assertFalse(underTest.shouldRetry(3, start));
+	}
+
+	@Test
+	public void testShouldNotRetryAfterDeadline() {
+		BatchRetryPolicy underTest = new BatchRetryPolicy(3, Duration.ZERO, Duration.ZERO, Duration.ofMillis(100));
+
+		assertFalse(underTest.shouldRetry(1, System.nanoTime() - Duration.ofSeconds(1).toNanos()));
+	}
+
+	@Test
+	public void testNoneNeverRetries() {
+		assertFalse(BatchRetryPolicy.NONE.shouldRetry(1, System.nanoTime()));
+	}
+
+	@Test
+	public void testInvalidMaxAttempts() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new BatchRetryPolicy(0, Duration.ZERO, Duration.ZERO, Duration.ZERO));
+	}
+
+}
@@ -19,25 +19,63 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
 import org.socialsignin.spring.data.dynamodb.domain.sample.PlaylistId;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.repository.DynamoDBCacheable;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
 import org.springframework.context.ApplicationContext;
+import org.springframework.dao.EmptyResultDataAccessException;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.NestedAttributeName;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPageIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
 import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -179,4 +217,544 @@ public class DynamoDBTemplateTest {
 		Assertions.assertNull(playlist);
 	}
 
+	@Test
+	public void testGetDynamoDbTable_IsCachedPerClassAndTableName() {
+		DynamoDbTable<Playlist> table = mock(DynamoDbTable.class);
+		when(dynamoDBMapper.table(eq("playlist"), any(TableSchema.class))).thenReturn(table);
+
+		assertSame(table, dynamoDBTemplate.getDynamoDbTable(Playlist.class, "playlist"));
+		assertSame(table, dynamoDBTemplate.getDynamoDbTable(Playlist.class, "playlist"));
+		dynamoDBTemplate.getDynamoDbTable(Playlist.class, "otherPlaylist");
+
+		verify(dynamoDBMapper, times(1)).table(eq("playlist"), any(TableSchema.class));
+		verify(dynamoDBMapper, times(1)).table(eq("otherPlaylist"), any(TableSchema.class));
+	}
+
+	@Test
+	public void testGetTableModel_IsCached() {
+		assertSame(dynamoDBTemplate.getTableModel(Playlist.class), dynamoDBTemplate.getTableModel(Playlist.class));
+	}
+
+	@Test
+	public void testGetTableModel_UsesRegisteredTableSchema() {
+		TableSchema<User> tableSchema = mock(TableSchema.class);
+		when(tableSchema.itemType()).thenReturn(EnhancedType.of(User.class));
+
+		dynamoDBTemplate.registerTableSchema(tableSchema);
+		dynamoDBTemplate.getDynamoDbTable(User.class, "user");
+
+		assertSame(tableSchema, dynamoDBTemplate.getTableModel(User.class));
+		verify(dynamoDBMapper).table("user", tableSchema);
+	}
+
+	@Test
+	public void testGetDynamoDbTable_NotCachedBeyondMaximum() {
+		dynamoDBTemplate.setMaxCachedTables(0);
+
+		dynamoDBTemplate.getDynamoDbTable(Playlist.class, "playlist");
+		dynamoDBTemplate.getDynamoDbTable(Playlist.class, "playlist");
+
+		verify(dynamoDBMapper, times(2)).table(eq("playlist"), any(TableSchema.class));
+	}
+
+	private DynamoDbTable<Playlist> mockPlaylistTable() {
+		DynamoDbTable<Playlist> table = mock(DynamoDbTable.class);
+		lenient().when(table.tableName()).thenReturn("playlist");
+		when(table.tableSchema()).thenReturn(TableSchema.fromBean(Playlist.class));
+		return table;
+	}
+
+	private static <T extends Playlist> void mockKeyFrom(DynamoDbTable<T> table) {
+		when(table.keyFrom(any())).thenAnswer(invocation -> {
+			Playlist playlist = invocation.getArgument(0);
+			return Key.builder().partitionValue(playlist.getUserName()).sortValue(playlist.getPlaylistName()).build();
+		});
+	}
+
+	private List<Playlist> playlists(int count) {
+		List<Playlist> playlists = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Playlist playlist = new Playlist();
+			playlist.setUserName("user");
+			playlist.setPlaylistName("playlist" + i);
+			playlists.add(playlist);
+		}
+		return playlists;
+	}
+
+	private static int numberOfWriteRequests(BatchWriteItemEnhancedRequest request) {
+		return request.writeBatches().stream().mapToInt(batch -> batch.writeRequests().size()).sum();
+	}
+
+	@Test
+	public void testBatchSave_SplitsIntoChunksOf25() {
+		DynamoDbTable<Playlist> table = mockPlaylistTable();
+		when(playlistEntityInformation.getTable()).thenReturn(table);
+		when(dynamoDBMapper.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+				.thenReturn(BatchWriteResult.builder().unprocessedRequests(Collections.emptyMap()).build());
+
+		BatchWriteResult result = dynamoDBTemplate.batchSave(playlists(60), playlistEntityInformation);
+
+		ArgumentCaptor<BatchWriteItemEnhancedRequest> captor = ArgumentCaptor
+				.forClass(BatchWriteItemEnhancedRequest.class);
+		verify(dynamoDBMapper, times(3)).batchWriteItem(captor.capture());
+		assertEquals(Arrays.asList(25, 25, 10), captor.getAllValues().stream()
+				.map(DynamoDBTemplateTest::numberOfWriteRequests).collect(Collectors.toList()));
+		assertTrue(result.unprocessedPutItemsForTable(table).isEmpty());
+	}
+
+	@Test
+	public void testBatchSave_AggregatesUnprocessedItemsOfAllChunks() {
+		dynamoDBTemplate.setBatchRetryPolicy(BatchRetryPolicy.NONE);
+		DynamoDbTable<Playlist> table = mockPlaylistTable();
+		when(playlistEntityInformation.getTable()).thenReturn(table);
+		List<Playlist> playlists = playlists(30);
+		WriteRequest unprocessed = WriteRequest.builder().putRequest(PutRequest.builder()
+				.item(table.tableSchema().itemToMap(playlists.get(27), true)).build()).build();
+		when(dynamoDBMapper.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+				.thenReturn(BatchWriteResult.builder().unprocessedRequests(Collections.emptyMap()).build())
+				.thenReturn(BatchWriteResult.builder()
+						.unprocessedRequests(Collections.singletonMap("playlist", Collections.singletonList(unprocessed)))
+						.build());
+
+		BatchWriteResult result = dynamoDBTemplate.batchSave(playlists, playlistEntityInformation);
+
+		List<Playlist> actual = result.unprocessedPutItemsForTable(table);
+		assertEquals(1, actual.size());
+		assertEquals("playlist27", actual.get(0).getPlaylistName());
+	}
+
+	@Test
+	public void testBatchDelete_DispatchesChunksOnExecutor() {
+		DynamoDbTable<Playlist> table = mockPlaylistTable();
+		mockKeyFrom(table);
+		when(dynamoDBMapper.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+				.thenReturn(BatchWriteResult.builder().unprocessedRequests(Collections.emptyMap()).build());
+		AtomicInteger dispatched = new AtomicInteger();
+		dynamoDBTemplate.setBatchExecutor(command -> {
+			dispatched.incrementAndGet();
+			command.run();
+		});
+
+		dynamoDBTemplate.batchDelete(playlists(51), table);
+
+		assertEquals(3, dispatched.get());
+		verify(dynamoDBMapper, times(3)).batchWriteItem(any(BatchWriteItemEnhancedRequest.class));
+	}
+
+	@Test
+	public void testBatchSave_RetriesOnlyUnprocessedItems() {
+		dynamoDBTemplate.setBatchRetryPolicy(
+				new BatchRetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofSeconds(10)));
+		DynamoDbTable<Playlist> table = mockPlaylistTable();
+		when(playlistEntityInformation.getTable()).thenReturn(table);
+		List<Playlist> playlists = playlists(10);
+		WriteRequest unprocessed = WriteRequest.builder().putRequest(PutRequest.builder()
+				.item(table.tableSchema().itemToMap(playlists.get(3), true)).build()).build();
+		when(dynamoDBMapper.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+				.thenReturn(BatchWriteResult.builder()
+						.unprocessedRequests(Collections.singletonMap("playlist", Collections.singletonList(unprocessed)))
+						.build())
+				.thenReturn(BatchWriteResult.builder().unprocessedRequests(Collections.emptyMap()).build());
+
+		BatchWriteResult result = dynamoDBTemplate.batchSave(playlists, playlistEntityInformation);
+
+		ArgumentCaptor<BatchWriteItemEnhancedRequest> captor = ArgumentCaptor
+				.forClass(BatchWriteItemEnhancedRequest.class);
+		verify(dynamoDBMapper, times(2)).batchWriteItem(captor.capture());
+		assertEquals(1, numberOfWriteRequests(captor.getAllValues().get(1)));
+		assertTrue(result.unprocessedPutItemsForTable(table).isEmpty());
+		assertEquals(1, dynamoDBTemplate.getBatchRetryMetrics().getRetries());
+		assertEquals(1, dynamoDBTemplate.getBatchRetryMetrics().getRetriedItems());
+		assertEquals(0, dynamoDBTemplate.getBatchRetryMetrics().getExhausted());
+	}
+
+	@Test
+	public void testBatchSave_GivesUpAfterMaxAttempts() {
+		dynamoDBTemplate.setBatchRetryPolicy(
+				new BatchRetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofSeconds(10)));
+		DynamoDbTable<Playlist> table = mockPlaylistTable();
+		when(playlistEntityInformation.getTable()).thenReturn(table);
+		List<Playlist> playlists = playlists(1);
+		WriteRequest unprocessed = WriteRequest.builder().putRequest(PutRequest.builder()
+				.item(table.tableSchema().itemToMap(playlists.get(0), true)).build()).build();
+		when(dynamoDBMapper.batchWriteItem(any(BatchWriteItemEnhancedRequest.class))).thenReturn(BatchWriteResult
+				.builder()
+				.unprocessedRequests(Collections.singletonMap("playlist", Collections.singletonList(unprocessed)))
+				.build());
+
+		BatchWriteResult result = dynamoDBTemplate.batchSave(playlists, playlistEntityInformation);
+
+		verify(dynamoDBMapper, times(3)).batchWriteItem(any(BatchWriteItemEnhancedRequest.class));
+		assertEquals(1, result.unprocessedPutItemsForTable(table).size());
+		assertEquals(2, dynamoDBTemplate.getBatchRetryMetrics().getRetries());
+		assertEquals(1, dynamoDBTemplate.getBatchRetryMetrics().getExhausted());
+	}
+
+	@Test
+	public void testExistsByKey_ReadsKeyAttributesOnly() {
+		DynamoDbTable<Playlist> table = mockPlaylistTable();
+		when(playlistEntityInformation.getTable()).thenReturn(table);
+		Key key = Key.builder().partitionValue("user").sortValue("playlist1").build();
+		when(dynamoDB.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder()
+				.item(key.primaryKeyMap(table.tableSchema())).build());
+
+		assertTrue(dynamoDBTemplate.exists(key, playlistEntityInformation));
+
+		ArgumentCaptor<GetItemRequest> captor = ArgumentCaptor.forClass(GetItemRequest.class);
+		verify(dynamoDB).getItem(captor.capture());
+		assertEquals("playlist", captor.getValue().tableName());
+		assertEquals(key.primaryKeyMap(table.tableSchema()), captor.getValue().key());
+		assertEquals(2, captor.getValue().projectionExpression().split(", ").length);
+		assertTrue(captor.getValue().expressionAttributeNames().values().containsAll(Arrays.asList("UserName", "PlaylistName")));
+	}
+
+	@Test
+	public void testLoadByKey_ReadsProjectedAttributesOnly() {
+		DynamoDbTable<Playlist> table = mockPlaylistTable();
+		when(playlistEntityInformation.getTable()).thenReturn(table);
+		Key key = Key.builder().partitionValue("user").sortValue("playlist1").build();
+		Map<String, AttributeValue> item = new HashMap<>(key.primaryKeyMap(table.tableSchema()));
+		item.put("DisplayName", AttributeValue.builder().s("My playlist").build());
+		when(dynamoDB.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().item(item).build());
+
+		Playlist actual = dynamoDBTemplate.load(key,
+				Arrays.asList(NestedAttributeName.create("DisplayName"), NestedAttributeName.create("a", "b")),
+				playlistEntityInformation);
+
+		assertEquals("My playlist", actual.getDisplayName());
+		ArgumentCaptor<GetItemRequest> captor = ArgumentCaptor.forClass(GetItemRequest.class);
+		verify(dynamoDB).getItem(captor.capture());
+		assertEquals("#p0, #p1.#p2", captor.getValue().projectionExpression());
+		assertEquals("DisplayName", captor.getValue().expressionAttributeNames().get("#p0"));
+		assertEquals("a", captor.getValue().expressionAttributeNames().get("#p1"));
+		assertEquals("b", captor.getValue().expressionAttributeNames().get("#p2"));
+	}
+
+	@Test
+	public void testExistsByKey_WhenItemDoesNotExist() {
+		DynamoDbTable<Playlist> table = mockPlaylistTable();
+		when(playlistEntityInformation.getTable()).thenReturn(table);
+		when(dynamoDB.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().build());
+
+		assertFalse(dynamoDBTemplate.exists(Key.builder().partitionValue("user").sortValue("playlist1").build(),
+				playlistEntityInformation));
+	}
+
+	@Test
+	public void testExistsByQuery_StopsAtFirstMatch() {
+		Map<String, AttributeValue> lastEvaluatedKey = Collections.singletonMap("UserName",
+				AttributeValue.builder().s("user").build());
+		when(dynamoDB.query(any(QueryRequest.class))).thenReturn(
+				QueryResponse.builder().count(0).lastEvaluatedKey(lastEvaluatedKey).build(),
+				QueryResponse.builder().count(1).lastEvaluatedKey(lastEvaluatedKey).build());
+
+		assertTrue(dynamoDBTemplate.exists(Playlist.class, QueryRequest.builder().tableName("playlist")));
+
+		ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+		verify(dynamoDB, times(2)).query(captor.capture());
+		assertEquals(Select.COUNT, captor.getValue().select());
+		assertEquals(lastEvaluatedKey, captor.getValue().exclusiveStartKey());
+	}
+
+	@Test
+	public void testDeleteByKey_IsConditionalOnExistence() {
+		DynamoDbTable<Playlist> table = mockPlaylistTable();
+		when(playlistEntityInformation.getTable()).thenReturn(table);
+		Key key = Key.builder().partitionValue("user").sortValue("playlist1").build();
+		Playlist deleted = new Playlist();
+		when(table.deleteItem(any(DeleteItemEnhancedRequest.class))).thenReturn(deleted);
+
+		Playlist actual = dynamoDBTemplate.deleteByKey(key, true, playlistEntityInformation);
+
+		ArgumentCaptor<DeleteItemEnhancedRequest> captor = ArgumentCaptor.forClass(DeleteItemEnhancedRequest.class);
+		verify(table).deleteItem(captor.capture());
+		assertSame(deleted, actual);
+		assertSame(key, captor.getValue().key());
+		assertEquals("attribute_exists(#hashKey)", captor.getValue().conditionExpression().expression());
+		assertEquals("UserName", captor.getValue().conditionExpression().expressionNames().get("#hashKey"));
+	}
+
+	@Test
+	public void testDeleteByKey_WhenItemDoesNotExist() {
+		DynamoDbTable<Playlist> table = mockPlaylistTable();
+		when(playlistEntityInformation.getTable()).thenReturn(table);
+		when(playlistEntityInformation.getJavaType()).thenReturn(Playlist.class);
+		when(table.deleteItem(any(DeleteItemEnhancedRequest.class)))
+				.thenThrow(ConditionalCheckFailedException.builder().build());
+
+		assertThrows(EmptyResultDataAccessException.class, () -> dynamoDBTemplate.deleteByKey(
+				Key.builder().partitionValue("user").sortValue("playlist1").build(), true, playlistEntityInformation));
+	}
+
+	@Test
+	public void testBatchDeleteByKeys_SendsDistinctKeysInChunks() {
+		DynamoDbTable<Playlist> table = mockPlaylistTable();
+		when(playlistEntityInformation.getTable()).thenReturn(table);
+		when(dynamoDBMapper.batchWriteItem(any(BatchWriteItemEnhancedRequest.class)))
+				.thenReturn(BatchWriteResult.builder().unprocessedRequests(Collections.emptyMap()).build());
+		List<Key> keys = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			keys.add(Key.builder().partitionValue("user").sortValue("playlist" + i).build());
+		}
+		keys.add(keys.get(0));
+
+		dynamoDBTemplate.batchDeleteByKeys(keys, playlistEntityInformation);
+
+		ArgumentCaptor<BatchWriteItemEnhancedRequest> captor = ArgumentCaptor
+				.forClass(BatchWriteItemEnhancedRequest.class);
+		verify(dynamoDBMapper, times(2)).batchWriteItem(captor.capture());
+		assertEquals(Arrays.asList(25, 5), captor.getAllValues().stream()
+				.map(DynamoDBTemplateTest::numberOfWriteRequests).collect(Collectors.toList()));
+		verify(table, times(0)).getItem(any(Key.class));
+	}
+
+	@Test
+	public void testCountScan_SumsSegmentsAndFollowsPages() {
+		dynamoDBTemplate.setScanSegments(4);
+		dynamoDBTemplate.setScanExecutor(Runnable::run);
+		when(dynamoDB.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+			ScanRequest request = invocation.getArgument(0);
+			if (request.segment() == 0 && !request.hasExclusiveStartKey()) {
+				return ScanResponse.builder().count(10)
+						.lastEvaluatedKey(Collections.singletonMap("id", AttributeValue.fromS("10"))).build();
+			}
+			return ScanResponse.builder().count(5).build();
+		});
+
+		int actual = dynamoDBTemplate.count(User.class, ScanRequest.builder().tableName("user"), null);
+
+		ArgumentCaptor<ScanRequest> captor = ArgumentCaptor.forClass(ScanRequest.class);
+		verify(dynamoDB, times(5)).scan(captor.capture());
+		assertEquals(30, actual);
+		assertTrue(captor.getAllValues().stream().allMatch(request -> request.totalSegments() == 4
+				&& request.select() == Select.COUNT && "user".equals(request.tableName())));
+	}
+
+	@Test
+	public void testParallelScan_ScansEachSegment() {
+		dynamoDBTemplate.setScanSegments(3);
+		dynamoDBTemplate.setScanExecutor(Runnable::run);
+		DynamoDbTable<Playlist> table = mock(DynamoDbTable.class);
+		when(playlistEntityInformation.getTable()).thenReturn(table);
+		when(table.scan(any(ScanEnhancedRequest.class))).thenAnswer(invocation -> {
+			ScanEnhancedRequest request = invocation.getArgument(0);
+			Playlist playlist = new Playlist();
+			playlist.setPlaylistName("playlist" + request.segment());
+			return PageIterable.create(() -> Collections.singletonList(Page.create(Collections.singletonList(playlist)))
+					.iterator());
+		});
+
+		List<String> actual = dynamoDBTemplate
+				.parallelScan(Playlist.class, ScanEnhancedRequest.builder().build(), playlistEntityInformation).items()
+				.stream().map(Playlist::getPlaylistName).sorted().collect(Collectors.toList());
+
+		assertEquals(Arrays.asList("playlist0", "playlist1", "playlist2"), actual);
+	}
+
+	@Test
+	public void testParallelScan_IsSequentialByDefault() {
+		DynamoDbTable<Playlist> table = mock(DynamoDbTable.class);
+		when(playlistEntityInformation.getTable()).thenReturn(table);
+		ScanEnhancedRequest request = ScanEnhancedRequest.builder().build();
+
+		dynamoDBTemplate.parallelScan(Playlist.class, request, playlistEntityInformation);
+
+		verify(table).scan(request);
+	}
+
+	@Test
+	public void testParallelScan_RequiresScanExecutor() {
+		dynamoDBTemplate.setScanSegments(3);
+
+		assertThrows(IllegalStateException.class, () -> dynamoDBTemplate.parallelScan(Playlist.class,
+				ScanEnhancedRequest.builder().build(), playlistEntityInformation));
+		assertThrows(IllegalStateException.class,
+				() -> dynamoDBTemplate.count(Playlist.class, ScanRequest.builder(), playlistEntityInformation));
+		verify(dynamoDB, never()).scan(any(ScanRequest.class));
+	}
+
+	@DynamoDbBean
+	@DynamoDBCacheable(maxSize = 1)
+	public static class CachedPlaylist extends Playlist {
+	}
+
+	private Runnable duringGetItem = () -> {
+	};
+
+	private DynamoDbTable<CachedPlaylist> mockCachedPlaylistTable() {
+		DynamoDbTable<CachedPlaylist> table = mock(DynamoDbTable.class);
+		when(table.tableName()).thenReturn("playlist");
+		when(table.tableSchema()).thenReturn(TableSchema.fromBean(CachedPlaylist.class));
+		mockKeyFrom(table);
+		when(table.getItem(any(Key.class))).thenAnswer(invocation -> {
+			Key key = invocation.getArgument(0);
+			duringGetItem.run();
+			CachedPlaylist playlist = new CachedPlaylist();
+			playlist.setUserName(key.partitionKeyValue().s());
+			playlist.setPlaylistName(key.sortKeyValue().get().s());
+			return playlist;
+		});
+		return table;
+	}
+
+	@Test
+	public void testLoad_ServesCacheableEntityFromCache() {
+		DynamoDbTable<CachedPlaylist> table = mockCachedPlaylistTable();
+		DynamoDBEntityInformation<CachedPlaylist, PlaylistId> entityInformation = mock(DynamoDBEntityInformation.class);
+		when(entityInformation.getTable()).thenReturn(table);
+
+		CachedPlaylist first = dynamoDBTemplate.load(CachedPlaylist.class, "user", "playlist1", entityInformation);
+		CachedPlaylist second = dynamoDBTemplate.load(CachedPlaylist.class, "user", "playlist1", entityInformation);
+
+		assertNotSame(first, second);
+		assertEquals("playlist1", second.getPlaylistName());
+		verify(table, times(1)).getItem(any(Key.class));
+		assertEquals(1, dynamoDBTemplate.getEntityCacheMetrics().getHits());
+		assertEquals(1, dynamoDBTemplate.getEntityCacheMetrics().getMisses());
+	}
+
+	@Test
+	public void testSave_EvictsCachedEntity() {
+		DynamoDbTable<CachedPlaylist> table = mockCachedPlaylistTable();
+		DynamoDBEntityInformation<CachedPlaylist, PlaylistId> entityInformation = mock(DynamoDBEntityInformation.class);
+		when(entityInformation.getTable()).thenReturn(table);
+
+		CachedPlaylist playlist = dynamoDBTemplate.load(CachedPlaylist.class, "user", "playlist1", entityInformation);
+		dynamoDBTemplate.save(playlist, entityInformation);
+		dynamoDBTemplate.load(CachedPlaylist.class, "user", "playlist1", entityInformation);
+
+		verify(table, times(2)).getItem(any(Key.class));
+		assertEquals(0, dynamoDBTemplate.getEntityCacheMetrics().getHits());
+	}
+
+	@Test
+	public void testLoad_DoesNotCacheEntityReadWhileItWasSaved() {
+		DynamoDbTable<CachedPlaylist> table = mockCachedPlaylistTable();
+		DynamoDBEntityInformation<CachedPlaylist, PlaylistId> entityInformation = mock(DynamoDBEntityInformation.class);
+		when(entityInformation.getTable()).thenReturn(table);
+		CachedPlaylist saved = new CachedPlaylist();
+		saved.setUserName("user");
+		saved.setPlaylistName("playlist1");
+		duringGetItem = () -> {
+			duringGetItem = () -> {
+			};
+			dynamoDBTemplate.save(saved, entityInformation);
+		};
+
+		dynamoDBTemplate.load(CachedPlaylist.class, "user", "playlist1", entityInformation);
+		dynamoDBTemplate.load(CachedPlaylist.class, "user", "playlist1", entityInformation);
+
+		verify(table, times(2)).getItem(any(Key.class));
+		assertEquals(0, dynamoDBTemplate.getEntityCacheMetrics().getHits());
+	}
+
+	@Test
+	public void testLoad_EvictsLeastRecentlyUsedEntityWhenFull() {
+		DynamoDbTable<CachedPlaylist> table = mockCachedPlaylistTable();
+		DynamoDBEntityInformation<CachedPlaylist, PlaylistId> entityInformation = mock(DynamoDBEntityInformation.class);
+		when(entityInformation.getTable()).thenReturn(table);
+
+		dynamoDBTemplate.load(CachedPlaylist.class, "user", "playlist1", entityInformation);
+		dynamoDBTemplate.load(CachedPlaylist.class, "user", "playlist2", entityInformation);
+		dynamoDBTemplate.load(CachedPlaylist.class, "user", "playlist1", entityInformation);
+
+		verify(table, times(3)).getItem(any(Key.class));
+		assertEquals(1, dynamoDBTemplate.getEntityCacheMetrics().getEvictions());
+	}
+
+	@Test
+	public void testLoad_BatchesConcurrentLoadsOfSameTable() {
+		DynamoDbTable<Playlist> table = mockPlaylistTable();
+		when(playlistEntityInformation.getTable()).thenReturn(table);
+		mockKeyFrom(table);
+		List<Playlist> playlists = playlists(2);
+		BatchGetResultPage page = mock(BatchGetResultPage.class);
+		when(page.resultsForTable(table)).thenReturn(playlists);
+		when(page.unprocessedKeysForTable(table)).thenReturn(Collections.emptyList());
+		BatchGetResultPageIterable pages = mock(BatchGetResultPageIterable.class);
+		when(pages.iterator()).thenReturn(Collections.singletonList(page).iterator());
+		when(dynamoDBMapper.batchGetItem(any(BatchGetItemEnhancedRequest.class))).thenReturn(pages);
+
+		// The second load fills the batch, so neither waits for the window to pass
+		dynamoDBTemplate.setLoadBatchWindow(Duration.ofSeconds(30));
+		dynamoDBTemplate.setMaxLoadBatchSize(2);
+		CompletableFuture<Playlist> first = CompletableFuture
+				.supplyAsync(() -> dynamoDBTemplate.load(Playlist.class, "user", "playlist0", playlistEntityInformation));
+		Playlist second = dynamoDBTemplate.load(Playlist.class, "user", "playlist1", playlistEntityInformation);
+
+		assertEquals("playlist0", first.join().getPlaylistName());
+		assertEquals("playlist1", second.getPlaylistName());
+		ArgumentCaptor<BatchGetItemEnhancedRequest> captor = ArgumentCaptor.forClass(BatchGetItemEnhancedRequest.class);
+		verify(dynamoDBMapper).batchGetItem(captor.capture());
+		assertEquals(2, captor.getValue().readBatches().get(0).keysAndAttributes().keys().size());
+		verify(table, never()).getItem(any(Key.class));
+	}
+
+	@Test
+	public void testLoad_FailsAllLoadsOfBatchWhenRequestFails() {
+		DynamoDbTable<Playlist> table = mockPlaylistTable();
+		when(playlistEntityInformation.getTable()).thenReturn(table);
+		when(dynamoDBMapper.batchGetItem(any(BatchGetItemEnhancedRequest.class)))
+				.thenThrow(new NoClassDefFoundError("BatchGetItem"));
+
+		dynamoDBTemplate.setLoadBatchWindow(Duration.ofSeconds(30));
+		dynamoDBTemplate.setMaxLoadBatchSize(2);
+		CompletableFuture<Playlist> first = CompletableFuture
+				.supplyAsync(() -> dynamoDBTemplate.load(Playlist.class, "user", "playlist0", playlistEntityInformation));
+
+		assertThrows(NoClassDefFoundError.class,
+				() -> dynamoDBTemplate.load(Playlist.class, "user", "playlist1", playlistEntityInformation));
+		CompletionException actual = assertThrows(CompletionException.class, first::join);
+		assertTrue(actual.getCause() instanceof NoClassDefFoundError);
+	}
+
+	@Test
+	public void testLoad_CompletesMissingItemsOfBatchWithNull() {
+		DynamoDbTable<Playlist> table = mockPlaylistTable();
+		when(playlistEntityInformation.getTable()).thenReturn(table);
+		BatchGetResultPage page = mock(BatchGetResultPage.class);
+		when(page.resultsForTable(table)).thenReturn(Collections.emptyList());
+		when(page.unprocessedKeysForTable(table)).thenReturn(Collections.emptyList());
+		BatchGetResultPageIterable pages = mock(BatchGetResultPageIterable.class);
+		when(pages.iterator()).thenReturn(Collections.singletonList(page).iterator());
+		when(dynamoDBMapper.batchGetItem(any(BatchGetItemEnhancedRequest.class))).thenReturn(pages);
+
+		dynamoDBTemplate.setLoadBatchWindow(Duration.ofMillis(1));
+
+		assertNull(dynamoDBTemplate.load(Playlist.class, "user", "playlist0", playlistEntityInformation));
+	}
+
+	@Test
+	public void testLoad_RemembersMissingKeyUntilSaved() {
+		DynamoDbTable<Playlist> table = mockPlaylistTable();
+		when(playlistEntityInformation.getTable()).thenReturn(table);
+		mockKeyFrom(table);
+		dynamoDBTemplate.setMissingKeyTimeToLive(Duration.ofMinutes(1));
+
+		assertNull(dynamoDBTemplate.load(Playlist.class, "user", "playlist0", playlistEntityInformation));
+		assertNull(dynamoDBTemplate.load(Playlist.class, "user", "playlist0", playlistEntityInformation));
+		verify(table, times(1)).getItem(any(Key.class));
+
+		dynamoDBTemplate.save(playlists(1).get(0), playlistEntityInformation);
+		dynamoDBTemplate.load(Playlist.class, "user", "playlist0", playlistEntityInformation);
+
+		verify(table, times(2)).getItem(any(Key.class));
+	}
+
+	@Test
+	public void testExistsByKey_RemembersMissingKey() {
+		DynamoDbTable<Playlist> table = mockPlaylistTable();
+		when(playlistEntityInformation.getTable()).thenReturn(table);
+		when(dynamoDB.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().build());
+		dynamoDBTemplate.setMissingKeyTimeToLive(Duration.ofMinutes(1));
+		Key key = Key.builder().partitionValue("user").sortValue("playlist1").build();
+
+		assertFalse(dynamoDBTemplate.exists(key, playlistEntityInformation));
+		assertNull(dynamoDBTemplate.load(key, Collections.emptyList(), playlistEntityInformation));
+
+		verify(dynamoDB, times(1)).getItem(any(GetItemRequest.class));
+		verify(table, never()).getItem(any(Key.class));
+	}
+
 }
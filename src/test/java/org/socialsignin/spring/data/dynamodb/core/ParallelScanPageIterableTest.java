@@ -0,0 +1,98 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ParallelScanPageIterableTest {
+
+	private static SdkIterable<Page<String>> segment(String... items) {
+		return () -> Arrays.stream(items).map(item -> Page.create(Collections.singletonList(item))).iterator();
+	}
+
+	private static List<String> items(SdkIterable<Page<String>> pages) {
+		return StreamSupport.stream(pages.spliterator(), false).flatMap(page -> page.items().stream()).sorted()
+				.collect(Collectors.toList());
+	}
+
+	@Test
+	public void testMergesAllPagesOfAllSegments() {
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			ParallelScanPageIterable<String> underTest = new ParallelScanPageIterable<>(
+					Arrays.asList(segment("a", "b"), segment(), segment("c", "d", "e")), executor);
+
+			assertEquals(Arrays.asList("a", "b", "c", "d", "e"), items(underTest));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testPrefetchesOnlyOnePagePerSegment() {
+		AtomicInteger fetched = new AtomicInteger();
+		SdkIterable<Page<String>> segment = () -> new Iterator<Page<String>>() {
+			@Override
+			public boolean hasNext() {
+				return true;
+			}
+
+			@Override
+			public Page<String> next() {
+				return Page.create(Collections.singletonList("item" + fetched.incrementAndGet()));
+			}
+		};
+		ParallelScanPageIterable<String> underTest = new ParallelScanPageIterable<>(Arrays.asList(segment, segment),
+				Runnable::run);
+
+		Iterator<Page<String>> pages = underTest.iterator();
+		pages.next();
+
+		assertEquals(3, fetched.get());
+	}
+
+	@Test
+	public void testPropagatesSegmentFailure() {
+		SdkIterable<Page<String>> failing = () -> {
+			throw new IllegalStateException("scan failed");
+		};
+		ParallelScanPageIterable<String> underTest = new ParallelScanPageIterable<>(
+				Arrays.asList(segment("a"), failing), Runnable::run);
+
+		assertThrows(IllegalStateException.class, () -> items(underTest));
+	}
+
+	@Test
+	public void testNoSegmentsHasNoPages() {
+		assertFalse(new ParallelScanPageIterable<String>(Collections.emptyList(), Runnable::run).iterator().hasNext());
+	}
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.junit.jupiter.api.Test;
+import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class QueryResultCacheTest {
+
+	private static final long TTL = Duration.ofMinutes(1).toNanos();
+
+	private final QueryResultCache underTest = new QueryResultCache();
+	private final AtomicInteger queries = new AtomicInteger();
+
+	private Object query(String method, Object argument, int maxSize, long timeToLiveNanos) {
+		return underTest.get("user", null, method, Collections.singletonList(argument), maxSize, timeToLiveNanos,
+				() -> argument + "#" + queries.incrementAndGet());
+	}
+
+	@Test
+	public void testGetServesResultsPerMethodAndArguments() {
+		assertEquals("a#1", query("findByName", "a", 10, TTL));
+		assertEquals("a#1", query("findByName", "a", 10, TTL));
+		assertEquals("b#2", query("findByName", "b", 10, TTL));
+		assertEquals("a#3", query("findByCity", "a", 10, TTL));
+	}
+
+	@Test
+	public void testGetCachesNullResults() {
+		assertNull(underTest.get("user", null, "findByName", Arrays.asList("a", null), 10, TTL, () -> {
+			queries.incrementAndGet();
+			return null;
+		}));
+		assertNull(underTest.get("user", null, "findByName", Arrays.asList("a", null), 10, TTL, () -> {
+			queries.incrementAndGet();
+			return null;
+		}));
+
+		assertEquals(1, queries.get());
+	}
+
+	@Test
+	public void testGetEvictsLeastRecentlyUsedResultsWhenFull() {
+		query("findByName", "a", 1, TTL);
+		query("findByName", "b", 1, TTL);
+
+		assertEquals("a#3", query("findByName", "a", 1, TTL));
+	}
+
+	@Test
+	public void testGetDoesNotServeExpiredResults() throws InterruptedException {
+		query("findByName", "a", 10, 1);
+		Thread.sleep(1);
+
+		assertEquals("a#2", query("findByName", "a", 10, 1));
+	}
+
+	@Test
+	public void testEvictRemovesResultsOfTableOnly() {
+		query("findByName", "a", 10, TTL);
+		underTest.get("playlist", null, "findByDisplayName", Collections.singletonList("a"), 10, TTL, () -> "playlist");
+
+		underTest.evict("user");
+
+		assertEquals("a#2", query("findByName", "a", 10, TTL));
+		assertEquals("playlist", underTest.get("playlist", null, "findByDisplayName", Collections.singletonList("a"), 10,
+				TTL, () -> "other"));
+	}
+
+	@Test
+	public void testGetServesCopiesOfCachedEntities() {
+		TableSchema<Playlist> tableSchema = TableSchema.fromBean(Playlist.class);
+		Playlist playlist = new Playlist();
+		playlist.setUserName("michael");
+		playlist.setPlaylistName("favourites");
+		playlist.setDisplayName("Favourites");
+
+		Object first = underTest.get("playlist", tableSchema, "findByUserName", Collections.singletonList("michael"),
+				10, TTL, () -> Collections.singletonList(playlist));
+		playlist.setDisplayName("modified");
+		List<?> second = (List<?>) underTest.get("playlist", tableSchema, "findByUserName",
+				Collections.singletonList("michael"), 10, TTL, () -> Collections.emptyList());
+
+		assertEquals(Collections.singletonList(playlist), first);
+		assertEquals(1, second.size());
+		assertNotSame(playlist, second.get(0));
+		assertEquals("Favourites", ((Playlist) second.get(0)).getDisplayName());
+	}
+
+	@Test
+	public void testGetDoesNotCacheResultsOfQueriesOverlappingWithWrites() {
+		underTest.get("user", null, "findByName", Collections.singletonList("a"), 10, TTL, () -> {
+			underTest.evict("user");
+			return "stale";
+		});
+
+		assertEquals("a#1", query("findByName", "a", 10, TTL));
+	}
+
+}
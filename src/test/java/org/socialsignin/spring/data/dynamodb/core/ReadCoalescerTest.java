@@ -0,0 +1,78 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ReadCoalescerTest {
+
+	@Test
+	public void testReadSharesInFlightReadOfEqualRequest() throws Exception {
+		ReadCoalescer underTest = new ReadCoalescer();
+		underTest.setEnabled(true);
+		AtomicInteger reads = new AtomicInteger();
+		CompletableFuture<String> concurrent = new CompletableFuture<>();
+
+		String actual = underTest.read("request", () -> {
+			reads.incrementAndGet();
+			Thread thread = new Thread(() -> concurrent.complete(underTest.read("request", () -> {
+				reads.incrementAndGet();
+				return "other";
+			}, it -> it + " copy")));
+			thread.start();
+			awaitWaiting(thread);
+			return "result";
+		}, it -> it + " copy");
+
+		assertEquals("result", actual);
+		assertEquals("result copy", concurrent.get(10, TimeUnit.SECONDS));
+		assertEquals(1, reads.get());
+	}
+
+	@Test
+	public void testReadDoesNotShareFinishedReads() {
+		ReadCoalescer underTest = new ReadCoalescer();
+		underTest.setEnabled(true);
+		AtomicInteger reads = new AtomicInteger();
+
+		underTest.read("request", reads::incrementAndGet, it -> it);
+		underTest.read("request", reads::incrementAndGet, it -> it);
+
+		assertEquals(2, reads.get());
+	}
+
+	@Test
+	public void testReadIsNotSharedWhenDisabled() {
+		ReadCoalescer underTest = new ReadCoalescer();
+		Object result = new Object();
+
+		assertSame(result, underTest.read("request", () -> result, it -> new Object()));
+	}
+
+	private static void awaitWaiting(Thread thread) {
+		while (thread.isAlive() && thread.getState() != Thread.State.WAITING) {
+			Thread.yield();
+		}
+	}
+
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.domain;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ContinuationTokenTest {
+
+	@Test
+	public void testRoundTrip() {
+		Map<String, AttributeValue> key = new LinkedHashMap<>();
+		key.put("userName", AttributeValue.fromS("michael"));
+		key.put("count", AttributeValue.fromN("42"));
+		key.put("digest", AttributeValue.fromB(SdkBytes.fromByteArray(new byte[]{1, 2, 3})));
+
+		String token = ContinuationToken.encode(key);
+
+		assertTrue(token.matches("[A-Za-z0-9_-]+"));
+		assertEquals(key, ContinuationToken.decode(token));
+	}
+
+	@Test
+	public void testNoFurtherPages() {
+		assertNull(ContinuationToken.encode(null));
+		assertNull(ContinuationToken.encode(Collections.emptyMap()));
+		assertTrue(ContinuationToken.decode(null).isEmpty());
+	}
+
+	@Test
+	public void testMalformedToken() {
+		assertThrows(IllegalArgumentException.class, () -> ContinuationToken.decode("not a token"));
+		assertThrows(IllegalArgumentException.class, () -> ContinuationToken.decode("AAEAAQ"));
+	}
+
+	@Test
+	public void testMalformedBinaryLength() throws IOException {
+		assertThrows(IllegalArgumentException.class, () -> ContinuationToken.decode(binaryToken(Integer.MAX_VALUE)));
+		assertThrows(IllegalArgumentException.class, () -> ContinuationToken.decode(binaryToken(-1)));
+		// Longer than the remaining token, but within the key attribute limit
+		assertThrows(IllegalArgumentException.class, () -> ContinuationToken.decode(binaryToken(100)));
+	}
+
+	private static String binaryToken(int declaredLength) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeShort(1);
+			out.writeUTF("digest");
+			out.writeByte('B');
+			out.writeInt(declaredLength);
+			out.write(new byte[]{1, 2, 3});
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+	}
+
+	@Test
+	public void testUnsupportedKeyType() {
+		assertThrows(IllegalArgumentException.class,
+				() -> ContinuationToken.encode(Collections.singletonMap("flag", AttributeValue.fromBool(true))));
+	}
+}
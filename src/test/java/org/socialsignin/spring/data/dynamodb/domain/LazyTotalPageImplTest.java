@@ -0,0 +1,105 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+public class LazyTotalPageImplTest {
+
+	private final AtomicInteger counts = new AtomicInteger();
+
+	private long count() {
+		counts.incrementAndGet();
+		return 42;
+	}
+
+	@Test
+	public void testTotalIsCountedOnDemandOnlyOnce() {
+		LazyTotalPageImpl<String> underTest = new LazyTotalPageImpl<>(Arrays.asList("a", "b"), PageRequest.of(0, 2),
+				true, this::count);
+
+		assertTrue(underTest.hasNext());
+		assertFalse(underTest.isLast());
+		assertEquals(PageRequest.of(1, 2), underTest.nextPageable());
+		assertEquals(0, counts.get());
+
+		assertEquals(42, underTest.getTotalElements());
+		assertEquals(21, underTest.getTotalPages());
+		assertEquals(1, counts.get());
+	}
+
+	@Test
+	public void testLastPageIsNotCounted() {
+		LazyTotalPageImpl<String> underTest = new LazyTotalPageImpl<>(Arrays.asList("a"), PageRequest.of(3, 2), false,
+				this::count);
+
+		assertTrue(underTest.isLast());
+		assertEquals(7, underTest.getTotalElements());
+		assertEquals(4, underTest.getTotalPages());
+		assertEquals(0, counts.get());
+	}
+
+	@Test
+	public void testMapSharesTheTotal() {
+		LazyTotalPageImpl<String> underTest = new LazyTotalPageImpl<>(Arrays.asList("a", "b"), PageRequest.of(0, 2),
+				true, this::count);
+
+		Page<Integer> mapped = underTest.map(String::length);
+
+		assertEquals(Arrays.asList(1, 1), mapped.getContent());
+		assertEquals(42, mapped.getTotalElements());
+		assertEquals(42, underTest.getTotalElements());
+		assertEquals(1, counts.get());
+	}
+
+	@Test
+	public void testSerializesWithResolvedTotal() throws IOException, ClassNotFoundException {
+		LazyTotalPageImpl<String> underTest = new LazyTotalPageImpl<>(Arrays.asList("a", "b"), PageRequest.of(0, 2),
+				true, this::count);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(underTest);
+		}
+		Object read;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			read = in.readObject();
+		}
+
+		assertTrue(read instanceof PageImpl);
+		Page<?> page = (Page<?>) read;
+		assertEquals(Arrays.asList("a", "b"), page.getContent());
+		assertEquals(PageRequest.of(0, 2), page.getPageable());
+		assertEquals(42, page.getTotalElements());
+		assertTrue(page.hasNext());
+		assertEquals(1, counts.get());
+	}
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.query;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class MultipleEntityScanRequestQueryTest {
+
+	@Mock
+	private DynamoDBOperations dynamoDBOperations;
+	@Mock
+	private DynamoDBEntityInformation<User, String> entityInformation;
+
+	private final ScanEnhancedRequest scanRequest = ScanEnhancedRequest.builder().build();
+
+	private static PageIterable<User> pages(List<User> items) {
+		return PageIterable.create(() -> Collections.singletonList(Page.create(items)).iterator());
+	}
+
+	@Test
+	public void testResultsScanSegmentsConcurrently() {
+		List<User> users = Arrays.asList(new User(), new User());
+		when(dynamoDBOperations.parallelScan(User.class, scanRequest, entityInformation)).thenReturn(pages(users));
+		MultipleEntityScanRequestQuery<User> underTest = new MultipleEntityScanRequestQuery<>(dynamoDBOperations,
+				User.class, scanRequest, entityInformation);
+		underTest.setScanEnabled(true);
+
+		assertEquals(users, underTest.getResultStream().collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testOrderedResultsScanSequentially() {
+		List<User> users = Arrays.asList(new User(), new User());
+		when(dynamoDBOperations.scan(User.class, scanRequest, entityInformation)).thenReturn(pages(users));
+		MultipleEntityScanRequestQuery<User> underTest = new MultipleEntityScanRequestQuery<>(dynamoDBOperations,
+				User.class, scanRequest, entityInformation);
+		underTest.setScanEnabled(true);
+
+		assertEquals(users, underTest.getOrderedResultStream().collect(Collectors.toList()));
+		// Concurrently scanned segments are merged in no stable order
+		verify(dynamoDBOperations, never()).parallelScan(any(), any(), any());
+	}
+
+	@Test
+	public void testOrderedResultsRequireScanPermission() {
+		MultipleEntityScanRequestQuery<User> underTest = new MultipleEntityScanRequestQuery<>(dynamoDBOperations,
+				User.class, scanRequest, entityInformation);
+
+		assertThrows(IllegalArgumentException.class, underTest::getOrderedResultStream);
+		verifyNoInteractions(dynamoDBOperations);
+	}
+}
@@ -17,14 +17,17 @@ package org.socialsignin.spring.data.dynamodb.repository.query;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.NestedAttributeName;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.TimeZone;
 
 public abstract class AbstractDynamoDBQueryCriteriaUnitTest<C extends AbstractDynamoDBQueryCriteria<?, ?>> {
@@ -97,4 +100,20 @@ public abstract class AbstractDynamoDBQueryCriteriaUnitTest<C extends AbstractDy
 		Assertions.assertEquals(dateStringList, resultingValue.ss());
 	}
 
+	@Test
+	public void getAttributesToProjectTest_WhenProjectionHasNestedAttributes() {
+		criteria.withProjection(Optional.of("name, address.city,postCode"));
+
+		Assertions.assertEquals(Arrays.asList(NestedAttributeName.create("name"),
+				NestedAttributeName.create("address", "city"), NestedAttributeName.create("postCode")),
+				criteria.getAttributesToProject());
+	}
+
+	@Test
+	public void getAttributesToProjectTest_WhenThereIsNoProjection() {
+		criteria.withProjection(Optional.empty());
+
+		Assertions.assertTrue(criteria.getAttributesToProject().isEmpty());
+	}
+
 }
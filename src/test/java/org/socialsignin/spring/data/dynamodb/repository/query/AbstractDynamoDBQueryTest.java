@@ -21,14 +21,20 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,6 +45,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
 import org.socialsignin.spring.data.dynamodb.query.Query;
+import org.socialsignin.spring.data.dynamodb.repository.QueryConstants;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -52,11 +59,18 @@ public class AbstractDynamoDBQueryTest {
 
 	public interface UserRepository extends CrudRepository<User, String> {
 		Page<User> findByName(String name, Pageable pageable);
+		Stream<User> findByPostCode(String postCode);
+		Iterable<User> findByNumberOfPlaylists(Integer numberOfPlaylists);
+		boolean existsByName(String name);
+		@org.socialsignin.spring.data.dynamodb.repository.Query(totalCount = QueryConstants.TotalCountMode.ESTIMATED)
+		Page<User> findByLeaveDate(Instant leaveDate, Pageable pageable);
 	}
 	@Mock
 	private Query<User> query;
 	@Mock
 	private Query<Long> countQuery;
+	@Mock
+	private Query<Boolean> existsQuery;
 	private boolean isSingleEntityResultsRestriction = false;
 	private Integer resultsRestrictionIfApplicable = 0;
 	private boolean isDeleteQuery = false;
@@ -79,6 +93,11 @@ public class AbstractDynamoDBQueryTest {
 			return countQuery;
 		}
 
+		@Override
+		protected Query<Boolean> doCreateExistsQuery(Object[] values) {
+			return existsQuery;
+		}
+
 		@Override
 		protected boolean isCountQuery() {
 			return isCountQuery;
@@ -119,8 +138,8 @@ public class AbstractDynamoDBQueryTest {
 
 	@BeforeEach
 	public void setUp() {
-		doReturn(Page.class).when(typeInformation).getType();
-		doReturn(typeInformation).when(metadata)
+		lenient().doReturn(Page.class).when(typeInformation).getType();
+		lenient().doReturn(typeInformation).when(metadata)
 			.getReturnType(ArgumentMatchers.argThat(argument -> "findByName".equals(argument.getName())));
 		doReturn(userTypeInformation).when(metadata).getDomainTypeInformation();
 		doReturn(UserRepository.class).when(metadata).getRepositoryInterface();
@@ -147,8 +166,7 @@ public class AbstractDynamoDBQueryTest {
 		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
 				factory);
 
-		when(countQuery.getSingleResult()).thenReturn(total);
-		when(query.getResultList()).thenReturn(content);
+		when(query.getOrderedResultStream()).thenReturn(content.stream());
 
 		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
 
@@ -159,6 +177,56 @@ public class AbstractDynamoDBQueryTest {
 
 		assertEquals(1, actualPage.getTotalElements());
 		assertThat(content, is(actualPage.getContent()));
+		// The last page tells the total without counting
+		verify(countQuery, never()).getSingleResult();
+	}
+
+	@Test
+	public void testPagedCountsLazily() throws NoSuchMethodException, SecurityException {
+		resultsRestrictionIfApplicable = null;
+		List<User> content = generateContent(3);
+
+		Method method = UserRepository.class.getMethod("findByName", String.class, Pageable.class);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		when(query.getOrderedResultStream()).thenReturn(content.stream());
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
+
+		Page<User> actualPage = (Page<User>) underTest.execute(new Object[]{"testName", PageRequest.of(0, 2)});
+
+		assertEquals(content.subList(0, 2), actualPage.getContent());
+		assertThat(actualPage.hasNext(), is(true));
+		verify(countQuery, never()).getSingleResult();
+
+		when(countQuery.getSingleResult()).thenReturn(3L);
+		assertEquals(3, actualPage.getTotalElements());
+		assertEquals(2, actualPage.getTotalPages());
+		verify(countQuery, times(1)).getSingleResult();
+	}
+
+	@Test
+	public void testPagedWithEstimatedTotal() throws NoSuchMethodException, SecurityException {
+		resultsRestrictionIfApplicable = null;
+		List<User> content = generateContent(5);
+
+		Method method = UserRepository.class.getMethod("findByLeaveDate", Instant.class, Pageable.class);
+		doReturn(Page.class).when(typeInformation).getType();
+		doReturn(typeInformation).when(metadata).getReturnType(method);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		when(query.getOrderedResultStream()).thenReturn(content.stream());
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
+
+		Page<User> actualPage = (Page<User>) underTest.execute(new Object[]{Instant.now(), PageRequest.of(1, 2)});
+
+		assertEquals(content.subList(2, 4), actualPage.getContent());
+		assertEquals(5, actualPage.getTotalElements());
+		assertThat(actualPage.hasNext(), is(true));
+		verify(countQuery, never()).getSingleResult();
 	}
 
 	@Test
@@ -170,7 +238,6 @@ public class AbstractDynamoDBQueryTest {
 		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
 				factory);
 
-		when(countQuery.getSingleResult()).thenReturn(total);
 		when(query.getResultList()).thenReturn(content);
 
 		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
@@ -182,11 +249,80 @@ public class AbstractDynamoDBQueryTest {
 
 		assertEquals(1, actualPage.getTotalElements());
 		assertThat(content, is(actualPage.getContent()));
-		// There should be never an index access to the list - just iterator access to
-		// ensure that lazy loading behavior of the AWS list implementation is kept
-		// intact
+		// The whole result list is the page - it is handed over as is without any
+		// index access
 		verify(content, never()).get(anyInt());
-		verify(content).iterator();
+		verify(query, never()).getResultStream();
+		verify(countQuery, never()).getSingleResult();
+	}
+
+	@Test
+	public void testStream() throws NoSuchMethodException, SecurityException {
+		resultsRestrictionIfApplicable = 2;
+		List<User> content = generateContent(3);
+
+		Method method = UserRepository.class.getMethod("findByPostCode", String.class);
+		doReturn(Stream.class).when(typeInformation).getType();
+		doReturn(typeInformation).when(metadata).getReturnType(method);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		when(query.getResultStream()).thenReturn(content.stream());
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
+
+		Object actual = underTest.execute(new Object[]{"postCode"});
+
+		assertThat(actual, instanceOf(Stream.class));
+		assertEquals(content.subList(0, 2), ((Stream<User>) actual).collect(Collectors.toList()));
+		verify(query, never()).getResultList();
+	}
+
+	@Test
+	public void testIterable() throws NoSuchMethodException, SecurityException {
+		resultsRestrictionIfApplicable = null;
+		List<User> content = generateContent(3);
+
+		Method method = UserRepository.class.getMethod("findByNumberOfPlaylists", Integer.class);
+		doReturn(Iterable.class).when(typeInformation).getType();
+		doReturn(typeInformation).when(metadata).getReturnType(method);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
+
+		Object actual = underTest.execute(new Object[]{1});
+
+		// Nothing is read before the results are iterated
+		verify(query, never()).getResultStream();
+
+		when(query.getResultStream()).thenAnswer(invocation -> content.stream());
+		Iterable<User> actualIterable = (Iterable<User>) actual;
+		assertEquals(content, StreamSupport.stream(actualIterable.spliterator(), false).collect(Collectors.toList()));
+		assertEquals(content, StreamSupport.stream(actualIterable.spliterator(), false).collect(Collectors.toList()));
+		verify(query, times(2)).getResultStream();
+		verify(query, never()).getResultList();
+	}
+
+	@Test
+	public void testExists() throws NoSuchMethodException, SecurityException {
+		isExistsQuery = true;
+		resultsRestrictionIfApplicable = null;
+
+		Method method = UserRepository.class.getMethod("existsByName", String.class);
+		doReturn(boolean.class).when(typeInformation).getType();
+		doReturn(typeInformation).when(metadata).getReturnType(method);
+		DynamoDBQueryMethod<User, String> dynamoDBQueryMethod = new DynamoDBQueryMethod<User, String>(method, metadata,
+				factory);
+
+		when(existsQuery.getSingleResult()).thenReturn(true);
+
+		TestAbstractDynamoDBQuery underTest = new TestAbstractDynamoDBQuery(dynamoDBOperations, dynamoDBQueryMethod);
+
+		assertEquals(true, underTest.execute(new Object[]{"testName"}));
+		// No entities are loaded to answer the query
+		verify(query, never()).getResultStream();
+		verify(query, never()).getResultList();
 	}
 
 }
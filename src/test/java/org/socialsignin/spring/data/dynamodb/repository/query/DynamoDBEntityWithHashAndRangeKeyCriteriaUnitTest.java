@@ -22,9 +22,25 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
+import org.socialsignin.spring.data.dynamodb.repository.QueryConstants;
 import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBIdIsHashAndRangeKeyEntityInformation;
-
+import org.springframework.data.domain.Sort;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +50,10 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteriaUnitTest
 
 	@Mock
 	private DynamoDBIdIsHashAndRangeKeyEntityInformation<Playlist, String> entityInformation;
+	@Mock
+	private DynamoDbTable<Playlist> table;
+	@Mock
+	private TableSchema<Playlist> tableSchema;
 
 	@BeforeEach
 	public void setUp() {
@@ -251,4 +271,155 @@ public class DynamoDBEntityWithHashAndRangeKeyCriteriaUnitTest
 		assertFalse(hasIndexRangeKeyCondition);
 	}
 
+	@Test
+	public void testBuildFinderCountQueryRequest_WhenQueryingTableByHashKeyAndRangeKeyCondition() {
+		criteria.withHashKeyEquals("some user name");
+		criteria.withSingleValueCriteria("playlistName", ComparisonOperator.GT, "some playlist name", String.class);
+
+		QueryRequest queryRequest = criteria.buildFinderCountQueryRequest().build();
+
+		assertNull(criteria.getQueryIndexName());
+		assertNull(queryRequest.indexName());
+		assertEquals("#key0 = :key0 AND #key1 > :key1", queryRequest.keyConditionExpression());
+		assertEquals("userName", queryRequest.expressionAttributeNames().get("#key0"));
+		assertEquals("playlistName", queryRequest.expressionAttributeNames().get("#key1"));
+		assertEquals("some user name", queryRequest.expressionAttributeValues().get(":key0").s());
+		assertEquals("some playlist name", queryRequest.expressionAttributeValues().get(":key1").s());
+		assertNull(queryRequest.filterExpression());
+	}
+
+	@Test
+	public void testBuildFinderCountQueryRequest_WhenQueryingGlobalSecondaryIndex() {
+		Mockito.when(entityInformation.getGlobalSecondaryIndexNamesByPropertyName())
+				.thenReturn(Collections.singletonMap("displayName", new String[]{"DisplayName-index"}));
+		Mockito.when(entityInformation.isGlobalIndexHashKeyProperty("displayName")).thenReturn(true);
+		criteria.withPropertyEquals("displayName", "some display name", String.class);
+
+		QueryRequest queryRequest = criteria.buildFinderCountQueryRequest().build();
+
+		assertEquals("DisplayName-index", criteria.getQueryIndexName());
+		assertEquals("DisplayName-index", queryRequest.indexName());
+		assertEquals("#key0 = :key0", queryRequest.keyConditionExpression());
+		assertEquals("displayName", queryRequest.expressionAttributeNames().get("#key0"));
+		assertEquals("some display name", queryRequest.expressionAttributeValues().get(":key0").s());
+	}
+
+	@Test
+	public void testBuildFinderCountQueryRequest_WhenQueryingTableByHashKeyWithNonKeyConditions() {
+		criteria.withHashKeyEquals("some user name");
+		criteria.withSingleValueCriteria("playlistName", ComparisonOperator.NE, "some playlist name", String.class);
+		criteria.withPropertyIn("displayName", Arrays.asList("one", "two"), String.class);
+		criteria.withNoValuedCriteria("description", ComparisonOperator.NOT_NULL);
+
+		assertTrue(criteria.isApplicableForQuery());
+		QueryRequest queryRequest = criteria.buildFinderCountQueryRequest().build();
+
+		assertEquals("#key0 = :key0", queryRequest.keyConditionExpression());
+		assertEquals(
+				"#filter0 <> :filter0 AND #filter1 IN (:filter1, :filter2) AND attribute_exists(#filter2)",
+				queryRequest.filterExpression());
+		assertEquals("playlistName", queryRequest.expressionAttributeNames().get("#filter0"));
+		assertEquals("displayName", queryRequest.expressionAttributeNames().get("#filter1"));
+		assertEquals("description", queryRequest.expressionAttributeNames().get("#filter2"));
+		assertEquals("two", queryRequest.expressionAttributeValues().get(":filter2").s());
+	}
+
+	@Test
+	public void testBuildFinderCountScanRequest_WhenNoKeyIsFixed() {
+		Mockito.when(entityInformation.getDynamoDBTableName()).thenReturn("playlist");
+		criteria.withSingleValueCriteria("playlistName", ComparisonOperator.GT, "some playlist name", String.class);
+		criteria.withPropertyEquals("displayName", "some display name", String.class);
+
+		assertFalse(criteria.isApplicableForQuery());
+		ScanRequest scanRequest = criteria.buildFinderCountScanRequest().build();
+
+		assertEquals("playlist", scanRequest.tableName());
+		assertEquals("#filter0 > :filter0 AND #filter1 = :filter1", scanRequest.filterExpression());
+		assertEquals("playlistName", scanRequest.expressionAttributeNames().get("#filter0"));
+		assertEquals("displayName", scanRequest.expressionAttributeNames().get("#filter1"));
+		assertEquals("some playlist name", scanRequest.expressionAttributeValues().get(":filter0").s());
+		assertEquals("some display name", scanRequest.expressionAttributeValues().get(":filter1").s());
+	}
+
+	@Test
+	public void testBuildFinderScanRequest_WhenSorted() {
+		criteria.withPropertyEquals("displayName", "some display name", String.class);
+		criteria.withSort(Sort.by("displayName"));
+
+		assertThrows(UnsupportedOperationException.class, () -> criteria.buildFinderScanRequest());
+	}
+
+	@Test
+	public void testBuildFinderCountQueryRequest_WhenQueryingLocalSecondaryIndexByItsSortKey() {
+		Mockito.when(entityInformation.getLocalSecondaryIndexNamesByPropertyName())
+				.thenReturn(Collections.singletonMap("displayName", new String[]{"DisplayName-lsi"}));
+		criteria.withHashKeyEquals("some user name");
+		criteria.withSingleValueCriteria("displayName", ComparisonOperator.BEGINS_WITH, "some", String.class);
+
+		QueryRequest queryRequest = criteria.buildFinderCountQueryRequest().build();
+
+		assertEquals("DisplayName-lsi", criteria.getQueryIndexName());
+		assertEquals("DisplayName-lsi", queryRequest.indexName());
+		assertEquals("#key0 = :key0 AND begins_with(#key1, :key1)", queryRequest.keyConditionExpression());
+		assertEquals("userName", queryRequest.expressionAttributeNames().get("#key0"));
+		assertEquals("displayName", queryRequest.expressionAttributeNames().get("#key1"));
+		assertNull(queryRequest.filterExpression());
+		assertEquals(Select.ALL_ATTRIBUTES, queryRequest.select());
+	}
+
+	@Test
+	public void testBuildFinderCountQueryRequest_WhenQueryingLocalSecondaryIndexWithProjection() {
+		Mockito.when(entityInformation.getLocalSecondaryIndexNamesByPropertyName())
+				.thenReturn(Collections.singletonMap("displayName", new String[]{"DisplayName-lsi"}));
+		criteria.withHashKeyEquals("some user name");
+		criteria.withSingleValueCriteria("displayName", ComparisonOperator.BEGINS_WITH, "some", String.class);
+		criteria.withProjection(Optional.of("playlistName"));
+
+		QueryRequest queryRequest = criteria.buildFinderCountQueryRequest().build();
+
+		assertEquals(Select.SPECIFIC_ATTRIBUTES, queryRequest.select());
+		assertEquals("playlistName", queryRequest.projectionExpression());
+	}
+
+	@Test
+	public void testBuildFinderQueryRequest_WhenSortingByLocalSecondaryIndexSortKey_WithConsistentReads() {
+		Mockito.when(entityInformation.getLocalSecondaryIndexNamesByPropertyName())
+				.thenReturn(Collections.singletonMap("displayName", new String[]{"DisplayName-lsi"}));
+		Mockito.when(entityInformation.getTable()).thenReturn(table);
+		Mockito.when(table.tableSchema()).thenReturn(tableSchema);
+		Mockito.when(tableSchema.attributeNames()).thenReturn(Arrays.asList("userName", "playlistName", "displayName"));
+		criteria.withHashKeyEquals("some user name");
+		criteria.withSort(Sort.by(Sort.Direction.DESC, "displayName"));
+		criteria.withConsistentReads(QueryConstants.ConsistentReadMode.CONSISTENT);
+
+		QueryEnhancedRequest queryRequest = criteria.buildFinderQueryRequest();
+
+		assertEquals("DisplayName-lsi", criteria.getQueryIndexName());
+		assertFalse(queryRequest.scanIndexForward());
+		assertTrue(queryRequest.consistentRead());
+		assertEquals(Arrays.asList("userName", "playlistName", "displayName"), queryRequest.attributesToProject());
+	}
+
+	@Test
+	public void testBuildFinderQueryRequest_WhenSortingByLocalSecondaryIndexSortKeyAndFurtherProperties() {
+		Mockito.when(entityInformation.getLocalSecondaryIndexNamesByPropertyName())
+				.thenReturn(Collections.singletonMap("displayName", new String[]{"DisplayName-lsi"}));
+		criteria.withHashKeyEquals("some user name");
+		criteria.withSort(Sort.by("displayName", "playlistName"));
+
+		assertNull(criteria.getQueryIndexName());
+		assertThrows(UnsupportedOperationException.class, () -> criteria.buildFinderQueryRequest());
+	}
+
+	@Test
+	public void testBuildFinderQueryRequest_WhenSortingByLocalSecondaryIndexSortKeyAfterAnotherProperty() {
+		Mockito.when(entityInformation.getLocalSecondaryIndexNamesByPropertyName())
+				.thenReturn(Collections.singletonMap("displayName", new String[]{"DisplayName-lsi"}));
+		criteria.withHashKeyEquals("some user name");
+		criteria.withSort(Sort.by("playlistName", "displayName"));
+
+		assertNull(criteria.getQueryIndexName());
+		assertThrows(UnsupportedOperationException.class, () -> criteria.buildFinderQueryRequest());
+	}
+
 }
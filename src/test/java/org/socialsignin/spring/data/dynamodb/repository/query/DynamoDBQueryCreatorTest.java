@@ -0,0 +1,93 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.lenient;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.repository.QueryConstants;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.query.ParameterAccessor;
+import org.springframework.data.repository.query.parser.PartTree;
+
+@ExtendWith(MockitoExtension.class)
+public class DynamoDBQueryCreatorTest {
+
+	@Mock
+	private ParameterAccessor parameterAccessor;
+	@Mock
+	private DynamoDBEntityInformation<User, String> entityInformation;
+	@Mock
+	private DynamoDBOperations dynamoDBOperations;
+
+	@BeforeEach
+	public void setUp() {
+		lenient().when(parameterAccessor.getPageable()).thenReturn(Pageable.unpaged());
+	}
+
+	private DynamoDBQueryCreator<User, String> createQueryCreator(String methodName, Optional<String> filterExpression) {
+		return new DynamoDBQueryCreator<>(new PartTree(methodName, User.class), parameterAccessor, entityInformation,
+				Optional.empty(), Optional.empty(), QueryConstants.ConsistentReadMode.DEFAULT, filterExpression, null,
+				null, dynamoDBOperations);
+	}
+
+	@Test
+	public void testUnrestrictedQueryIsNotLimited() {
+		assertEquals(Optional.empty(), createQueryCreator("findByName", Optional.empty()).getResultsLimit());
+	}
+
+	@Test
+	public void testTopQueryIsLimited() {
+		assertEquals(Optional.of(10), createQueryCreator("findTop10ByName", Optional.empty()).getResultsLimit());
+		assertEquals(Optional.of(1), createQueryCreator("findFirstByName", Optional.empty()).getResultsLimit());
+	}
+
+	@Test
+	public void testExistsQueryIsLimited() {
+		assertEquals(Optional.of(1), createQueryCreator("existsByName", Optional.empty()).getResultsLimit());
+	}
+
+	@Test
+	public void testPagedQueryIsLimitedToTheRequestedPage() {
+		lenient().when(parameterAccessor.getPageable()).thenReturn(PageRequest.of(2, 10));
+
+		assertEquals(Optional.of(31), createQueryCreator("findByName", Optional.empty()).getResultsLimit());
+		assertEquals(Optional.of(5), createQueryCreator("findTop5ByName", Optional.empty()).getResultsLimit());
+	}
+
+	@Test
+	public void testFilteredQueryIsNotLimited() {
+		assertEquals(Optional.empty(),
+				createQueryCreator("findTop10ByName", Optional.of("contains(#name, :name)")).getResultsLimit());
+	}
+
+	@Test
+	public void testDeleteAndCountQueriesAreNotLimited() {
+		assertEquals(Optional.empty(), createQueryCreator("deleteTop10ByName", Optional.empty()).getResultsLimit());
+		assertEquals(Optional.empty(), createQueryCreator("countByName", Optional.empty()).getResultsLimit());
+	}
+}
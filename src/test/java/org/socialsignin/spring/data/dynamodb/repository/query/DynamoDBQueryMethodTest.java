@@ -0,0 +1,64 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+
+public class DynamoDBQueryMethodTest {
+
+	public interface UserName {
+		String getName();
+	}
+
+	public interface UserLabel {
+		@Value("#{target.name + ' ' + target.postCode}")
+		String getLabel();
+	}
+
+	public interface UserRepository extends CrudRepository<User, String> {
+		List<UserName> findByNumberOfPlaylists(Integer numberOfPlaylists);
+		List<UserLabel> findByPostCode(String postCode);
+	}
+
+	private DynamoDBQueryMethod<User, String> queryMethod(String name, Class<?>... parameterTypes) throws Exception {
+		return new DynamoDBQueryMethod<>(UserRepository.class.getMethod(name, parameterTypes),
+				new DefaultRepositoryMetadata(UserRepository.class), new SpelAwareProxyProjectionFactory());
+	}
+
+	@Test
+	public void testGetProjectionExpression_ClosedProjectionReadsItsProperties() throws Exception {
+		DynamoDBQueryMethod<User, String> method = queryMethod("findByNumberOfPlaylists", Integer.class);
+
+		assertEquals(Optional.of("name"), method.getProjectionExpression());
+	}
+
+	@Test
+	public void testGetProjectionExpression_OpenProjectionReadsAllAttributes() throws Exception {
+		DynamoDBQueryMethod<User, String> method = queryMethod("findByPostCode", String.class);
+
+		assertEquals(Optional.empty(), method.getProjectionExpression());
+	}
+}
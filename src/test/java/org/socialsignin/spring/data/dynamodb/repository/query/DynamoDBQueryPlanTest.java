@@ -0,0 +1,124 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.repository.QueryConstants;
+import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBEntityInformation;
+import org.springframework.data.repository.query.parser.PartTree;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+@ExtendWith(MockitoExtension.class)
+public class DynamoDBQueryPlanTest {
+
+	@Mock
+	private DynamoDBQueryMethod<User, String> queryMethod;
+	@Mock
+	private DynamoDBEntityInformation<User, String> entityInformation;
+	@Mock
+	private DynamoDBOperations dynamoDBOperations;
+	@Mock
+	private TableSchema<User> tableModel;
+
+	private DynamoDBQueryPlan<User, String> underTest;
+
+	@BeforeEach
+	public void setUp() {
+		when(queryMethod.getEntityInformation()).thenReturn(entityInformation);
+		when(queryMethod.getProjectionExpression()).thenReturn(Optional.empty());
+		when(queryMethod.getLimitResults()).thenReturn(Optional.empty());
+		when(queryMethod.getConsistentReadMode()).thenReturn(QueryConstants.ConsistentReadMode.DEFAULT);
+		when(queryMethod.getFilterExpression()).thenReturn(Optional.empty());
+		when(entityInformation.getJavaType()).thenReturn(User.class);
+		when(dynamoDBOperations.getTableModel(User.class)).thenReturn(tableModel);
+
+		underTest = new DynamoDBQueryPlan<>(queryMethod, new PartTree("findByName", User.class), dynamoDBOperations);
+	}
+
+	@Test
+	public void testTableModelIsResolvedOnce() {
+		assertSame(tableModel, underTest.getTableModel());
+		assertSame(tableModel, underTest.getTableModel());
+
+		verify(dynamoDBOperations, times(1)).getTableModel(User.class);
+	}
+
+	@Test
+	public void testCreateCriteriaReturnsFreshInstances() {
+		when(entityInformation.isRangeKeyAware()).thenReturn(false);
+
+		DynamoDBQueryCriteria<User, String> first = underTest.createCriteria();
+		DynamoDBQueryCriteria<User, String> second = underTest.createCriteria();
+
+		assertThat(first, instanceOf(DynamoDBEntityWithHashKeyOnlyCriteria.class));
+		assertNotSame(first, second);
+	}
+
+	@Test
+	public void testGlobalSecondaryIndexNameIsResolvedOncePerAttributeSet() {
+		AtomicInteger resolutions = new AtomicInteger();
+
+		String first = underTest.getGlobalSecondaryIndexName(new HashSet<>(Arrays.asList("name", "postCode")), () -> {
+			resolutions.incrementAndGet();
+			return "NameIndex";
+		});
+		String second = underTest.getGlobalSecondaryIndexName(new HashSet<>(Arrays.asList("postCode", "name")), () -> {
+			resolutions.incrementAndGet();
+			return "OtherIndex";
+		});
+
+		assertEquals("NameIndex", first);
+		assertEquals("NameIndex", second);
+		assertEquals(1, resolutions.get());
+	}
+
+	@Test
+	public void testMissingGlobalSecondaryIndexNameIsCached() {
+		AtomicInteger resolutions = new AtomicInteger();
+
+		underTest.getGlobalSecondaryIndexName(new HashSet<>(Arrays.asList("name")), () -> {
+			resolutions.incrementAndGet();
+			return null;
+		});
+		String indexName = underTest.getGlobalSecondaryIndexName(new HashSet<>(Arrays.asList("name")), () -> {
+			resolutions.incrementAndGet();
+			return null;
+		});
+
+		assertEquals(null, indexName);
+		assertEquals(1, resolutions.get());
+	}
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import org.junit.jupiter.api.Test;
+import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.Condition;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KeyConditionsTest {
+
+	private static final TableSchema<Playlist> TABLE_SCHEMA = TableSchema.fromBean(Playlist.class);
+	private static final List<String> SORT_KEY = Collections.singletonList("PlaylistName");
+
+	private final MultiValueMap<String, Condition> conditions = new LinkedMultiValueMap<>();
+
+	@Test
+	public void testToQueryConditional_WhenOnlyPartitionKeyIsSpecified() {
+		conditions.add("UserName", condition(ComparisonOperator.EQ, "michael"));
+
+		Expression keyExpression = KeyConditions.of("UserName", SORT_KEY, conditions).toQueryConditional()
+				.expression(TABLE_SCHEMA, TableMetadata.primaryIndexName());
+
+		assertEquals(Collections.singleton(s("michael")), new HashSet<>(keyExpression.expressionValues().values()));
+	}
+
+	@Test
+	public void testToQueryConditional_WhenSortKeyIsBetweenValues() {
+		conditions.add("UserName", condition(ComparisonOperator.EQ, "michael"));
+		conditions.add("PlaylistName", condition(ComparisonOperator.BETWEEN, "a", "m"));
+
+		KeyConditions keyConditions = KeyConditions.of("UserName", SORT_KEY, conditions);
+		Expression keyExpression = keyConditions.toQueryConditional().expression(TABLE_SCHEMA,
+				TableMetadata.primaryIndexName());
+
+		assertTrue(keyExpression.expression().contains("BETWEEN"));
+		assertEquals(new HashSet<>(Arrays.asList(s("michael"), s("a"), s("m"))),
+				new HashSet<>(keyExpression.expressionValues().values()));
+		assertNull(keyConditions.toFilterExpression());
+	}
+
+	@Test
+	public void testToKeyConditionExpression_WhenSortKeyBeginsWithValue() {
+		conditions.add("UserName", condition(ComparisonOperator.EQ, "michael"));
+		conditions.add("PlaylistName", condition(ComparisonOperator.BEGINS_WITH, "rock"));
+
+		Expression keyExpression = KeyConditions.of("UserName", SORT_KEY, conditions).toKeyConditionExpression();
+
+		assertEquals("#key0 = :key0 AND begins_with(#key1, :key1)", keyExpression.expression());
+		Map<String, String> expectedNames = new HashMap<>();
+		expectedNames.put("#key0", "UserName");
+		expectedNames.put("#key1", "PlaylistName");
+		assertEquals(expectedNames, keyExpression.expressionNames());
+		assertEquals(s("rock"), keyExpression.expressionValues().get(":key1"));
+	}
+
+	@Test
+	public void testToFilterExpression_WhenSortKeyHasAdditionalConditions() {
+		conditions.add("UserName", condition(ComparisonOperator.EQ, "michael"));
+		conditions.add("PlaylistName", condition(ComparisonOperator.GT, "a"));
+		conditions.add("PlaylistName", condition(ComparisonOperator.LT, "m"));
+		conditions.add("DisplayName", condition(ComparisonOperator.EQ, "Rock"));
+
+		KeyConditions keyConditions = KeyConditions.of("UserName", SORT_KEY, conditions);
+
+		assertEquals("#key0 = :key0 AND #key1 > :key1", keyConditions.toKeyConditionExpression().expression());
+		Expression filterExpression = keyConditions.toFilterExpression();
+		assertEquals("#filter0 < :filter0 AND #filter1 = :filter1", filterExpression.expression());
+		assertEquals("PlaylistName", filterExpression.expressionNames().get("#filter0"));
+		assertEquals("DisplayName", filterExpression.expressionNames().get("#filter1"));
+		assertEquals(s("m"), filterExpression.expressionValues().get(":filter0"));
+	}
+
+	@Test
+	public void testOf_WhenPartitionKeyHasNoEqualityCondition() {
+		conditions.add("UserName", condition(ComparisonOperator.BEGINS_WITH, "mi"));
+
+		assertThrows(UnsupportedOperationException.class, () -> KeyConditions.of("UserName", SORT_KEY, conditions));
+	}
+
+	private static Condition condition(ComparisonOperator comparisonOperator, String... values) {
+		return Condition.builder().comparisonOperator(comparisonOperator)
+				.attributeValueList(Arrays.stream(values).map(KeyConditionsTest::s).toArray(AttributeValue[]::new))
+				.build();
+	}
+
+	private static AttributeValue s(String value) {
+		return AttributeValue.builder().s(value).build();
+	}
+
+}
@@ -33,6 +33,7 @@ import org.socialsignin.spring.data.dynamodb.repository.support.DynamoDBIdIsHash
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.util.ClassUtils;
 import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
@@ -84,6 +85,8 @@ public class PartTreeDynamoDBQueryUnitTest {
 	private User mockUser;
 	@Mock
 	private Playlist mockPlaylist;
+	@Mock
+	private ResultProcessor mockResultProcessor;
 
 	@Mock
 	private PageIterable<User> mockUserScanResults;
@@ -126,6 +129,11 @@ public class PartTreeDynamoDBQueryUnitTest {
 		lenient().when(mockUserEntityMetadata.getJavaType()).thenReturn(User.class);
 		lenient().when(mockDynamoDBUserQueryMethod.isScanEnabled()).thenReturn(true);
 		lenient().when(mockDynamoDBPlaylistQueryMethod.isScanEnabled()).thenReturn(true);
+		// The results are entities, nothing to project
+		lenient().when(mockResultProcessor.withDynamicProjection(Mockito.any())).thenReturn(mockResultProcessor);
+		lenient().when(mockResultProcessor.processResult(Mockito.any())).thenAnswer(invocation -> invocation.getArgument(0));
+		lenient().when(mockDynamoDBUserQueryMethod.getResultProcessor()).thenReturn(mockResultProcessor);
+		lenient().when(mockDynamoDBPlaylistQueryMethod.getResultProcessor()).thenReturn(mockResultProcessor);
 
 		// Mock out specific DynamoDBOperations behavior expected by this method
 		playlistQueryCaptor = ArgumentCaptor.forClass(QueryEnhancedRequest.class);
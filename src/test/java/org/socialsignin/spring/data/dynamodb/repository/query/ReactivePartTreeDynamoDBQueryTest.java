@@ -0,0 +1,147 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.repository.EnableScan;
+import org.socialsignin.spring.data.dynamodb.repository.EnableScanCount;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactivePartTreeDynamoDBQueryTest {
+
+	public interface UserRepository extends ReactiveCrudRepository<User, String> {
+		Flux<User> findByName(String name);
+		Flux<User> findByPostCode(Mono<String> postCode);
+	}
+
+	@EnableScan
+	@EnableScanCount
+	public interface ScanningUserRepository extends ReactiveCrudRepository<User, String> {
+		Flux<User> findByName(String name);
+		Mono<Long> countByName(String name);
+		Mono<Boolean> existsByName(String name);
+	}
+
+	@Mock
+	private DynamoDBOperations dynamoDBOperations;
+	@Mock
+	private AsyncDynamoDBOperations asyncDynamoDBOperations;
+	@Mock
+	private PagePublisher<User> pagePublisher;
+
+	private ReactivePartTreeDynamoDBQuery<User, String> query(Class<?> repositoryInterface, String name)
+			throws Exception {
+		return new ReactivePartTreeDynamoDBQuery<>(dynamoDBOperations, asyncDynamoDBOperations,
+				new DynamoDBQueryMethod<>(repositoryInterface.getMethod(name, String.class),
+						new DefaultRepositoryMetadata(repositoryInterface), new SpelAwareProxyProjectionFactory()));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testFinderOnNonKeyAttributeScans() throws Exception {
+		User user = new User();
+		user.setName("michael");
+		when(asyncDynamoDBOperations.scan(eq(User.class), any(ScanEnhancedRequest.class), any()))
+				.thenReturn(pagePublisher);
+		when(pagePublisher.items()).thenReturn(SdkPublisher.adapt(Flux.just(user)));
+
+		Flux<User> results = (Flux<User>) query(ScanningUserRepository.class, "findByName")
+				.execute(new Object[]{"michael"});
+
+		assertEquals(Collections.singletonList(user), results.collectList().block());
+		ArgumentCaptor<ScanEnhancedRequest> scanRequest = ArgumentCaptor.forClass(ScanEnhancedRequest.class);
+		verify(asyncDynamoDBOperations).scan(eq(User.class), scanRequest.capture(), any());
+		assertNotNull(scanRequest.getValue().filterExpression());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testFinderOnNonKeyAttributeRequiresScanPermission() throws Exception {
+		Flux<User> results = (Flux<User>) query(UserRepository.class, "findByName").execute(new Object[]{"michael"});
+
+		assertThrows(IllegalArgumentException.class, results::blockLast);
+		verifyNoInteractions(asyncDynamoDBOperations);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testCountOnNonKeyAttributeScans() throws Exception {
+		when(asyncDynamoDBOperations.count(eq(User.class), any(ScanRequest.class), any()))
+				.thenReturn(CompletableFuture.completedFuture(2));
+
+		Mono<Long> count = (Mono<Long>) query(ScanningUserRepository.class, "countByName")
+				.execute(new Object[]{"michael"});
+
+		assertEquals(2L, count.block());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testExistsOnNonKeyAttributeScansUntilFirstMatch() throws Exception {
+		when(asyncDynamoDBOperations.scan(eq(User.class), any(ScanEnhancedRequest.class), any()))
+				.thenReturn(pagePublisher);
+		when(pagePublisher.items()).thenReturn(SdkPublisher.adapt(Flux.just(new User(), new User())));
+
+		Mono<Boolean> exists = (Mono<Boolean>) query(ScanningUserRepository.class, "existsByName")
+				.execute(new Object[]{"michael"});
+
+		assertEquals(Boolean.TRUE, exists.block());
+		ArgumentCaptor<ScanEnhancedRequest> scanRequest = ArgumentCaptor.forClass(ScanEnhancedRequest.class);
+		verify(asyncDynamoDBOperations).scan(eq(User.class), scanRequest.capture(), any());
+		assertEquals(List.of("Id"), scanRequest.getValue().attributesToProject());
+	}
+
+	@Test
+	public void testReactiveWrapperParameterIsRejectedOnCreation() throws Exception {
+		DynamoDBQueryMethod<User, String> method = new DynamoDBQueryMethod<>(
+				UserRepository.class.getMethod("findByPostCode", Mono.class),
+				new DefaultRepositoryMetadata(UserRepository.class), new SpelAwareProxyProjectionFactory());
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> new ReactivePartTreeDynamoDBQuery<>(dynamoDBOperations, asyncDynamoDBOperations, method));
+		assertTrue(e.getMessage().startsWith("Reactive wrapper parameters are not supported"));
+	}
+}
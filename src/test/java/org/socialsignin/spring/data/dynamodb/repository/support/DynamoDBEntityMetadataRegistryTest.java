@@ -0,0 +1,96 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
+import org.socialsignin.spring.data.dynamodb.domain.sample.PlaylistId;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.mapping.DynamoDBMappingContext;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class DynamoDBEntityMetadataRegistryTest {
+
+	@Mock
+	private DynamoDBOperations dynamoDBOperations;
+	@Mock
+	private DynamoDBOperations otherDynamoDBOperations;
+
+	@Test
+	public void testEntityInformationIsResolvedOnce() {
+		DynamoDBEntityMetadataRegistry underTest = new DynamoDBEntityMetadataRegistry();
+
+		DynamoDBEntityInformation<User, String> first = underTest.getEntityInformation(User.class, dynamoDBOperations);
+		DynamoDBEntityInformation<User, String> second = underTest.getEntityInformation(User.class, dynamoDBOperations);
+
+		first.getTable();
+		second.getTable();
+
+		assertSame(first, second);
+		verify(dynamoDBOperations, times(1)).getDynamoDbTable(User.class, "user");
+	}
+
+	@Test
+	public void testEntityInformationIsResolvedPerOperations() {
+		DynamoDBEntityMetadataRegistry underTest = new DynamoDBEntityMetadataRegistry();
+
+		DynamoDBEntityInformation<User, String> first = underTest.getEntityInformation(User.class, dynamoDBOperations);
+		DynamoDBEntityInformation<User, String> second = underTest.getEntityInformation(User.class,
+				otherDynamoDBOperations);
+
+		assertNotSame(first, second);
+	}
+
+	@Test
+	public void testHashAndRangeKeyEntityInformation() {
+		DynamoDBEntityMetadataRegistry underTest = new DynamoDBEntityMetadataRegistry();
+
+		DynamoDBEntityInformation<Playlist, PlaylistId> actual = underTest.getEntityInformation(Playlist.class,
+				dynamoDBOperations);
+
+		actual.getTable();
+
+		assertTrue(actual.isRangeKeyAware());
+		verify(dynamoDBOperations, times(1)).getDynamoDbTable(Playlist.class, "playlist");
+	}
+
+	@Test
+	public void testSeedFromMappingContext() throws Exception {
+		DynamoDBMappingContext mappingContext = new DynamoDBMappingContext();
+		mappingContext.setInitialEntitySet(Collections.singleton(User.class));
+		mappingContext.afterPropertiesSet();
+		DynamoDBEntityMetadataRegistry underTest = spy(new DynamoDBEntityMetadataRegistry(mappingContext));
+
+		underTest.seed(dynamoDBOperations);
+
+		assertSame(underTest.getEntityInformation(User.class, dynamoDBOperations),
+				underTest.getEntityInformation(User.class, dynamoDBOperations));
+		verify(underTest, times(3)).getEntityInformation(User.class, dynamoDBOperations);
+	}
+}
@@ -15,13 +15,22 @@
  */
 package org.socialsignin.spring.data.dynamodb.repository.support;
 
+import jakarta.persistence.Table;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 public class DynamoDBEntityMetadataSupportUnitTest {
@@ -39,4 +48,75 @@ public class DynamoDBEntityMetadataSupportUnitTest {
 		AttributeConverter<?> converter = support.getTypeConverterForProperty("leaveDate");
 		assertNotNull(converter);
 	}
+
+	@Test
+	public void testSecondaryIndexes_WhenSortKeyIndexHasNoPartitionKey_IsLocalSecondaryIndex() {
+		DynamoDBEntityMetadataSupport<Order, ?> support = new DynamoDBEntityMetadataSupport<>(Order.class);
+
+		assertArrayEquals(new String[]{"created-lsi"},
+				support.getLocalSecondaryIndexNamesByPropertyName().get("created"));
+		assertFalse(support.getGlobalSecondaryIndexNamesByPropertyName().containsKey("created"));
+		assertFalse(support.isGlobalIndexRangeKeyProperty("created"));
+
+		assertArrayEquals(new String[]{"status-gsi"},
+				support.getGlobalSecondaryIndexNamesByPropertyName().get("total"));
+		assertTrue(support.isGlobalIndexRangeKeyProperty("total"));
+		assertFalse(support.getLocalSecondaryIndexNamesByPropertyName().containsKey("total"));
+	}
+
+	@DynamoDbBean
+	@Table(name = "order")
+	public static class Order {
+
+		private String customerId;
+		private String orderId;
+		private String created;
+		private String status;
+		private Integer total;
+
+		@DynamoDbPartitionKey
+		public String getCustomerId() {
+			return customerId;
+		}
+
+		public void setCustomerId(String customerId) {
+			this.customerId = customerId;
+		}
+
+		@DynamoDbSortKey
+		public String getOrderId() {
+			return orderId;
+		}
+
+		public void setOrderId(String orderId) {
+			this.orderId = orderId;
+		}
+
+		@DynamoDbSecondarySortKey(indexNames = "created-lsi")
+		public String getCreated() {
+			return created;
+		}
+
+		public void setCreated(String created) {
+			this.created = created;
+		}
+
+		@DynamoDbSecondaryPartitionKey(indexNames = "status-gsi")
+		public String getStatus() {
+			return status;
+		}
+
+		public void setStatus(String status) {
+			this.status = status;
+		}
+
+		@DynamoDbSecondarySortKey(indexNames = "status-gsi")
+		public Integer getTotal() {
+			return total;
+		}
+
+		public void setTotal(Integer total) {
+			this.total = total;
+		}
+	}
 }
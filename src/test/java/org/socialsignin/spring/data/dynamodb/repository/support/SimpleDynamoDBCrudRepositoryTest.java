@@ -28,6 +28,8 @@ import org.socialsignin.spring.data.dynamodb.domain.sample.PlaylistId;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
 import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
@@ -36,10 +38,13 @@ import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -108,17 +113,13 @@ public class SimpleDynamoDBCrudRepositoryTest {
 	@Test
 	public void deleteById() {
 		final long id = ThreadLocalRandom.current().nextLong();
-		User testResult = new User();
-		testResult.setId(Long.toString(id));
-
-		when(entityWithSimpleIdInformation.getHashKey(id)).thenReturn(id);
-		when(dynamoDBOperations.load(User.class, id, null)).thenReturn(testResult);
 
 		repoForEntityWithOnlyHashKey.deleteById(id);
 
-		ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
-		Mockito.verify(dynamoDBOperations).delete(captor.capture(), null);
-		assertEquals(Long.toString(id), captor.getValue().getId());
+		ArgumentCaptor<Key> captor = ArgumentCaptor.forClass(Key.class);
+		Mockito.verify(dynamoDBOperations).deleteByKey(captor.capture(), eq(true), eq(entityWithSimpleIdInformation));
+		assertEquals(Long.toString(id), captor.getValue().partitionKeyValue().n());
+		verify(dynamoDBOperations, never()).load(any(), any(), any());
 	}
 
 	@Test
@@ -159,6 +160,9 @@ public class SimpleDynamoDBCrudRepositoryTest {
 	 */
 	@Test
 	public void throwsExceptionIfEntityOnlyHashKeyToDeleteDoesNotExist() {
+		when(dynamoDBOperations.deleteByKey(any(Key.class), eq(true), eq(entityWithSimpleIdInformation)))
+				.thenThrow(new EmptyResultDataAccessException(1));
+
 		assertThrows(EmptyResultDataAccessException.class, () -> {
 			repoForEntityWithOnlyHashKey.deleteById(4711L);
 		});
@@ -179,11 +183,12 @@ public class SimpleDynamoDBCrudRepositoryTest {
 
 	@Test
 	public void existsEntityWithOnlyHashKey() {
-		when(dynamoDBOperations.load(User.class, 1l, null)).thenReturn(null);
+		when(dynamoDBOperations.exists(any(Key.class), eq(entityWithSimpleIdInformation))).thenReturn(false);
 
 		boolean actual = repoForEntityWithOnlyHashKey.existsById(1l);
 
 		assertFalse(actual);
+		verify(dynamoDBOperations, never()).load(any(), any(), any());
 	}
 
 	@Test
@@ -255,9 +260,71 @@ public class SimpleDynamoDBCrudRepositoryTest {
 		PlaylistId playlistId = new PlaylistId();
 		playlistId.setUserName("someUser");
 		playlistId.setPlaylistName("somePlaylistName");
+		when(entityWithCompositeIdInformation.getHashKey(playlistId)).thenReturn("someUser");
+		when(entityWithCompositeIdInformation.getRangeKey(playlistId)).thenReturn("somePlaylistName");
+		when(dynamoDBOperations.deleteByKey(any(Key.class), eq(true), eq(entityWithCompositeIdInformation)))
+				.thenThrow(new EmptyResultDataAccessException(1));
 
 		assertThrows(EmptyResultDataAccessException.class, () -> {
 			repoForEntityWithHashAndRangeKey.deleteById(playlistId);
 		});
 	}
+
+	@Test
+	public void findAllByIdLoadsRepeatedIdsOnce() {
+		when(dynamoDBOperations.batchLoad(anyMap(), eq(entityWithSimpleIdInformation)))
+				.thenReturn(Collections.singletonList(testUser));
+
+		repoForEntityWithOnlyHashKey.findAllById(Arrays.asList(1l, 2l, 1l));
+
+		ArgumentCaptor<Map<Class<?>, List<Key>>> captor = ArgumentCaptor
+				.forClass(Map.class);
+		verify(dynamoDBOperations).batchLoad(captor.capture(), eq(entityWithSimpleIdInformation));
+		assertEquals(2, captor.getValue().get(User.class).size());
+	}
+
+	@Test
+	public void findAllByIdPreservingOrder() {
+		User first = new User();
+		first.setId("1");
+		User second = new User();
+		second.setId("2");
+		when(entityWithSimpleIdInformation.getId(first)).thenReturn(1l);
+		when(entityWithSimpleIdInformation.getId(second)).thenReturn(2l);
+		when(dynamoDBOperations.batchLoad(anyMap(), eq(entityWithSimpleIdInformation)))
+				.thenReturn(Arrays.asList(first, second));
+
+		List<User> actual = repoForEntityWithOnlyHashKey.findAllById(Arrays.asList(2l, 3l, 1l), true);
+
+		assertEquals(Arrays.asList(second, first), actual);
+	}
+
+	@Test
+	public void findAllByIdWithNullId() {
+		assertThrows(IllegalArgumentException.class,
+				() -> repoForEntityWithOnlyHashKey.findAllById(Arrays.asList(1l, null)));
+	}
+
+	@Test
+	public void deleteAllByIdDeletesByKey() {
+		DynamoDbTable<User> table = mock(DynamoDbTable.class);
+		when(table.tableName()).thenReturn("user");
+		when(entityWithSimpleIdInformation.getTable()).thenReturn(table);
+		when(dynamoDBOperations.batchDeleteByKeys(anyList(), eq(entityWithSimpleIdInformation)))
+				.thenReturn(BatchWriteResult.builder().unprocessedRequests(Collections.emptyMap()).build());
+
+		repoForEntityWithOnlyHashKey.deleteAllById(Arrays.asList(1l, 2l));
+
+		ArgumentCaptor<List<Key>> captor = ArgumentCaptor.forClass(List.class);
+		verify(dynamoDBOperations).batchDeleteByKeys(captor.capture(), eq(entityWithSimpleIdInformation));
+		assertEquals(Arrays.asList("1", "2"),
+				captor.getValue().stream().map(key -> key.partitionKeyValue().n()).collect(Collectors.toList()));
+		verify(dynamoDBOperations, never()).load(any(), any(), any());
+	}
+
+	@Test
+	public void deleteAllByIdWithNullId() {
+		assertThrows(IllegalArgumentException.class,
+				() -> repoForEntityWithOnlyHashKey.deleteAllById(Arrays.asList(1l, null)));
+	}
 }
@@ -18,6 +18,7 @@ package org.socialsignin.spring.data.dynamodb.repository.support;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -25,13 +26,32 @@ import org.socialsignin.spring.data.dynamodb.core.DynamoDBOperations;
 import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
 import org.socialsignin.spring.data.dynamodb.domain.sample.PlaylistId;
 import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.domain.ContinuationPageRequest;
+import org.socialsignin.spring.data.dynamodb.domain.ContinuationSlice;
+import org.socialsignin.spring.data.dynamodb.domain.ContinuationToken;
 import org.springframework.dao.EmptyResultDataAccessException;
-
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -99,6 +119,9 @@ public class SimpleDynamoDBPagingAndSortingRepositoryUnitTest {
 	 */
 	@Test
 	public void throwsExceptionIfEntityWithOnlyHashKeyToDeleteDoesNotExist() {
+		when(dynamoDBOperations.deleteByKey(any(Key.class), eq(true), eq(entityWithOnlyHashKeyInformation)))
+				.thenThrow(new EmptyResultDataAccessException(1));
+
 		assertThrows(EmptyResultDataAccessException.class, () -> repoForEntityWithOnlyHashKey.deleteById(4711L));
 	}
 
@@ -124,7 +147,57 @@ public class SimpleDynamoDBPagingAndSortingRepositoryUnitTest {
 		PlaylistId playlistId = new PlaylistId();
 		playlistId.setUserName("someUser");
 		playlistId.setPlaylistName("somePlaylistName");
+		when(entityWithHashAndRangeKeyInformation.getHashKey(playlistId)).thenReturn("someUser");
+		when(entityWithHashAndRangeKeyInformation.getRangeKey(playlistId)).thenReturn("somePlaylistName");
+		when(dynamoDBOperations.deleteByKey(any(Key.class), eq(true), eq(entityWithHashAndRangeKeyInformation)))
+				.thenThrow(new EmptyResultDataAccessException(1));
 
 		assertThrows(EmptyResultDataAccessException.class, () -> repoForEntityWithHashAndRangeKey.deleteById(playlistId));
 	}
+
+	@Test
+	public void findAllWithContinuationReadsSinglePage() {
+		when(mockEnableScanPermissions.isFindAllPaginatedScanEnabled()).thenReturn(true);
+		Map<String, AttributeValue> lastEvaluatedKey = Collections.singletonMap("Id", AttributeValue.fromS("2"));
+		SdkIterable<software.amazon.awssdk.enhanced.dynamodb.model.Page<User>> pages = () -> Collections
+				.singletonList(software.amazon.awssdk.enhanced.dynamodb.model.Page.create(Arrays.asList(testUser),
+						lastEvaluatedKey))
+				.iterator();
+		ArgumentCaptor<ScanEnhancedRequest> captor = ArgumentCaptor.forClass(ScanEnhancedRequest.class);
+		when(dynamoDBOperations.scan(eq(User.class), captor.capture(), eq(entityWithOnlyHashKeyInformation)))
+				.thenReturn(PageIterable.create(pages));
+		Map<String, AttributeValue> startKey = Collections.singletonMap("Id", AttributeValue.fromS("1"));
+
+		ContinuationSlice<User> actual = repoForEntityWithOnlyHashKey
+				.findAll(ContinuationPageRequest.of(1, ContinuationToken.encode(startKey)));
+
+		assertEquals(Arrays.asList(testUser), actual.getContent());
+		assertEquals(lastEvaluatedKey, ContinuationToken.decode(actual.getContinuationToken()));
+		assertTrue(actual.hasNext());
+		assertFalse(actual.getTotalElements().isPresent());
+		assertEquals(Integer.valueOf(1), captor.getValue().limit());
+		assertEquals(startKey, captor.getValue().exclusiveStartKey());
+		verify(dynamoDBOperations, never()).count(any(), any(ScanRequest.Builder.class), any());
+	}
+
+	@Test
+	public void findAllWithContinuationCountsTotalOnRequest() {
+		when(mockEnableScanPermissions.isFindAllPaginatedScanEnabled()).thenReturn(true);
+		when(mockEnableScanPermissions.isFindAllUnpaginatedScanCountEnabled()).thenReturn(true);
+		when(entityWithOnlyHashKeyInformation.getDynamoDBTableName()).thenReturn("user");
+		SdkIterable<software.amazon.awssdk.enhanced.dynamodb.model.Page<User>> pages = () -> Collections
+				.singletonList(software.amazon.awssdk.enhanced.dynamodb.model.Page.create(Arrays.asList(testUser)))
+				.iterator();
+		when(dynamoDBOperations.scan(eq(User.class), any(ScanEnhancedRequest.class),
+				eq(entityWithOnlyHashKeyInformation))).thenReturn(PageIterable.create(pages));
+		when(dynamoDBOperations.count(eq(User.class), any(ScanRequest.Builder.class),
+				eq(entityWithOnlyHashKeyInformation))).thenReturn(7);
+
+		ContinuationSlice<User> actual = repoForEntityWithOnlyHashKey
+				.findAll(ContinuationPageRequest.of(10).withTotalCount());
+
+		assertFalse(actual.hasNext());
+		assertNull(actual.nextPageRequest());
+		assertEquals(Optional.of(7L), actual.getTotalElements());
+	}
 }
@@ -0,0 +1,181 @@
+/**
+ * Copyright © 2018 spring-data-dynamodb (https://github.com/boostchicken/spring-data-dynamodb)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.socialsignin.spring.data.dynamodb.repository.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.socialsignin.spring.data.dynamodb.core.AsyncDynamoDBOperations;
+import org.socialsignin.spring.data.dynamodb.domain.sample.Playlist;
+import org.socialsignin.spring.data.dynamodb.domain.sample.PlaylistId;
+import org.socialsignin.spring.data.dynamodb.domain.sample.User;
+import org.socialsignin.spring.data.dynamodb.exception.BatchWriteException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link SimpleReactiveDynamoDBCrudRepository}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class SimpleReactiveDynamoDBCrudRepositoryTest {
+
+	@Mock
+	private AsyncDynamoDBOperations asyncDynamoDBOperations;
+	@Mock
+	private EnableScanPermissions mockEnableScanPermissions;
+	@Mock
+	private DynamoDBEntityInformation<User, Long> entityWithSimpleIdInformation;
+	@Mock
+	private DynamoDBEntityInformation<Playlist, PlaylistId> entityWithCompositeIdInformation;
+
+	private PlaylistId testPlaylistId;
+	private Playlist testPlaylist;
+
+	private SimpleReactiveDynamoDBCrudRepository<User, Long> repoForEntityWithOnlyHashKey;
+	private SimpleReactiveDynamoDBCrudRepository<Playlist, PlaylistId> repoForEntityWithHashAndRangeKey;
+
+	@BeforeEach
+	public void setUp() {
+		testPlaylistId = new PlaylistId();
+		testPlaylistId.setUserName("michael");
+		testPlaylistId.setPlaylistName("playlist1");
+		testPlaylist = new Playlist(testPlaylistId);
+
+		when(entityWithSimpleIdInformation.getJavaType()).thenReturn(User.class);
+		lenient().when(entityWithSimpleIdInformation.getHashKey(1L)).thenReturn(1L);
+
+		when(entityWithCompositeIdInformation.getJavaType()).thenReturn(Playlist.class);
+		lenient().when(entityWithCompositeIdInformation.getHashKey(testPlaylistId)).thenReturn("michael");
+		lenient().when(entityWithCompositeIdInformation.getRangeKey(testPlaylistId)).thenReturn("playlist1");
+		lenient().when(entityWithCompositeIdInformation.isRangeKeyAware()).thenReturn(true);
+
+		repoForEntityWithOnlyHashKey = new SimpleReactiveDynamoDBCrudRepository<>(entityWithSimpleIdInformation,
+				asyncDynamoDBOperations, mockEnableScanPermissions);
+		repoForEntityWithHashAndRangeKey = new SimpleReactiveDynamoDBCrudRepository<>(
+				entityWithCompositeIdInformation, asyncDynamoDBOperations, mockEnableScanPermissions);
+	}
+
+	@Test
+	public void findByIdIsDeferredUntilSubscription() {
+		when(asyncDynamoDBOperations.load(Playlist.class, "michael", "playlist1", entityWithCompositeIdInformation))
+				.thenReturn(CompletableFuture.completedFuture(testPlaylist));
+
+		Mono<Playlist> result = repoForEntityWithHashAndRangeKey.findById(testPlaylistId);
+		verifyNoInteractions(asyncDynamoDBOperations);
+
+		assertSame(testPlaylist, result.block());
+	}
+
+	@Test
+	public void findByIdWhenNotFound() {
+		when(asyncDynamoDBOperations.load(User.class, 1L, entityWithSimpleIdInformation))
+				.thenReturn(CompletableFuture.completedFuture(null));
+
+		assertNull(repoForEntityWithOnlyHashKey.findById(1L).block());
+	}
+
+	@Test
+	public void existsEntityWithOnlyHashKey() {
+		when(asyncDynamoDBOperations.exists(any(Key.class), eq(entityWithSimpleIdInformation)))
+				.thenReturn(CompletableFuture.completedFuture(false));
+
+		assertEquals(Boolean.FALSE, repoForEntityWithOnlyHashKey.existsById(1L).block());
+		verify(asyncDynamoDBOperations, never()).load(any(), any(), any());
+	}
+
+	@Test
+	public void findAllByIdPreservingOrder() {
+		User first = new User();
+		first.setId("1");
+		User second = new User();
+		second.setId("2");
+		when(entityWithSimpleIdInformation.getId(first)).thenReturn(1L);
+		when(entityWithSimpleIdInformation.getId(second)).thenReturn(2L);
+		when(asyncDynamoDBOperations.batchLoad(anyMap(), eq(entityWithSimpleIdInformation)))
+				.thenReturn(CompletableFuture.completedFuture(Arrays.asList(first, second)));
+
+		List<User> actual = repoForEntityWithOnlyHashKey.findAllById(Arrays.asList(2L, 1L, 2L), true).collectList()
+				.block();
+
+		assertEquals(Arrays.asList(second, first), actual);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Map<Class<?>, List<Key>>> captor = ArgumentCaptor.forClass(Map.class);
+		verify(asyncDynamoDBOperations).batchLoad(captor.capture(), eq(entityWithSimpleIdInformation));
+		assertEquals(2, captor.getValue().get(User.class).size());
+	}
+
+	@Test
+	public void saveAllSignalsUnprocessedItems() {
+		@SuppressWarnings("unchecked")
+		DynamoDbTable<Playlist> table = mock(DynamoDbTable.class);
+		BatchWriteResult failedBatches = mock(BatchWriteResult.class);
+		when(entityWithCompositeIdInformation.getTable()).thenReturn(table);
+		when(failedBatches.unprocessedPutItemsForTable(table)).thenReturn(Collections.singletonList(testPlaylist));
+		when(asyncDynamoDBOperations.batchSave(any(), eq(entityWithCompositeIdInformation)))
+				.thenReturn(CompletableFuture.completedFuture(failedBatches));
+
+		Flux<Playlist> result = repoForEntityWithHashAndRangeKey.saveAll(Flux.just(testPlaylist));
+
+		assertThrows(BatchWriteException.class, result::blockLast);
+	}
+
+	@Test
+	public void deleteByIdWhenItemDoesNotExist() {
+		when(asyncDynamoDBOperations.deleteByKey(any(Key.class), eq(true), eq(entityWithSimpleIdInformation)))
+				.thenReturn(CompletableFuture.failedFuture(new EmptyResultDataAccessException(1)));
+
+		EmptyResultDataAccessException actual = assertThrows(EmptyResultDataAccessException.class,
+				() -> repoForEntityWithOnlyHashKey.deleteById(1L).block());
+
+		assertEquals("No class org.socialsignin.spring.data.dynamodb.domain.sample.User entity with id 1 exists!",
+				actual.getMessage());
+	}
+
+	@Test
+	public void findAllWithoutScanPermission() {
+		when(mockEnableScanPermissions.isFindAllUnpaginatedScanEnabled()).thenReturn(false);
+
+		assertThrows(IllegalArgumentException.class, () -> repoForEntityWithOnlyHashKey.findAll());
+		verifyNoInteractions(asyncDynamoDBOperations);
+	}
+}